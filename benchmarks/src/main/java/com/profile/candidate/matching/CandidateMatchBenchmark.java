@@ -0,0 +1,87 @@
+package com.profile.candidate.matching;
+
+import com.profile.candidate.search.SkillAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking {@code candidates} synthetic candidates for one job, single-threaded and across all
+ * cores, without Spring or a database. Every candidate has 4-12 skills out of 300, so a
+ * three-skill query matches a few percent of the pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CandidateMatchBenchmark {
+
+    private static final String[] NOTICE = {"Immediate", "15 days", "30 days", "2 months", "90", null};
+    private static final String[] CTC = {"6 LPA", "12L", "18.5 LPA", "2400000", "900k", null};
+    private static final String[] LOCATIONS = {"Hyderabad", "Bangalore, Pune", "Chennai", "Anywhere", "Noida / Gurgaon"};
+
+    @Param({"1000000"})
+    public int candidates;
+
+    // 0 = one per core
+    @Param({"1", "0"})
+    public int threads;
+
+    private CandidateFeatureTable table;
+    private ThreadPoolExecutor pool;
+    private int parallelism;
+    private MatchCriteria broad;
+    private MatchCriteria constrained;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        table = new CandidateFeatureTable(SkillAnalyzer.fromClasspath());
+        for (int i = 0; i < candidates; i++) {
+            StringBuilder skills = new StringBuilder("skill").append(random.nextInt(300));
+            for (int s = 4 + random.nextInt(9); s > 1; s--) {
+                skills.append(", skill").append(random.nextInt(300));
+            }
+            table.put(new MatchFeatureRow(String.format("CAND%010d", i), "JOB" + (i % 2000), skills.toString(),
+                    random.nextInt(20), random.nextInt(15), NOTICE[random.nextInt(NOTICE.length)],
+                    CTC[random.nextInt(CTC.length)], LOCATIONS[random.nextInt(LOCATIONS.length)]));
+        }
+        parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int poolThreads = Math.max(1, parallelism - 1);
+        pool = new ThreadPoolExecutor(poolThreads, poolThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolThreads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        broad = new MatchCriteria();
+        broad.setRequiredSkills(List.of("skill1", "skill2", "skill3"));
+        broad.setPreferredSkills(List.of("skill4", "skill5"));
+
+        constrained = new MatchCriteria();
+        constrained.setRequiredSkills(List.of("skill1", "skill2", "skill3"));
+        constrained.setMinSkillMatch(0.5f);
+        constrained.setMinExperience(3f);
+        constrained.setMaxNoticeDays(30);
+        constrained.setMaxExpectedCtcLakhs(20f);
+        constrained.setLocation("Pune");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public MatchResult matchWholePool() {
+        return table.match(broad, 20, pool, parallelism, 50_000);
+    }
+
+    @Benchmark
+    public MatchResult matchWholePoolWithConstraints() {
+        return table.match(constrained, 20, pool, parallelism, 50_000);
+    }
+}
@@ -0,0 +1,138 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.CandidateDetails;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final int JOBS = 200;
+    static final int USERS = 500;
+    static final OffsetDateTime INTERVIEW_EPOCH = OffsetDateTime.of(2025, 1, 6, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    static final byte[] PDF_RESUME = ("%PDF-1.4\n" + "benchmark resume ".repeat(2000)).getBytes(StandardCharsets.US_ASCII);
+
+    private BenchmarkData() {
+    }
+
+    static String jobId(int i) {
+        return "JOB" + (i % JOBS);
+    }
+
+    static String userId(int i) {
+        return "USER" + (i % USERS);
+    }
+
+    static String email(int i) {
+        return "candidate" + i + "@example.com";
+    }
+
+    static String contactNumber(int i) {
+        return String.format("9%09d", i);
+    }
+
+    static CandidateDetails candidate(int i) {
+        CandidateDetails candidate = new CandidateDetails();
+        candidate.setJobId(jobId(i));
+        candidate.setUserId(userId(i));
+        candidate.setFullName("Candidate " + i);
+        candidate.setCandidateEmailId(email(i));
+        candidate.setContactNumber(contactNumber(i));
+        candidate.setQualification("B.Tech Computer Science");
+        candidate.setTotalExperience(6.5f);
+        candidate.setRelevantExperience(4f);
+        candidate.setCurrentOrganization("Acme Corp");
+        candidate.setCurrentCTC("18 LPA");
+        candidate.setExpectedCTC("24 LPA");
+        candidate.setNoticePeriod("30 days");
+        candidate.setCurrentLocation("Hyderabad");
+        candidate.setPreferredLocation("Bangalore");
+        candidate.setSkills("Java, Spring Boot, Hibernate, MySQL, Kafka, Docker, Kubernetes");
+        candidate.setCommunicationSkills("Good");
+        candidate.setRequiredTechnologiesRating(4.0);
+        candidate.setOverallFeedback("Strong backend profile");
+        candidate.setUserEmail("recruiter" + (i % USERS) + "@example.com");
+        return candidate;
+    }
+
+    static CandidateDetails scheduledCandidate(int i) {
+        CandidateDetails candidate = candidate(i);
+        candidate.setCandidateId("CAND" + i);
+        candidate.setClientName("Client " + (i % 50));
+        candidate.setClientEmail("client" + (i % 50) + "@example.com");
+        candidate.setInterviewLevel("Internal");
+        candidate.setInterviewDateTime(INTERVIEW_EPOCH.plusHours(i));
+        candidate.setDuration(45);
+        candidate.setZoomLink("https://zoom.us/j/" + (1_000_000_000L + i));
+        candidate.setInterviewStatus("SCHEDULED");
+        candidate.setProfileReceivedDate(LocalDate.of(2025, 1, 1));
+        return candidate;
+    }
+
+    static MultipartFile resume(String fileName, byte[] content) {
+        return new InMemoryMultipartFile(fileName, content);
+    }
+
+    // Minimal MultipartFile over a byte array (spring-test's MockMultipartFile is test-scoped)
+    private static final class InMemoryMultipartFile implements MultipartFile {
+
+        private final String fileName;
+        private final byte[] content;
+
+        private InMemoryMultipartFile(String fileName, byte[] content) {
+            this.fileName = fileName;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "resumeFile";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return fileName;
+        }
+
+        @Override
+        public String getContentType() {
+            return null;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws java.io.IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
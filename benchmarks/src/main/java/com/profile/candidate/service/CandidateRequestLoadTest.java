@@ -0,0 +1,221 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.CandidateApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against the candidate endpoints, to compare the platform-thread and
+ * virtual-thread request modes. Not a JMH benchmark: what matters here is throughput and tail
+ * latency with many requests in flight, which JMH does not model.
+ *
+ * Starts the service on a random port against in-memory H2 seeded with {@code rows} candidates,
+ * then keeps {@code concurrency} requests in flight for {@code seconds} (after a warm-up), cycling
+ * through the submissions page, a user's dashboard and an interview window. Every JDBC statement
+ * is delayed by {@code dbLatencyMs} to stand in for the round trip to a remote MySQL server,
+ * which is the blocking the two modes differ on.
+ *
+ * Run once per mode and compare (the virtual mode needs Java 21, -Pvirtual-threads):
+ *   mvn -f benchmarks/pom.xml package exec:exec -Dbenchmark.main=com.profile.candidate.service.CandidateRequestLoadTest
+ *       -Dbenchmark.args="virtual=false concurrency=400 seconds=30"
+ */
+public final class CandidateRequestLoadTest {
+
+    private CandidateRequestLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>(Map.of(
+                "virtual", "false", "concurrency", "400", "seconds", "30", "warmupSeconds", "10",
+                "rows", "20000", "dbLatencyMs", "2"));
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        boolean virtual = Boolean.parseBoolean(options.get("virtual"));
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        int rows = Integer.parseInt(options.get("rows"));
+        long dbLatencyMs = Long.parseLong(options.get("dbLatencyMs"));
+
+        // Arguments rather than builder properties: they must override the module's application.properties
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CandidateApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(slowStatements(dbLatencyMs)))
+                .run("--spring.main.web-application-type=servlet", "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.datasource.hikari.maximum-pool-size=20");
+        try {
+            CandidateServiceDatabaseBenchmark.seed(context.getBean(JdbcTemplate.class), rows);
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/candidate";
+            OffsetDateTime from = BenchmarkData.INTERVIEW_EPOCH.plusDays(7);
+            List<URI> targets = List.of(
+                    URI.create(base + "/submissions?size=50"),
+                    URI.create(base + "/submissions/" + BenchmarkData.userId(17)),
+                    URI.create(base + "/allscheduledinterviews?from=" + from.toInstant() + "&to=" + from.plusDays(1).toInstant()));
+
+            System.out.printf("mode=%s java=%s concurrency=%d rows=%d dbLatencyMs=%d%n", virtual ? "virtual" : "platform",
+                    Runtime.version().feature(), concurrency, rows, dbLatencyMs);
+            run(targets, concurrency, Duration.ofSeconds(Long.parseLong(options.get("warmupSeconds"))));
+            Result result = run(targets, concurrency, Duration.ofSeconds(Long.parseLong(options.get("seconds"))));
+            System.out.println(result);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result run(List<URI> targets, int concurrency, Duration duration) throws Exception {
+        ExecutorService clientThreads = Executors.newFixedThreadPool(8);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        LatencyLog[] logs = new LatencyLog[concurrency];
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            logs[i] = new LatencyLog();
+            loops[i] = loop(client, targets, i, deadline, logs[i], errors);
+        }
+        CompletableFuture.allOf(loops).join();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        clientThreads.shutdownNow();
+
+        int total = 0;
+        for (LatencyLog log : logs) {
+            total += log.size;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (LatencyLog log : logs) {
+            System.arraycopy(log.values, 0, latencies, offset, log.size);
+            offset += log.size;
+        }
+        Arrays.sort(latencies);
+        return new Result(total, errors.get(), seconds, latencies);
+    }
+
+    // One virtual user: sends the next request as soon as the previous answer arrived, until the deadline
+    private static CompletableFuture<Void> loop(HttpClient client, List<URI> targets, int next, long deadline,
+                                                LatencyLog log, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(targets.get(next % targets.size()))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long sent = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    log.add(System.nanoTime() - sent);
+                    if (failure != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, targets, next + 1, deadline, log, errors));
+    }
+
+    // Delays every statement execution to simulate the network round trip to the database
+    private static BeanPostProcessor slowStatements(long latencyMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || latencyMs <= 0) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws java.sql.SQLException {
+                        Connection connection = super.getConnection();
+                        return proxy(Connection.class, connection, (target, method, methodArgs) -> {
+                            Object result = method.invoke(target, methodArgs);
+                            return result instanceof PreparedStatement statement
+                                    ? proxy(PreparedStatement.class, statement, (s, m, a) -> {
+                                        if (m.getName().startsWith("execute")) {
+                                            Thread.sleep(latencyMs);
+                                        }
+                                        return m.invoke(s, a);
+                                    })
+                                    : result;
+                        });
+                    }
+                };
+            }
+        };
+    }
+
+    private interface Call {
+        Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Call call) {
+        InvocationHandler handler = (p, method, args) -> {
+            try {
+                return call.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // Growable array of nanosecond latencies, written by one request chain at a time
+    private static final class LatencyLog {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private record Result(int requests, long errors, double seconds, long[] sortedLatencies) {
+
+        private double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.0f req/s p50=%.1f ms p99=%.1f ms max=%.1f ms",
+                    requests, errors, requests / seconds, percentileMillis(0.50), percentileMillis(0.99),
+                    percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.CandidateApplication;
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.dto.CandidatePageResponseDto;
+import com.profile.candidate.dto.CandidateResponseDto;
+import com.profile.candidate.dto.GetInterviewResponseDto;
+import com.profile.candidate.exceptions.CandidateAlreadyExistsException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end CandidateService calls (service, Spring Data, Hibernate and JDBC) against
+ * an in-memory H2 database in MySQL mode, seeded with {@code rows} candidates.
+ * Every tenth candidate has a scheduled interview, spaced one hour apart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CandidateServiceDatabaseBenchmark {
+
+    private static final String INSERT_CANDIDATE = "INSERT INTO candidates (candidate_id, job_id, user_id, full_name, "
+            + "candidate_email_id, contact_number, qualification, total_experience, relevant_experience, "
+            + "current_organization, currentctc, expectedctc, notice_period, current_location, preferred_location, "
+            + "skills, user_email, client_name, client_name_key, interview_date_time, duration, zoom_link, "
+            + "interview_status, profile_received_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private CandidateService candidateService;
+    private int nextCandidate;
+
+    @Setup(Level.Trial)
+    public void startService() {
+        context = new SpringApplicationBuilder(CandidateApplication.class).run();
+        candidateService = context.getBean(CandidateService.class);
+        seed(context.getBean(JdbcTemplate.class), rows);
+        nextCandidate = rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        context.close();
+    }
+
+    // Also used by CandidateRequestLoadTest
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        LocalDate firstReceived = LocalDate.of(2024, 1, 1);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            boolean scheduled = i % 10 == 0;
+            OffsetDateTime interview = scheduled ? BenchmarkData.INTERVIEW_EPOCH.plusHours(i / 10) : null;
+            batch.add(new Object[]{
+                    String.format("SEED%010d", i), BenchmarkData.jobId(i), BenchmarkData.userId(i), "Candidate " + i,
+                    BenchmarkData.email(i), BenchmarkData.contactNumber(i), "B.Tech", 6.5f, 4f,
+                    "Acme Corp", "18 LPA", "24 LPA", "30 days", "Hyderabad", "Bangalore",
+                    "Java, Spring Boot, MySQL", "recruiter" + (i % BenchmarkData.USERS) + "@example.com",
+                    scheduled ? "Client " + (i % 50) : null, scheduled ? "Client " + (i % 50) : "",
+                    interview == null ? null : Timestamp.from(interview.toInstant()), scheduled ? 45 : null,
+                    scheduled ? "https://zoom.us/j/" + i : null, scheduled ? "SCHEDULED" : null,
+                    Date.valueOf(firstReceived.plusDays(i % 730))
+            });
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(INSERT_CANDIDATE, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CANDIDATE, batch);
+        }
+    }
+
+    @Benchmark
+    public CandidatePageResponseDto submissionsFirstPage() {
+        return candidateService.getSubmissionsPage(null, 50, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public CandidatePageResponseDto submissionsPageForJob() {
+        return candidateService.getSubmissionsPage(null, 50, BenchmarkData.jobId(17), null, null, null, null);
+    }
+
+    @Benchmark
+    public List<CandidateGetResponseDto> submissionsByUserId() {
+        return candidateService.getSubmissionsByUserId(BenchmarkData.userId(17));
+    }
+
+    @Benchmark
+    public List<GetInterviewResponseDto> scheduledInterviewsForOneWeek() {
+        OffsetDateTime from = BenchmarkData.INTERVIEW_EPOCH.plusDays(7);
+        return candidateService.getAllScheduledInterviews(from, from.plusDays(7));
+    }
+
+    @Benchmark
+    public CandidateResponseDto submitCandidate() throws IOException {
+        int i = nextCandidate++;
+        return candidateService.submitCandidate(BenchmarkData.candidate(i),
+                BenchmarkData.resume("resume-" + i + ".pdf", BenchmarkData.PDF_RESUME));
+    }
+
+    @Benchmark
+    public Object rejectDuplicateSubmission() throws IOException {
+        try {
+            return candidateService.submitCandidate(BenchmarkData.candidate(17),
+                    BenchmarkData.resume("resume.pdf", BenchmarkData.PDF_RESUME));
+        } catch (CandidateAlreadyExistsException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.model.CandidateDetails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-only paths of CandidateService and its DTOs, measured without Spring or a database.
+ * The service is created directly; none of these methods touch its injected collaborators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class CandidateServiceMicroBenchmark {
+
+    private CandidateService candidateService;
+    private CandidateDetails candidate;
+    private CandidateDetails scheduledCandidate;
+    private CandidateDetails existingCandidate;
+    private CandidateDetails candidateUpdate;
+    private MultipartFile pdfResume;
+    private MultipartFile unsupportedResume;
+
+    @Setup
+    public void setUp() {
+        candidateService = new CandidateService();
+        candidate = BenchmarkData.candidate(42);
+        candidate.setCandidateId("CAND0000010042");
+        scheduledCandidate = BenchmarkData.scheduledCandidate(42);
+        existingCandidate = BenchmarkData.candidate(7);
+        candidateUpdate = BenchmarkData.candidate(8);
+        pdfResume = BenchmarkData.resume("Candidate 42 - Resume.final.PDF", BenchmarkData.PDF_RESUME);
+        unsupportedResume = BenchmarkData.resume("resume.png", BenchmarkData.PDF_RESUME);
+    }
+
+    @Benchmark
+    public CandidateGetResponseDto mapEntityToResponseDto() {
+        return new CandidateGetResponseDto(candidate);
+    }
+
+    @Benchmark
+    public CandidateGetResponseDto mapProjectionToResponseDto() {
+        CandidateDetails c = scheduledCandidate;
+        return new CandidateGetResponseDto(c.getCandidateId(), c.getJobId(), c.getUserId(), c.getFullName(),
+                c.getCandidateEmailId(), c.getContactNumber(), c.getCurrentOrganization(), c.getQualification(),
+                c.getTotalExperience(), c.getRelevantExperience(), c.getCurrentCTC(), c.getExpectedCTC(),
+                c.getNoticePeriod(), c.getCurrentLocation(), c.getPreferredLocation(), c.getSkills(),
+                c.getCommunicationSkills(), c.getRequiredTechnologiesRating(), c.getOverallFeedback(),
+                c.getUserEmail(), c.getInterviewDateTime(), c.getProfileReceivedDate(), c.getVersion());
+    }
+
+    @Benchmark
+    public CandidateDetails validateCandidateDetails() {
+        candidateService.validateCandidateDetails(candidate);
+        return candidate;
+    }
+
+    @Benchmark
+    public String buildInterviewScheduledBody() {
+        return candidateService.buildInterviewScheduledBody(scheduledCandidate);
+    }
+
+    @Benchmark
+    public String buildInterviewUpdatedBody() {
+        return candidateService.buildInterviewUpdatedBody(scheduledCandidate, scheduledCandidate.getInterviewDateTime(),
+                scheduledCandidate.getDuration(), scheduledCandidate.getZoomLink());
+    }
+
+    @Benchmark
+    public boolean isValidFileTypeAccepted() {
+        return candidateService.isValidFileType(pdfResume);
+    }
+
+    @Benchmark
+    public boolean isValidFileTypeRejected() {
+        return candidateService.isValidFileType(unsupportedResume);
+    }
+
+    @Benchmark
+    public CandidateDetails updateCandidateFields() {
+        // Copying the same values each time keeps the target in a steady state
+        candidateService.updateCandidateFields(existingCandidate, candidateUpdate);
+        return existingCandidate;
+    }
+}
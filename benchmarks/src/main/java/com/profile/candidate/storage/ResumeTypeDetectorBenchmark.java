@@ -0,0 +1,107 @@
+package com.profile.candidate.storage;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of sniffing one upload's leading {@link ResumeTypeDetector#SNIFF_LENGTH} bytes, next to
+ * the SHA-256 that storage already computes over every upload of {@code resumeKb} KB. Run with
+ * {@code -prof gc} to confirm the detector itself allocates nothing.
+ *
+ * The .docx is written by POI, so its entry layout is a real one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResumeTypeDetectorBenchmark {
+
+    @Param({"300"})
+    public int resumeKb;
+
+    private byte[] pdf;
+    private byte[] doc;
+    private byte[] docx;
+    private byte[] unknown;
+    private byte[] resume;
+    private MessageDigest digest;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        pdf = head(("%PDF-1.7\n%âãÏÓ\n1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n").getBytes(), random);
+        doc = head(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1}, random);
+        // Longer than the window, so detection has to work from the local file headers alone
+        byte[] word = wordDocument();
+        docx = Arrays.copyOf(word, Math.min(word.length, ResumeTypeDetector.SNIFF_LENGTH));
+        // Plain text: every check runs to the end of its window before giving up
+        unknown = new byte[ResumeTypeDetector.SNIFF_LENGTH];
+        Arrays.fill(unknown, (byte) 'a');
+
+        resume = new byte[resumeKb * 1024];
+        random.nextBytes(resume);
+        digest = ContentHash.newDigest();
+
+        if (ResumeTypeDetector.detect(pdf, pdf.length) != ResumeType.PDF
+                || ResumeTypeDetector.detect(doc, doc.length) != ResumeType.DOC
+                || ResumeTypeDetector.detect(docx, docx.length) != ResumeType.DOCX
+                || ResumeTypeDetector.detect(word, word.length) != ResumeType.DOCX
+                || ResumeTypeDetector.detect(unknown, unknown.length) != null) {
+            throw new IllegalStateException("Detector misclassified a sample");
+        }
+    }
+
+    private static byte[] wordDocument() throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int i = 0; i < 2000; i++) {
+                document.createParagraph().createRun().setText("Senior Java developer, Spring Boot, Kafka, AWS " + i);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    // The first SNIFF_LENGTH bytes of a file starting with the given bytes, as an upload would present them
+    private static byte[] head(byte[] start, Random random) {
+        byte[] head = new byte[ResumeTypeDetector.SNIFF_LENGTH];
+        random.nextBytes(head);
+        System.arraycopy(start, 0, head, 0, Math.min(start.length, head.length));
+        return head;
+    }
+
+    @Benchmark
+    public ResumeType detectPdf() {
+        return ResumeTypeDetector.detect(pdf, pdf.length);
+    }
+
+    @Benchmark
+    public ResumeType detectDoc() {
+        return ResumeTypeDetector.detect(doc, doc.length);
+    }
+
+    @Benchmark
+    public ResumeType detectDocx() {
+        return ResumeTypeDetector.detect(docx, docx.length);
+    }
+
+    @Benchmark
+    public ResumeType detectUnknown() {
+        return ResumeTypeDetector.detect(unknown, unknown.length);
+    }
+
+    // What storing the same upload already costs, for scale
+    @Benchmark
+    public byte[] hashResume() {
+        digest.reset();
+        return digest.digest(resume);
+    }
+}
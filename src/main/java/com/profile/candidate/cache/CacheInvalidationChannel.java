@@ -0,0 +1,24 @@
+package com.profile.candidate.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between application replicas, so an update handled by one
+ * replica evicts the entry from every replica's local cache instead of waiting for its TTL.
+ *
+ * Selected with {@code cache.invalidation.channel}: {@code in-memory} (default, single
+ * process only) or {@code database} (shared table polled by every replica).
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Announces that {@code key} of {@code cacheName} changed. Called after the change committed.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers a listener for keys invalidated in {@code cacheName}. Listeners must be idempotent:
+     * a replica may receive its own invalidations, and a key may be delivered more than once.
+     */
+    void subscribe(String cacheName, Consumer<String> listener);
+}
@@ -0,0 +1,77 @@
+package com.profile.candidate.cache;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable snapshot of the candidate columns needed for ownership checks, search results
+ * and download file names. Never holds resume content, so cached entries stay small.
+ */
+public class CandidateSummary {
+
+    private final String candidateId;
+    private final String userId;
+    private final String jobId;
+    private final String fullName;
+    private final String candidateEmailId;
+    private final String userEmail;
+    private final String clientEmail;
+    private final String clientName;
+    private final OffsetDateTime interviewDateTime;
+    private final String interviewStatus;
+
+    // Constructor used by the JPQL projection in CandidateRepository.findSummaryById
+    public CandidateSummary(String candidateId, String userId, String jobId, String fullName,
+                            String candidateEmailId, String userEmail, String clientEmail, String clientName,
+                            OffsetDateTime interviewDateTime, String interviewStatus) {
+        this.candidateId = candidateId;
+        this.userId = userId;
+        this.jobId = jobId;
+        this.fullName = fullName;
+        this.candidateEmailId = candidateEmailId;
+        this.userEmail = userEmail;
+        this.clientEmail = clientEmail;
+        this.clientName = clientName;
+        this.interviewDateTime = interviewDateTime;
+        this.interviewStatus = interviewStatus;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getCandidateEmailId() {
+        return candidateEmailId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public OffsetDateTime getInterviewDateTime() {
+        return interviewDateTime;
+    }
+
+    public String getInterviewStatus() {
+        return interviewStatus;
+    }
+}
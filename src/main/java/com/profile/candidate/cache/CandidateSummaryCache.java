@@ -0,0 +1,68 @@
+package com.profile.candidate.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.service.CandidateChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of {@link CandidateSummary} by candidate ID, bounded by size and
+ * time-to-live. Entries are evicted after a candidate change commits, here and (through
+ * the {@link CacheInvalidationChannel}) on the other replicas. Missing candidates are not
+ * cached, so a new submission is visible immediately.
+ *
+ * Hit, miss and eviction counts are exported as {@code cache.*} metrics with
+ * {@code cache=candidateSummaries}.
+ */
+@Component
+public class CandidateSummaryCache {
+
+    static final String CACHE_NAME = "candidateSummaries";
+
+    private final CandidateRepository candidateRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Cache<String, CandidateSummary> cache;
+
+    public CandidateSummaryCache(CandidateRepository candidateRepository,
+                                 CacheInvalidationChannel invalidationChannel,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${candidate.cache.summary.maximum-size:10000}") long maximumSize,
+                                 @Value("${candidate.cache.summary.ttl:PT5M}") Duration ttl) {
+        this.candidateRepository = candidateRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        invalidationChannel.subscribe(CACHE_NAME, cache::invalidate);
+    }
+
+    public Optional<CandidateSummary> get(String candidateId) {
+        if (candidateId == null) {
+            return Optional.empty();
+        }
+        // A null from the loader is not stored, so unknown IDs always go to the database
+        return Optional.ofNullable(cache.get(candidateId,
+                id -> candidateRepository.findSummaryById(id).orElse(null)));
+    }
+
+    public void invalidate(String candidateId) {
+        invalidationChannel.publish(CACHE_NAME, candidateId);
+    }
+
+    // After commit, so a reader cannot re-cache the old row between the eviction and the commit
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        invalidate(event.getCandidateId());
+    }
+}
@@ -0,0 +1,115 @@
+package com.profile.candidate.cache;
+
+import com.profile.candidate.model.CacheInvalidation;
+import com.profile.candidate.repository.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts invalidations through the shared database, so replicas need no extra
+ * infrastructure. Publishing inserts a row; every replica polls for rows written by
+ * others since its last poll (re-reading a short overlap window, because rows can
+ * commit slightly out of timestamp order) and evicts the keys locally. Rows older
+ * than the retention period are purged.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.channel", havingValue = "database")
+public class DatabaseCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseCacheInvalidationChannel.class);
+    private static final Duration OVERLAP = Duration.ofSeconds(5);
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    // A lock rather than synchronized, as polling holds it across database reads (see poll)
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    // Newest invalidation seen so far, in database time; guarded by pollLock
+    private LocalDateTime watermark;
+
+    public DatabaseCacheInvalidationChannel(CacheInvalidationRepository cacheInvalidationRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${cache.invalidation.retention:PT1H}") Duration retention) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.retention = retention;
+        // Publishing happens after the caller's transaction committed, so it needs its own
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        // Local subscribers first; the row only reaches the other replicas
+        for (Consumer<String> listener : listeners.getOrDefault(cacheName, List.of())) {
+            listener.accept(key);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    cacheInvalidationRepository.save(new CacheInvalidation(cacheName, key, origin)));
+        } catch (Exception e) {
+            // Other replicas fall back to the cache TTL for this key
+            logger.warn("Could not broadcast invalidation of {} in cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        // Held across the reads, which would pin a virtual thread under synchronized
+        pollLock.lock();
+        try {
+            if (watermark == null) {
+                // Start from whatever is in the table now; older invalidations predate this replica's cache
+                LocalDateTime latest = cacheInvalidationRepository.findLatestCreatedAt();
+                watermark = latest != null ? latest : LocalDateTime.of(2000, 1, 1, 0, 0);
+                return;
+            }
+
+            List<CacheInvalidation> invalidations =
+                    cacheInvalidationRepository.findPublishedSince(watermark.minus(OVERLAP), origin);
+            for (CacheInvalidation invalidation : invalidations) {
+                for (Consumer<String> listener : listeners.getOrDefault(invalidation.getCacheName(), List.of())) {
+                    listener.accept(invalidation.getCacheKey());
+                }
+                if (invalidation.getCreatedAt().isAfter(watermark)) {
+                    watermark = invalidation.getCreatedAt();
+                }
+            }
+
+            if (!invalidations.isEmpty()) {
+                LocalDateTime purgeBefore = watermark.minus(retention);
+                transactionTemplate.executeWithoutResult(status ->
+                        cacheInvalidationRepository.deleteCreatedBefore(purgeBefore));
+            }
+        } catch (Exception e) {
+            logger.warn("Polling cache invalidations failed: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+}
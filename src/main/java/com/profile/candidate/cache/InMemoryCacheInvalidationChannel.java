@@ -0,0 +1,34 @@
+package com.profile.candidate.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to every subscriber in this JVM. Enough for a
+ * single replica, and a stand-in for the distributed channel when several caches share
+ * one instance (e.g. to exercise cross-replica invalidation in one process).
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.channel", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cacheName, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(cacheName, List.of())) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,211 @@
+package com.profile.candidate.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.dto.GetInterviewResponseDto;
+import com.profile.candidate.dto.SubmissionCountsDto;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.repository.UserStatusCount;
+import com.profile.candidate.service.CandidateChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Per-user dashboard data: the submissions list, the interviews list and the status counts.
+ *
+ * A change to one candidate does not drop a user's lists. Only that candidate's row is re-read
+ * and swapped into (or out of) the cached lists of its current and previous owner, so a user
+ * with thousands of submissions costs one primary-key read per change instead of a full reload.
+ * Counts are recomputed lazily from a grouped, index-only query.
+ *
+ * Changes travel through the {@link CacheInvalidationChannel} as "candidateId userId" keys, so
+ * every replica, this one included, applies the same patch.
+ *
+ * Metrics are exported as {@code cache.*} with {@code cache=userSubmissions},
+ * {@code cache=userInterviews} and {@code cache=userSubmissionCounts}.
+ */
+@Component
+public class UserSubmissionsCache {
+
+    static final String CACHE_NAME = "userSubmissions";
+
+    // Stored for candidates with no interview status yet
+    static final String NOT_SCHEDULED = "NOT SCHEDULED";
+
+    // Changes counted per stripe of candidate IDs, and how often a patch re-reads before giving up
+    private static final int CHANGE_STRIPES = 256;
+    private static final int MAX_PATCH_ATTEMPTS = 3;
+
+    private static final Comparator<LocalDate> DATE_DESC = Comparator.nullsLast(Comparator.<LocalDate>reverseOrder());
+
+    // Same order as the list queries: profileReceivedDate DESC, candidateId DESC
+    private static final Comparator<CandidateGetResponseDto> SUBMISSION_ORDER =
+            Comparator.comparing(CandidateGetResponseDto::getProfileReceivedDate, DATE_DESC)
+                    .thenComparing(CandidateGetResponseDto::getCandidateId, Comparator.reverseOrder());
+
+    private final CandidateRepository candidateRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Cache<String, List<CandidateGetResponseDto>> submissions;
+    private final Cache<String, List<GetInterviewResponseDto>> interviews;
+    private final Cache<String, SubmissionCountsDto> counts;
+    private final AtomicLongArray changeCounts = new AtomicLongArray(CHANGE_STRIPES);
+
+    public UserSubmissionsCache(CandidateRepository candidateRepository,
+                                CacheInvalidationChannel invalidationChannel,
+                                MeterRegistry meterRegistry,
+                                @Value("${candidate.cache.user.maximum-size:2000}") long maximumSize,
+                                @Value("${candidate.cache.user.ttl:PT10M}") Duration ttl) {
+        this.candidateRepository = candidateRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.submissions = newCache(maximumSize, ttl);
+        this.interviews = newCache(maximumSize, ttl);
+        this.counts = newCache(maximumSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, submissions, "userSubmissions");
+        CaffeineCacheMetrics.monitor(meterRegistry, interviews, "userInterviews");
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "userSubmissionCounts");
+        invalidationChannel.subscribe(CACHE_NAME, this::applyChange);
+    }
+
+    private static <V> Cache<String, V> newCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Newest first; the returned list is read-only
+    public List<CandidateGetResponseDto> getSubmissions(String userId) {
+        return submissions.get(userId, id -> List.copyOf(candidateRepository.findSubmissionsByUserId(id)));
+    }
+
+    // Same order as getSubmissions; the returned list is read-only
+    public List<GetInterviewResponseDto> getInterviews(String userId) {
+        return interviews.get(userId, id -> List.copyOf(candidateRepository.findInterviewsByUserId(id)));
+    }
+
+    public SubmissionCountsDto getCounts(String userId) {
+        return counts.get(userId, this::loadCounts);
+    }
+
+    private SubmissionCountsDto loadCounts(String userId) {
+        long submitted = 0;
+        long scheduled = 0;
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (UserStatusCount row : candidateRepository.countByInterviewStatus(userId)) {
+            String status = row.getInterviewStatus() != null ? row.getInterviewStatus() : NOT_SCHEDULED;
+            long total = row.getTotal() != null ? row.getTotal() : 0;
+            byStatus.merge(status, total, Long::sum);
+            submitted += total;
+            scheduled += row.getScheduled() != null ? row.getScheduled() : 0;
+        }
+        return new SubmissionCountsDto(userId, submitted, scheduled, Collections.unmodifiableMap(byStatus));
+    }
+
+    // After commit, so the patch reads the committed row
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        invalidationChannel.publish(CACHE_NAME, event.getCandidateId() + " " + event.getUserId());
+        if (event.getPreviousUserId() != null && !event.getPreviousUserId().equals(event.getUserId())) {
+            invalidationChannel.publish(CACHE_NAME, event.getCandidateId() + " " + event.getPreviousUserId());
+        }
+    }
+
+    // Candidate IDs never contain spaces, user IDs might
+    void applyChange(String key) {
+        int separator = key.indexOf(' ');
+        if (separator < 0) {
+            return;
+        }
+        String candidateId = key.substring(0, separator);
+        String userId = key.substring(separator + 1);
+
+        counts.invalidate(userId);
+        int stripe = Math.floorMod(candidateId.hashCode(), CHANGE_STRIPES);
+        changeCounts.incrementAndGet(stripe);
+        applyChange(submissions, candidateId, userId, stripe, candidateRepository::findSubmissionById,
+                CandidateGetResponseDto::getCandidateId, CandidateGetResponseDto::getUserId, SUBMISSION_ORDER);
+        applyChange(interviews, candidateId, userId, stripe, candidateRepository::findInterviewById,
+                GetInterviewResponseDto::getCandidateId, GetInterviewResponseDto::getUserId, null);
+    }
+
+    /**
+     * Re-reads the candidate's row and splices it into the user's cached list, if there is one.
+     *
+     * The row is read before taking the entry: computeIfPresent locks a bin of the map, which
+     * would stall every user hashed to it for a database round trip. Two patches of the same
+     * candidate can then read in one order and splice in the other, so each change bumps a
+     * counter first and the splice only goes ahead if no change of the candidate (or one sharing
+     * its stripe) arrived since this read began; otherwise the row is read again. A change that
+     * arrives after the check splices after this one, with a row at least as new.
+     */
+    private <T> void applyChange(Cache<String, List<T>> cache, String candidateId, String userId, int stripe,
+                                 Function<String, Optional<T>> loader, Function<T, String> idOf,
+                                 Function<T, String> ownerOf, Comparator<T> order) {
+        for (int attempt = 1; cache.asMap().containsKey(userId); attempt++) {
+            long seen = changeCounts.get(stripe);
+            Optional<T> current = loader.apply(candidateId).filter(row -> Objects.equals(ownerOf.apply(row), userId));
+            boolean[] stale = new boolean[1];
+            cache.asMap().computeIfPresent(userId, (id, cached) -> {
+                if (changeCounts.get(stripe) != seen) {
+                    stale[0] = true;
+                    return cached;
+                }
+                return patch(cached, candidateId, current, idOf, order);
+            });
+            if (!stale[0]) {
+                return;
+            }
+            if (attempt == MAX_PATCH_ATTEMPTS) {
+                cache.invalidate(userId);  // Busy candidate: reload the list on next use instead
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code cached} without the candidate, plus its current row if it still
+     * belongs to the user ({@code current} is empty otherwise), re-sorted by {@code order}. The
+     * interview rows carry no received date to sort on (order is null): a re-read row keeps its
+     * position and an added one goes first, which is where a new submission (received today,
+     * with the highest ID) belongs.
+     */
+    private static <T> List<T> patch(List<T> cached, String candidateId, Optional<T> current,
+                                     Function<T, String> idOf, Comparator<T> order) {
+        List<T> patched = new ArrayList<>(cached.size() + 1);
+        boolean replaced = false;
+        for (T row : cached) {
+            if (!candidateId.equals(idOf.apply(row))) {
+                patched.add(row);
+            } else if (current.isPresent() && !replaced) {
+                patched.add(current.get());
+                replaced = true;
+            }
+        }
+        if (current.isPresent() && !replaced) {
+            patched.add(order != null ? patched.size() : 0, current.get());
+        }
+        if (order != null) {
+            // The list is sorted apart from at most one row, which TimSort handles in linear time
+            patched.sort(order);
+        }
+        return Collections.unmodifiableList(patched);
+    }
+}
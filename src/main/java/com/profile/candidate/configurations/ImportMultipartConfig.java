@@ -0,0 +1,36 @@
+package com.profile.candidate.configurations;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+// The servlet container enforces multipart limits per servlet, before any controller runs, so the
+// bulk import gets a second DispatcherServlet over the same context, mapped to the import path only.
+// Everything else keeps the small spring.servlet.multipart limits and cannot spool a huge upload to disk.
+@Configuration
+public class ImportMultipartConfig {
+
+    private static final String IMPORT_PATH = "/candidate/import";
+
+    @Bean
+    public ServletRegistrationBean<DispatcherServlet> importDispatcherServlet(
+            WebApplicationContext context,
+            MultipartProperties multipartProperties,
+            @Value("${candidate.import.max-file-size:2GB}") DataSize maxFileSize,
+            @Value("${candidate.import.max-request-size:2GB}") DataSize maxRequestSize) {
+        ServletRegistrationBean<DispatcherServlet> registration =
+                new ServletRegistrationBean<>(new DispatcherServlet(context), IMPORT_PATH);
+        registration.setName("importDispatcherServlet");
+        registration.setMultipartConfig(new MultipartConfigElement(
+                multipartProperties.getLocation() == null ? "" : multipartProperties.getLocation(),
+                maxFileSize.toBytes(), maxRequestSize.toBytes(),
+                (int) multipartProperties.getFileSizeThreshold().toBytes()));
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.profile.candidate.configurations;
+
+import com.profile.candidate.metrics.MethodMetricsBeanPostProcessor;
+import com.profile.candidate.metrics.MethodMetricsInterceptor;
+import com.profile.candidate.metrics.RepositoryMetricsBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+// Method-level timers for the controller, service and repository layers.
+// The bean post-processors are static and only resolve the MeterRegistry when the first
+// instrumented bean is created, so the registry itself is still fully configured by Boot.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    static MethodMetricsBeanPostProcessor controllerMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MethodMetricsBeanPostProcessor("com.profile.candidate.controller",
+                MethodMetricsInterceptor.CONTROLLER, SingletonSupplier.of(meterRegistry::getObject));
+    }
+
+    @Bean
+    static MethodMetricsBeanPostProcessor serviceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MethodMetricsBeanPostProcessor("com.profile.candidate.service",
+                MethodMetricsInterceptor.SERVICE, SingletonSupplier.of(meterRegistry::getObject));
+    }
+
+    @Bean
+    static RepositoryMetricsBeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsBeanPostProcessor(SingletonSupplier.of(meterRegistry::getObject));
+    }
+}
@@ -0,0 +1,10 @@
+package com.profile.candidate.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables the @Scheduled background jobs (e.g. the interview notification outbox dispatcher)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
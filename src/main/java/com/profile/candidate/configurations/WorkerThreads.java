@@ -0,0 +1,41 @@
+package com.profile.candidate.configurations;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for the worker pools the service owns.
+ *
+ * Pools whose tasks spend their time waiting on SMTP or JDBC get virtual threads when
+ * {@code spring.threads.virtual.enabled=true} and the JVM is Java 21 or newer, the same switch
+ * that moves Tomcat request handling and {@code @Scheduled} jobs onto virtual threads. Their
+ * pool size then only limits how many tasks talk to the mail relay or database at once.
+ * CPU-bound pools (resume text extraction, candidate matching) keep platform threads.
+ */
+public final class WorkerThreads {
+
+    private WorkerThreads() {
+    }
+
+    // Virtual threads in virtual-thread mode, named daemon platform threads otherwise
+    public static ThreadFactory forBlockingTasks(String namePrefix, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory();
+        }
+        return platform(namePrefix);
+    }
+
+    // Daemon threads named namePrefix1, namePrefix2, ...
+    public static ThreadFactory platform(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,31 +1,51 @@
 package com.profile.candidate.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.CandidateAlreadyExistsException;
 import com.profile.candidate.exceptions.CandidateNotFoundException;
+import com.profile.candidate.exceptions.InterviewAlreadyScheduledException;
 import com.profile.candidate.exceptions.InterviewNotScheduledException;
+import com.profile.candidate.exceptions.InterviewSlotConflictException;
+import com.profile.candidate.exceptions.InvalidFileTypeException;
+import com.profile.candidate.exceptions.SearchIndexUnavailableException;
 import com.profile.candidate.model.CandidateDetails;
 import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.service.CandidateExportService;
+import com.profile.candidate.service.CandidateImportService;
+import com.profile.candidate.service.CandidatePatch;
 import com.profile.candidate.service.CandidateService;
+import com.profile.candidate.service.LegacyResumeMigration;
+import com.profile.candidate.service.RecordFormat;
+import com.profile.candidate.service.ResumeDownload;
+import com.profile.candidate.service.ResumeUpload;
+import com.profile.candidate.storage.ResumeType;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @CrossOrigin(origins = {"http://35.188.150.92", "http://192.168.0.140:3000", "http://192.168.0.139:3000","https://mymulya.com/"})
@@ -42,6 +62,15 @@ public class CandidateController {
     @Autowired
     private CandidateRepository candidateRepository;
 
+    @Autowired
+    private CandidateImportService candidateImportService;
+
+    @Autowired
+    private CandidateExportService candidateExportService;
+
+    @Autowired
+    private LegacyResumeMigration legacyResumeMigration;
+
     private static final Logger logger = LoggerFactory.getLogger(CandidateController.class);
 
     // Endpoint to submit candidate profile (Create new candidate)
@@ -73,7 +102,7 @@ public class CandidateController {
             validateFileSize(resumeFile);
 
             // Check if the resume file is valid (PDF or DOCX)
-            if (!isValidFileType(resumeFile)) {
+            if (ResumeType.fromFileName(resumeFile.getOriginalFilename()) == null) {
                 // Log the invalid file type error
                 logger.error("Invalid file type uploaded for candidate {}. Only PDF, DOC and DOCX are allowed.", fullName);
 
@@ -125,6 +154,16 @@ public class CandidateController {
                     null
             );
             return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);  // Return 413 Payload Too Large
+        } catch (InvalidFileTypeException ex) {
+            // The file name is fine but the content is not a PDF, DOC or DOCX file
+            logger.error("Invalid resume content uploaded for candidate {}: {}", fullName, ex.getMessage());
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST); // Return HTTP 400 for invalid content
         } catch (CandidateAlreadyExistsException ex) {
             // Handle specific CandidateAlreadyExistsException
             logger.error("Candidate already exists: {}", ex.getMessage());
@@ -181,23 +220,6 @@ public class CandidateController {
     }
 
 
-    private boolean isValidFileType(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
-        if (fileName != null) {
-            String fileExtension = getFileExtension(fileName).toLowerCase();
-            return fileExtension.equals("pdf") || fileExtension.equals("docx") || fileExtension.equals("doc");
-        }
-        return false;
-    }
-
-    private String getFileExtension(String fileName) {
-        int index = fileName.lastIndexOf(".");
-        if (index > 0) {
-            return fileName.substring(index + 1);
-        }
-        return "";
-    }
-
     @PutMapping("/candidatesubmissions/{candidateId}")
     public ResponseEntity<CandidateResponseDto> resubmitCandidate(
             @PathVariable("candidateId") String candidateId,
@@ -222,6 +244,11 @@ public class CandidateController {
             @RequestParam(value = "resumeFile", required = false) MultipartFile resumeFile) {
 
         try {
+            // Validate file size (10 MB max)
+            if (resumeFile != null) {
+                validateFileSize(resumeFile);
+            }
+
             // Create a CandidateDetails object from the request parameters
             CandidateDetails updatedCandidateDetails = new CandidateDetails();
 
@@ -250,6 +277,32 @@ public class CandidateController {
             // Return the response entity with status 200 OK
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (MaxUploadSizeExceededException ex) {
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    "File size exceeds the maximum allowed size of 10 MB.",
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);  // Return 413 Payload Too Large
+        } catch (CandidateAlreadyExistsException ex) {
+            // The new email or contact number is already submitted for this job and client
+            logger.error("Candidate already exists: {}", ex.getMessage());
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT); // 409 Conflict
+        } catch (OptimisticLockingFailureException ex) {
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    "The candidate was updated by someone else meanwhile. Reload it and try again.",
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT); // 409 Conflict
         } catch (Exception ex) {
             // Handle any exceptions and return an error response
             logger.error("An error occurred while resubmitting the candidate: {}", ex.getMessage());
@@ -260,7 +313,227 @@ public class CandidateController {
         }
     }
 
-    // Endpoint to fetch all submitted candidates without filtering by userId
+    // Field-level update, e.g. PATCH /candidatesubmissions/CAND42 {"noticePeriod": "15 days", "skills": null}
+    // (JSON merge patch). Only the supplied fields are validated and written. Send the ETag of the
+    // last read as If-Match to be told, instead of overwriting, when someone else changed it since.
+    // The resume is replaced separately with PUT /resume/{candidateId}.
+    @PatchMapping(value = "/candidatesubmissions/{candidateId}", consumes = {"application/merge-patch+json",
+            MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CandidateResponseDto> patchCandidate(
+            @PathVariable("candidateId") String candidateId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        try {
+            Long expectedVersion = parseVersionTag(ifMatch);
+            CandidateDetails candidate = candidateService.patchCandidate(candidateId, CandidatePatch.parse(patch),
+                    expectedVersion);
+            CandidateResponseDto response = new CandidateResponseDto(
+                    "Success",
+                    "Candidate successfully updated",
+                    new CandidateResponseDto.Payload(candidate.getCandidateId(), candidate.getUserId(), candidate.getJobId()),
+                    null
+            );
+            return ResponseEntity.ok().eTag(versionTag(candidate.getVersion())).body(response);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid patch for candidate {}: {}", candidateId, ex.getMessage());
+            return new ResponseEntity<>(new CandidateResponseDto("Error", ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null), null), HttpStatus.BAD_REQUEST);
+        } catch (CandidateNotFoundException ex) {
+            logger.error("Candidate not found: {}", ex.getMessage());
+            return new ResponseEntity<>(new CandidateResponseDto("Error", ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null), null), HttpStatus.NOT_FOUND);
+        } catch (CandidateAlreadyExistsException ex) {
+            logger.error("Candidate already exists: {}", ex.getMessage());
+            return new ResponseEntity<>(new CandidateResponseDto("Error", ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null), null), HttpStatus.CONFLICT);
+        } catch (OptimisticLockingFailureException ex) {
+            // 412 when the client's If-Match is stale, 409 when another update won the race
+            logger.warn("Patch of candidate {} rejected: {}", candidateId, ex.getMessage());
+            return new ResponseEntity<>(new CandidateResponseDto("Error",
+                    "The candidate was updated by someone else meanwhile. Reload it and try again.",
+                    new CandidateResponseDto.Payload(null, null, null), null),
+                    ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
+        } catch (Exception ex) {
+            logger.error("An error occurred while updating candidate {}: {}", candidateId, ex.getMessage(), ex);
+            return new ResponseEntity<>(new CandidateResponseDto("Error", "An error occurred while updating the candidate",
+                    new CandidateResponseDto.Payload(null, null, null), null), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    static String versionTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // The version in an If-Match header ("3", W/"3"), or null for none or "*"
+    static Long parseVersionTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("If-Match must be the ETag returned for the candidate, e.g. \"3\".");
+        }
+    }
+
+    // Replace a candidate's resume with the raw request body (not multipart), e.g.
+    //   curl -X PUT -H "Content-Type: application/pdf" --data-binary @cv.pdf ".../resume/CAND0001?fileName=cv.pdf"
+    // The body is streamed to resume storage as it arrives, without a multipart temp copy
+    @PutMapping(value = "/resume/{candidateId}", consumes = {"application/pdf", "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<CandidateResponseDto> replaceResume(
+            @PathVariable("candidateId") String candidateId,
+            @RequestParam("fileName") String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream body) {
+        try {
+            // Refuse a declared oversize body before reading any of it
+            if (contentLength != null && contentLength > ResumeUpload.MAX_SIZE) {
+                throw new MaxUploadSizeExceededException(ResumeUpload.MAX_SIZE);
+            }
+            CandidateResponseDto response = candidateService.replaceResume(candidateId, fileName, body);
+            logger.info("Replaced resume of candidate {}", candidateId);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (MaxUploadSizeExceededException ex) {
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    "File size exceeds the maximum allowed size of 10 MB.",
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);  // Return 413 Payload Too Large
+        } catch (InvalidFileTypeException ex) {
+            logger.error("Rejected resume for candidate {}: {}", candidateId, ex.getMessage());
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    ex.getMessage(),
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        } catch (CandidateNotFoundException ex) {
+            logger.error("Candidate not found: {}", ex.getMessage());
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    "Candidate not found",
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        } catch (IOException ex) {
+            logger.error("Error storing resume for candidate {}. Error: {}", candidateId, ex.getMessage());
+            CandidateResponseDto errorResponse = new CandidateResponseDto(
+                    "Error",
+                    "Error processing resume file.",
+                    new CandidateResponseDto.Payload(null, null, null),
+                    null
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Bulk import: a CSV (with header row) or JSON-lines file of candidates, plus an optional ZIP of
+    // resumes referenced by the resumeFile column. One JSON line per record is streamed back.
+    // Served by its own servlet with larger multipart limits, see ImportMultipartConfig.
+    @PostMapping("/import")
+    public ResponseEntity<StreamingResponseBody> importCandidates(
+            @RequestParam("records") MultipartFile records,
+            @RequestParam(value = "resumes", required = false) MultipartFile resumes) {
+        RecordFormat format;
+        try {
+            format = RecordFormat.ofFile(records.getOriginalFilename(), records.getContentType());
+        } catch (IllegalArgumentException ex) {
+            logger.error("Rejected candidate import: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (resumes != null && !resumes.isEmpty() && (resumes.getOriginalFilename() == null
+                || !resumes.getOriginalFilename().toLowerCase().endsWith(".zip"))) {
+            logger.error("Rejected candidate import: resumes must be a .zip file");
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        // Runs on the MVC async executor; rows are written as each chunk completes
+        StreamingResponseBody body = out -> candidateImportService.importCandidates(records, format, resumes, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(RecordFormat.NDJSON.getMediaType()))
+                .body(body);
+    }
+
+    // Progress of moving legacy resumes out of candidates.resume: counts, observed rate, ETA and throttle
+    @GetMapping("/resume-migration")
+    public ResponseEntity<ResumeMigrationStatusDto> getResumeMigrationStatus() {
+        try {
+            return ResponseEntity.ok(legacyResumeMigration.getStatus());
+        } catch (Exception ex) {
+            logger.error("An error occurred while reading the resume migration status: {}", ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Pause/resume and re-throttle the legacy resume migration, e.g. ?running=true&rowsPerSecond=5;
+    // restart=true starts over from the first candidate (pause it first), retrying failed rows
+    @PutMapping("/resume-migration")
+    public ResponseEntity<ResumeMigrationStatusDto> updateResumeMigration(
+            @RequestParam(value = "running", required = false) Boolean running,
+            @RequestParam(value = "rowsPerSecond", required = false) Double rowsPerSecond,
+            @RequestParam(value = "bytesPerSecond", required = false) Long bytesPerSecond,
+            @RequestParam(value = "batchSize", required = false) Integer batchSize,
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        try {
+            ResumeMigrationStatusDto status = legacyResumeMigration.update(running, rowsPerSecond, bytesPerSecond,
+                    batchSize, restart);
+            logger.info("Resume migration updated: running={}, rowsPerSecond={}, bytesPerSecond={}, batchSize={}, restart={}",
+                    running, rowsPerSecond, bytesPerSecond, batchSize, restart);
+            return ResponseEntity.ok(status);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid resume migration update: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            logger.error("Rejected resume migration update: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (Exception ex) {
+            logger.error("An error occurred while updating the resume migration: {}", ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Endpoint to fetch submitted candidates one page at a time, newest first, with optional filters
+    @GetMapping("/submissions")
+    public ResponseEntity<CandidatePageResponseDto> getSubmissionsPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "jobId", required = false) String jobId,
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "interviewStatus", required = false) String interviewStatus,
+            @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(value = "toDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        try {
+            CandidatePageResponseDto page = candidateService.getSubmissionsPage(
+                    cursor, size, jobId, userId, interviewStatus, fromDate, toDate);
+
+            logger.info("Fetched a page of {} submissions (hasMore: {}).", page.getSize(), page.isHasMore());
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException ex) {
+            // Invalid cursor or page size
+            logger.error("Invalid submissions page request: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            logger.error("An error occurred while fetching a submissions page: {}", ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Endpoint to fetch all submitted candidates without filtering by userId.
+    // Unbounded; kept for existing clients, new callers should page through /submissions instead.
     @GetMapping("/submissions/allsubmittedcandidates")
     public ResponseEntity<List<CandidateGetResponseDto>> getAllSubmissions() {
         try {
@@ -285,6 +558,59 @@ public class CandidateController {
 
 
 
+    // Skill search, e.g. ?q=java AND (kafka OR jms) -php; ranked by relevance unless mode=boolean
+    @GetMapping("/search")
+    public ResponseEntity<SkillSearchResponseDto> searchCandidates(
+            @RequestParam("q") String query,
+            @RequestParam(value = "mode", defaultValue = "ranked") String mode,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            SkillSearchResponseDto response = candidateService.searchCandidates(query, mode, limit);
+            logger.info("Skill search '{}' matched {} candidates.", query, response.getTotal());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid skill search request: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (SearchIndexUnavailableException ex) {
+            // Startup rebuild still running; the client can retry shortly
+            logger.warn("Skill search rejected: {}", ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        } catch (Exception ex) {
+            logger.error("An error occurred during skill search '{}': {}", query, ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Best candidates for a job, e.g. /match/JOB42?skills=java,spring boot&minExperience=3&maxNoticeDays=30&k=20
+    @GetMapping("/match/{jobId}")
+    public ResponseEntity<CandidateMatchResponseDto> matchCandidates(
+            @PathVariable String jobId,
+            @RequestParam(value = "k", required = false) Integer k,
+            @RequestParam(value = "scope", defaultValue = "job") String scope,
+            @RequestParam(value = "skills", required = false) String skills,
+            @RequestParam(value = "preferredSkills", required = false) String preferredSkills,
+            @RequestParam(value = "minSkillMatch", required = false) Float minSkillMatch,
+            @RequestParam(value = "minExperience", required = false) Float minExperience,
+            @RequestParam(value = "maxNoticeDays", required = false) Integer maxNoticeDays,
+            @RequestParam(value = "maxExpectedCtc", required = false) Float maxExpectedCtc,
+            @RequestParam(value = "location", required = false) String location) {
+        try {
+            CandidateMatchResponseDto response = candidateService.matchCandidates(jobId, scope, k, skills,
+                    preferredSkills, minSkillMatch, minExperience, maxNoticeDays, maxExpectedCtc, location);
+            logger.info("Matched {} candidates for jobId {} ({}).", response.getTotal(), jobId, response.getScope());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid match request for jobId {}: {}", jobId, ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (SearchIndexUnavailableException ex) {
+            logger.warn("Match for jobId {} rejected: {}", jobId, ex.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        } catch (Exception ex) {
+            logger.error("An error occurred while matching candidates for jobId {}: {}", jobId, ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     // Endpoint to fetch all submitted candidates
     @GetMapping("/submissions/{userId}")
     public ResponseEntity<List<CandidateGetResponseDto>> getAllSubmissions(
@@ -311,39 +637,57 @@ public class CandidateController {
         }
     }
 
+    // Dashboard counters for a user: submitted, scheduled and per interview status
+    @GetMapping("/submissions/{userId}/counts")
+    public ResponseEntity<SubmissionCountsDto> getSubmissionCounts(@PathVariable String userId) {
+        try {
+            SubmissionCountsDto counts = candidateService.getSubmissionCountsByUserId(userId);
+            return ResponseEntity.ok(counts);
+        } catch (Exception ex) {
+            logger.error("An error occurred while counting submissions for userId {}: {}", userId, ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/download-resume/{candidateId}")
-    public ResponseEntity<Object> downloadResume(@PathVariable String candidateId) {
+    public ResponseEntity<Object> downloadResume(@PathVariable String candidateId,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                 @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                 WebRequest webRequest) {
         try {
             logger.info("Downloading resume for candidate ID: {}", candidateId);
 
-            // Fetch candidate details from the database
-            CandidateDetails candidate = candidateRepository.findById(candidateId)
-                    .orElseThrow(() -> new CandidateNotFoundException("Candidate not found with ID: " + candidateId));
+            // Resolve the stored resume; the content itself is streamed only when the body is written.
+            // Byte ranges refer to the file itself, so only whole downloads get the stored gzip as is
+            ResumeDownload download = candidateService.getResumeForDownload(candidateId,
+                    range == null && acceptsGzip(acceptEncoding));
 
-            // Fetch the resume BLOB field from the candidate entity
-            byte[] resumeBytes = candidate.getResume(); // Assuming `getResume()` returns the BLOB data
-
-            if (resumeBytes == null || resumeBytes.length == 0) {
+            if (download == null) {
                 logger.error("Resume is missing for candidate ID: {}", candidateId);
                 return ResponseEntity
                         .status(HttpStatus.NOT_FOUND)
                         .body(new ErrorResponseDto(false, "Resume is missing for candidate ID: " + candidateId));
             }
 
-            // Assuming you want to set the filename based on candidate's name or other criteria
-            String filename = candidate.getFullName() + "-Resume.pdf"; // Adjust filename logic as needed
-
-            // Convert the byte array to a ByteArrayResource
-            ByteArrayResource resource = new ByteArrayResource(resumeBytes);
-
-            // Set content type (you can change this to match the actual file type)
-            String contentType = "application/pdf"; // You can dynamically determine the content type if needed
+            // The content hash identifies the file, so a matching If-None-Match gets a 304 without any body.
+            // The gzip representation is a different byte sequence and gets its own tag
+            String encoding = download.getContentEncoding();
+            String eTag = "\"" + download.getContentHash() + (encoding == null ? "" : "-" + encoding) + "\"";
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
 
-            // Return the file as a response for download
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .body(resource);
+            // Returning a Resource lets Spring answer Range requests with 206 partial content
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.parseMediaType(download.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + download.getFileName() + "\"");
+            if (encoding != null) {
+                response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+            }
+            return response.body(download.getResource());
 
         } catch (CandidateNotFoundException e) {
             logger.error("Candidate not found: {}", e.getMessage());
@@ -360,6 +704,28 @@ public class CandidateController {
     }
 
 
+    // True if Accept-Encoding lists gzip without refusing it (q=0)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equalsIgnoreCase("x-gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     @PostMapping("/interview-schedule/{userId}")
     public ResponseEntity<InterviewResponseDto> scheduleInterview(
             @PathVariable String userId,
@@ -425,6 +791,15 @@ public class CandidateController {
                     null,
                     null
             ));
+        } catch (InterviewSlotConflictException e) {
+            // The recruiter or client already has an interview at that time; errors carry the clashes and free slots
+            logger.warn("Interview slot conflict for candidateId {}: {}", interviewRequest.getCandidateId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new InterviewResponseDto(
+                    false,
+                    e.getMessage(),
+                    null,
+                    e.getAvailability()
+            ));
         } catch (Exception e) {
             // Log unexpected errors and return 500
             logger.error("Error while scheduling interview: {}", e.getMessage());
@@ -499,6 +874,11 @@ public class CandidateController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new InterviewResponseDto(
                     false, "No scheduled interview found for this candidate.", null, null
             ));
+        } catch (InterviewSlotConflictException e) {
+            logger.warn("Interview slot conflict for candidateId {}: {}", candidateId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new InterviewResponseDto(
+                    false, e.getMessage(), null, e.getAvailability()
+            ));
         } catch (Exception e) {
             logger.error("Error while updating interview: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new InterviewResponseDto(
@@ -508,6 +888,125 @@ public class CandidateController {
     }
 
 
+    // Free/busy check, e.g. /interview-slots/availability?userEmail=a@x.com&start=2025-03-01T10:00:00%2B05:30&duration=45
+    @GetMapping("/interview-slots/availability")
+    public ResponseEntity<InterviewSlotAvailabilityDto> getInterviewSlotAvailability(
+            @RequestParam(value = "userEmail", required = false) String userEmail,
+            @RequestParam(value = "clientEmail", required = false) String clientEmail,
+            @RequestParam(value = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+            @RequestParam(value = "duration", required = false) Integer duration,
+            @RequestParam(value = "excludeCandidateId", required = false) String excludeCandidateId,
+            @RequestParam(value = "suggestions", required = false) Integer suggestions) {
+        try {
+            return ResponseEntity.ok(candidateService.getInterviewSlotAvailability(userEmail, clientEmail, start,
+                    duration, excludeCandidateId, suggestions));
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid interview slot availability request: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            logger.error("An error occurred while checking interview slot availability: {}", ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Schedules the candidate's next interview round once the current one has an outcome
+    @PostMapping("/interview-rounds/{userId}/{candidateId}")
+    public ResponseEntity<InterviewResponseDto> scheduleNextInterviewRound(
+            @PathVariable String userId,
+            @PathVariable String candidateId,
+            @RequestBody InterviewDto interviewRequest) {
+        try {
+            logger.info("Received next interview round request for userId: {} and candidateId: {}", userId, candidateId);
+            InterviewResponseDto response = candidateService.scheduleNextInterviewRound(
+                    userId,
+                    candidateId,
+                    interviewRequest.getInterviewDateTime(),
+                    interviewRequest.getDuration(),
+                    interviewRequest.getZoomLink(),
+                    interviewRequest.getUserEmail(),
+                    interviewRequest.getClientEmail(),
+                    interviewRequest.getClientName(),
+                    interviewRequest.getInterviewLevel(),
+                    interviewRequest.getExternalInterviewDetails());
+            return ResponseEntity.ok(response);
+        } catch (CandidateNotFoundException e) {
+            logger.error("Candidate not found for userId: {}", userId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new InterviewResponseDto(
+                    false, "Candidate not found for the User Id.", null, null
+            ));
+        } catch (InterviewAlreadyScheduledException e) {
+            logger.warn("Next interview round rejected for candidateId {}: {}", candidateId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new InterviewResponseDto(
+                    false, e.getMessage(), null, null
+            ));
+        } catch (InterviewSlotConflictException e) {
+            logger.warn("Interview slot conflict for candidateId {}: {}", candidateId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new InterviewResponseDto(
+                    false, e.getMessage(), null, e.getAvailability()
+            ));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid next interview round request for candidateId {}: {}", candidateId, e.getMessage());
+            return ResponseEntity.badRequest().body(new InterviewResponseDto(
+                    false, e.getMessage(), null, null
+            ));
+        } catch (Exception e) {
+            logger.error("Error while scheduling the next interview round: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new InterviewResponseDto(
+                    false, "An error occurred while scheduling the interview round.", null, null
+            ));
+        }
+    }
+
+    // Every interview round of a candidate, first round first, with feedback and status history
+    @GetMapping("/interview-rounds/candidate/{candidateId}")
+    public ResponseEntity<List<InterviewRoundDto>> getInterviewRounds(@PathVariable String candidateId) {
+        try {
+            return ResponseEntity.ok(candidateService.getInterviewRounds(candidateId));
+        } catch (CandidateNotFoundException ex) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (Exception ex) {
+            logger.error("An error occurred while fetching interview rounds for candidateId {}: {}", candidateId, ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Interview rounds of a user and/or within a time window [from, to), e.g. /interview-rounds?userId=U1&from=...
+    @GetMapping("/interview-rounds")
+    public ResponseEntity<List<InterviewRoundDto>> getInterviewRounds(
+            @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        try {
+            return ResponseEntity.ok(candidateService.getInterviewRounds(userId, from, to));
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid interview rounds request: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            logger.error("An error occurred while fetching interview rounds: {}", ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // Interviewer feedback, and optionally the outcome (interviewStatus), of one interview round
+    @PutMapping("/interview-feedback/{userId}/{interviewId}")
+    public ResponseEntity<InterviewRoundDto> recordInterviewFeedback(
+            @PathVariable String userId,
+            @PathVariable Long interviewId,
+            @RequestBody InterviewFeedbackDto feedback) {
+        try {
+            return ResponseEntity.ok(candidateService.recordInterviewFeedback(userId, interviewId, feedback));
+        } catch (InterviewNotScheduledException | CandidateNotFoundException ex) {
+            logger.error("Interview round {} not found for userId {}: {}", interviewId, userId, ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid feedback for interview round {}: {}", interviewId, ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception ex) {
+            logger.error("An error occurred while recording feedback for interview round {}: {}", interviewId, ex.getMessage(), ex);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("/interviews/{userId}")
     public ResponseEntity<List<GetInterviewResponseDto>> getAllScheduledInterviews(
             @PathVariable String userId) {
@@ -528,18 +1027,72 @@ public class CandidateController {
         }
     }
 
-    // Endpoint to fetch all scheduled interviews (no userId filter)
+    // Endpoint to fetch all scheduled interviews (no userId filter), optionally within a time window [from, to)
     @GetMapping("/allscheduledinterviews")
-    public ResponseEntity<List<GetInterviewResponseDto>> getAllScheduledInterviews() {
+    public ResponseEntity<List<GetInterviewResponseDto>> getAllScheduledInterviews(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
         try {
-            List<GetInterviewResponseDto> interviews = candidateService.getAllScheduledInterviews();
+            List<GetInterviewResponseDto> interviews = candidateService.getAllScheduledInterviews(from, to);
             return ResponseEntity.ok(interviews);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Invalid interview window: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception ex) {
             // Handle exceptions
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    // Streaming exports for reporting: rows are written as they are read, as NDJSON (default) or
+    // CSV, optionally gzip-compressed (Content-Encoding: gzip)
+    @GetMapping("/export/submissions")
+    public ResponseEntity<StreamingResponseBody> exportSubmissions(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        RecordFormat recordFormat;
+        try {
+            recordFormat = RecordFormat.ofName(format);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Rejected submissions export: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        StreamingResponseBody body = out -> candidateExportService.exportSubmissions(recordFormat, gzip, out);
+        return exportResponse("submissions", recordFormat, gzip, body);
+    }
+
+    @GetMapping("/export/interviews")
+    public ResponseEntity<StreamingResponseBody> exportScheduledInterviews(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        RecordFormat recordFormat;
+        try {
+            recordFormat = RecordFormat.ofName(format);
+        } catch (IllegalArgumentException ex) {
+            logger.error("Rejected interviews export: {}", ex.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            logger.error("Invalid interview window: from {} is not before to {}", from, to);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        StreamingResponseBody body = out -> candidateExportService.exportScheduledInterviews(from, to, recordFormat, gzip, out);
+        return exportResponse("interviews", recordFormat, gzip, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, RecordFormat format, boolean gzip,
+                                                                 StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @DeleteMapping("/deleteinterview/{candidateId}")
     public ResponseEntity<DeleteInterviewResponseDto> deleteInterview(@PathVariable String candidateId) {
         try {
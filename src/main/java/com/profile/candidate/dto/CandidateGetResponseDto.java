@@ -2,6 +2,9 @@ package com.profile.candidate.dto;
 
 import com.profile.candidate.model.CandidateDetails;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
 public class CandidateGetResponseDto {
 
     private String candidateId;
@@ -25,6 +28,9 @@ public class CandidateGetResponseDto {
     private String overallFeedback;
     private String userEmail;
     private String interviewStatus = "Not Scheduled";
+    private LocalDate profileReceivedDate;
+    // Optimistic-lock version; send it back as If-Match when patching the candidate
+    private long version;
 
 
 
@@ -52,6 +58,42 @@ public class CandidateGetResponseDto {
         this.overallFeedback = candidate.getOverallFeedback();
         this.userEmail = candidate.getUserEmail();
         this.interviewStatus= determineInterviewStatus(candidate);
+        this.profileReceivedDate = candidate.getProfileReceivedDate();
+        this.version = candidate.getVersion();
+    }
+
+    // Constructor used by JPQL projections, so listing queries select only these columns
+    public CandidateGetResponseDto(String candidateId, String jobId, String userId, String fullName,
+                                   String emailId, String contactNumber, String currentOrganization,
+                                   String qualification, float totalExperience, float relevantExperience,
+                                   String currentCTC, String expectedCTC, String noticePeriod,
+                                   String currentLocation, String preferredLocation, String skills,
+                                   String communicationSkills, Double requiredTechnologiesRating,
+                                   String overallFeedback, String userEmail,
+                                   OffsetDateTime interviewDateTime, LocalDate profileReceivedDate, long version) {
+        this.candidateId = candidateId;
+        this.jobId = jobId;
+        this.userId = userId;
+        this.fullName = fullName;
+        this.emailId = emailId;
+        this.contactNumber = contactNumber;
+        this.currentOrganization = currentOrganization;
+        this.qualification = qualification;
+        this.totalExperience = totalExperience;
+        this.relevantExperience = relevantExperience;
+        this.currentCTC = currentCTC;
+        this.expectedCTC = expectedCTC;
+        this.noticePeriod = noticePeriod;
+        this.currentLocation = currentLocation;
+        this.preferredLocation = preferredLocation;
+        this.skills = skills;
+        this.communicationSkills = communicationSkills;
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+        this.overallFeedback = overallFeedback;
+        this.userEmail = userEmail;
+        this.interviewStatus = interviewDateTime == null ? "Not Scheduled" : "Scheduled";
+        this.profileReceivedDate = profileReceivedDate;
+        this.version = version;
     }
 
     // Method to determine interview status
@@ -230,4 +272,20 @@ public class CandidateGetResponseDto {
     public void setInterviewStatus(String interviewStatus) {
         this.interviewStatus = interviewStatus;
     }
+
+    public LocalDate getProfileReceivedDate() {
+        return profileReceivedDate;
+    }
+
+    public void setProfileReceivedDate(LocalDate profileReceivedDate) {
+        this.profileReceivedDate = profileReceivedDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,56 @@
+package com.profile.candidate.dto;
+
+/**
+ * Outcome of one imported record, streamed back as one JSON line per record.
+ */
+public class CandidateImportResultDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";   // Already submitted, or repeated earlier in the same import
+    public static final String INVALID = "INVALID";       // Failed validation; nothing was written
+    public static final String FAILED = "FAILED";         // Could not be read or written
+
+    private long row;              // 1-based record number, not counting the CSV header
+    private String status;
+    private String candidateId;    // Set for CREATED rows
+    private String message;
+
+    public CandidateImportResultDto(long row, String status, String candidateId, String message) {
+        this.row = row;
+        this.status = status;
+        this.candidateId = candidateId;
+        this.message = message;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public void setRow(long row) {
+        this.row = row;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
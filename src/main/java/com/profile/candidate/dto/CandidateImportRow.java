@@ -0,0 +1,208 @@
+package com.profile.candidate.dto;
+
+/**
+ * One record of a bulk candidate import, as read from a CSV row (by header name) or a JSON line.
+ * Every value is kept as text so that a malformed number is reported for its row instead of
+ * failing the whole stream.
+ */
+public class CandidateImportRow {
+
+    private String jobId;
+    private String userId;
+    private String fullName;
+    private String candidateEmailId;
+    private String contactNumber;
+    private String qualification;
+    private String totalExperience;            // Parsed as a number
+    private String relevantExperience;         // Parsed as a number
+    private String currentCTC;
+    private String expectedCTC;
+    private String noticePeriod;
+    private String currentLocation;
+    private String preferredLocation;
+    private String skills;
+    private String communicationSkills;
+    private String requiredTechnologiesRating; // Parsed as a number
+    private String overallFeedback;
+    private String currentOrganization;
+    private String userEmail;
+    private String clientName;
+    private String clientEmail;
+    private String resumeFile;                 // Entry name in the resumes ZIP
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getCandidateEmailId() {
+        return candidateEmailId;
+    }
+
+    public void setCandidateEmailId(String candidateEmailId) {
+        this.candidateEmailId = candidateEmailId;
+    }
+
+    public String getContactNumber() {
+        return contactNumber;
+    }
+
+    public void setContactNumber(String contactNumber) {
+        this.contactNumber = contactNumber;
+    }
+
+    public String getQualification() {
+        return qualification;
+    }
+
+    public void setQualification(String qualification) {
+        this.qualification = qualification;
+    }
+
+    public String getTotalExperience() {
+        return totalExperience;
+    }
+
+    public void setTotalExperience(String totalExperience) {
+        this.totalExperience = totalExperience;
+    }
+
+    public String getRelevantExperience() {
+        return relevantExperience;
+    }
+
+    public void setRelevantExperience(String relevantExperience) {
+        this.relevantExperience = relevantExperience;
+    }
+
+    public String getCurrentCTC() {
+        return currentCTC;
+    }
+
+    public void setCurrentCTC(String currentCTC) {
+        this.currentCTC = currentCTC;
+    }
+
+    public String getExpectedCTC() {
+        return expectedCTC;
+    }
+
+    public void setExpectedCTC(String expectedCTC) {
+        this.expectedCTC = expectedCTC;
+    }
+
+    public String getNoticePeriod() {
+        return noticePeriod;
+    }
+
+    public void setNoticePeriod(String noticePeriod) {
+        this.noticePeriod = noticePeriod;
+    }
+
+    public String getCurrentLocation() {
+        return currentLocation;
+    }
+
+    public void setCurrentLocation(String currentLocation) {
+        this.currentLocation = currentLocation;
+    }
+
+    public String getPreferredLocation() {
+        return preferredLocation;
+    }
+
+    public void setPreferredLocation(String preferredLocation) {
+        this.preferredLocation = preferredLocation;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public String getCommunicationSkills() {
+        return communicationSkills;
+    }
+
+    public void setCommunicationSkills(String communicationSkills) {
+        this.communicationSkills = communicationSkills;
+    }
+
+    public String getRequiredTechnologiesRating() {
+        return requiredTechnologiesRating;
+    }
+
+    public void setRequiredTechnologiesRating(String requiredTechnologiesRating) {
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+    }
+
+    public String getOverallFeedback() {
+        return overallFeedback;
+    }
+
+    public void setOverallFeedback(String overallFeedback) {
+        this.overallFeedback = overallFeedback;
+    }
+
+    public String getCurrentOrganization() {
+        return currentOrganization;
+    }
+
+    public void setCurrentOrganization(String currentOrganization) {
+        this.currentOrganization = currentOrganization;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public void setClientName(String clientName) {
+        this.clientName = clientName;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    public void setClientEmail(String clientEmail) {
+        this.clientEmail = clientEmail;
+    }
+
+    public String getResumeFile() {
+        return resumeFile;
+    }
+
+    public void setResumeFile(String resumeFile) {
+        this.resumeFile = resumeFile;
+    }
+}
@@ -0,0 +1,80 @@
+package com.profile.candidate.dto;
+
+/**
+ * Totals of a bulk candidate import, written as the last line of the result stream.
+ */
+public class CandidateImportSummaryDto {
+
+    private boolean summary = true;   // Tells the summary line apart from the per-row lines
+    private long total;
+    private long created;
+    private long duplicate;
+    private long invalid;
+    private long failed;
+    private long elapsedMillis;
+
+    public CandidateImportSummaryDto(long total, long created, long duplicate, long invalid, long failed, long elapsedMillis) {
+        this.total = total;
+        this.created = created;
+        this.duplicate = duplicate;
+        this.invalid = invalid;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isSummary() {
+        return summary;
+    }
+
+    public void setSummary(boolean summary) {
+        this.summary = summary;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getDuplicate() {
+        return duplicate;
+    }
+
+    public void setDuplicate(long duplicate) {
+        this.duplicate = duplicate;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(long invalid) {
+        this.invalid = invalid;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
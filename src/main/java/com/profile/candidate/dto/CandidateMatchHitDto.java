@@ -0,0 +1,100 @@
+package com.profile.candidate.dto;
+
+import java.util.List;
+
+public class CandidateMatchHitDto {
+
+    private String candidateId;
+    private float score;  // 0..1; higher is a better fit
+    private String fullName;
+    private String jobId;
+    private String userId;
+    private List<String> matchedSkills;  // Required and preferred skills the candidate has
+    private float totalExperience;
+    private Integer noticeDays;  // Null when the notice period could not be read
+    private Float expectedCtcLakhs;  // Null when the expected CTC could not be read
+
+    public CandidateMatchHitDto(String candidateId, float score, String fullName, String jobId, String userId, List<String> matchedSkills, float totalExperience, Integer noticeDays, Float expectedCtcLakhs) {
+        this.candidateId = candidateId;
+        this.score = score;
+        this.fullName = fullName;
+        this.jobId = jobId;
+        this.userId = userId;
+        this.matchedSkills = matchedSkills;
+        this.totalExperience = totalExperience;
+        this.noticeDays = noticeDays;
+        this.expectedCtcLakhs = expectedCtcLakhs;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public float getTotalExperience() {
+        return totalExperience;
+    }
+
+    public void setTotalExperience(float totalExperience) {
+        this.totalExperience = totalExperience;
+    }
+
+    public Integer getNoticeDays() {
+        return noticeDays;
+    }
+
+    public void setNoticeDays(Integer noticeDays) {
+        this.noticeDays = noticeDays;
+    }
+
+    public Float getExpectedCtcLakhs() {
+        return expectedCtcLakhs;
+    }
+
+    public void setExpectedCtcLakhs(Float expectedCtcLakhs) {
+        this.expectedCtcLakhs = expectedCtcLakhs;
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.dto;
+
+import java.util.List;
+
+public class CandidateMatchResponseDto {
+
+    private String jobId;
+    private String scope;  // "job": the job's submissions, "all": the whole candidate pool
+    private long total;  // Candidates passing the constraints, not just the returned hits
+    private List<CandidateMatchHitDto> hits;  // Best first
+
+    public CandidateMatchResponseDto(String jobId, String scope, long total, List<CandidateMatchHitDto> hits) {
+        this.jobId = jobId;
+        this.scope = scope;
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<CandidateMatchHitDto> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<CandidateMatchHitDto> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.dto;
+
+import java.util.List;
+
+public class CandidatePageResponseDto {
+
+    private List<CandidateGetResponseDto> content;  // Submissions on this page
+    private int size;                               // Number of submissions on this page
+    private boolean hasMore;                        // Whether another page follows
+    private String nextCursor;                      // Pass as "cursor" to fetch the next page, null on the last page
+
+    public CandidatePageResponseDto(List<CandidateGetResponseDto> content, boolean hasMore, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CandidateGetResponseDto> getContent() {
+        return content;
+    }
+
+    public void setContent(List<CandidateGetResponseDto> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
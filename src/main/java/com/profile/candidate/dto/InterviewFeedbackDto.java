@@ -0,0 +1,44 @@
+package com.profile.candidate.dto;
+
+public class InterviewFeedbackDto {
+
+    private String communicationSkills;
+    private Double requiredTechnologiesRating;  // 0 to 5
+    private String overallFeedback;             // At most 500 characters
+    private String interviewStatus;             // Optional outcome, e.g. SELECTED or REJECTED
+
+    public InterviewFeedbackDto() {
+    }
+
+    public String getCommunicationSkills() {
+        return communicationSkills;
+    }
+
+    public void setCommunicationSkills(String communicationSkills) {
+        this.communicationSkills = communicationSkills;
+    }
+
+    public Double getRequiredTechnologiesRating() {
+        return requiredTechnologiesRating;
+    }
+
+    public void setRequiredTechnologiesRating(Double requiredTechnologiesRating) {
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+    }
+
+    public String getOverallFeedback() {
+        return overallFeedback;
+    }
+
+    public void setOverallFeedback(String overallFeedback) {
+        this.overallFeedback = overallFeedback;
+    }
+
+    public String getInterviewStatus() {
+        return interviewStatus;
+    }
+
+    public void setInterviewStatus(String interviewStatus) {
+        this.interviewStatus = interviewStatus;
+    }
+}
@@ -0,0 +1,216 @@
+package com.profile.candidate.dto;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class InterviewRoundDto {
+
+    private Long interviewId;
+    private String candidateId;
+    private String userId;
+    private String jobId;
+    private int roundNumber;                         // 1 for the first interview, then 2, 3, ...
+    private OffsetDateTime interviewDateTime;
+    private Integer duration;                        // Minutes
+    private String zoomLink;
+    private String userEmail;
+    private String clientEmail;
+    private String clientName;
+    private String interviewLevel;
+    private String status;
+    private String communicationSkills;
+    private Double requiredTechnologiesRating;
+    private String overallFeedback;
+    private LocalDateTime feedbackAt;                // Null until feedback is recorded
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<InterviewStatusChangeDto> history;  // Oldest first; only filled for a single candidate's rounds
+
+    // Constructor used by the JPQL projections in InterviewRepository
+    public InterviewRoundDto(Long interviewId, String candidateId, String userId, String jobId, int roundNumber,
+                             OffsetDateTime interviewDateTime, Integer duration, String zoomLink, String userEmail,
+                             String clientEmail, String clientName, String interviewLevel, String status,
+                             String communicationSkills, Double requiredTechnologiesRating, String overallFeedback,
+                             LocalDateTime feedbackAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.interviewId = interviewId;
+        this.candidateId = candidateId;
+        this.userId = userId;
+        this.jobId = jobId;
+        this.roundNumber = roundNumber;
+        this.interviewDateTime = interviewDateTime;
+        this.duration = duration;
+        this.zoomLink = zoomLink;
+        this.userEmail = userEmail;
+        this.clientEmail = clientEmail;
+        this.clientName = clientName;
+        this.interviewLevel = interviewLevel;
+        this.status = status;
+        this.communicationSkills = communicationSkills;
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+        this.overallFeedback = overallFeedback;
+        this.feedbackAt = feedbackAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    public void setRoundNumber(int roundNumber) {
+        this.roundNumber = roundNumber;
+    }
+
+    public OffsetDateTime getInterviewDateTime() {
+        return interviewDateTime;
+    }
+
+    public void setInterviewDateTime(OffsetDateTime interviewDateTime) {
+        this.interviewDateTime = interviewDateTime;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Integer duration) {
+        this.duration = duration;
+    }
+
+    public String getZoomLink() {
+        return zoomLink;
+    }
+
+    public void setZoomLink(String zoomLink) {
+        this.zoomLink = zoomLink;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    public void setClientEmail(String clientEmail) {
+        this.clientEmail = clientEmail;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public void setClientName(String clientName) {
+        this.clientName = clientName;
+    }
+
+    public String getInterviewLevel() {
+        return interviewLevel;
+    }
+
+    public void setInterviewLevel(String interviewLevel) {
+        this.interviewLevel = interviewLevel;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCommunicationSkills() {
+        return communicationSkills;
+    }
+
+    public void setCommunicationSkills(String communicationSkills) {
+        this.communicationSkills = communicationSkills;
+    }
+
+    public Double getRequiredTechnologiesRating() {
+        return requiredTechnologiesRating;
+    }
+
+    public void setRequiredTechnologiesRating(Double requiredTechnologiesRating) {
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+    }
+
+    public String getOverallFeedback() {
+        return overallFeedback;
+    }
+
+    public void setOverallFeedback(String overallFeedback) {
+        this.overallFeedback = overallFeedback;
+    }
+
+    public LocalDateTime getFeedbackAt() {
+        return feedbackAt;
+    }
+
+    public void setFeedbackAt(LocalDateTime feedbackAt) {
+        this.feedbackAt = feedbackAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<InterviewStatusChangeDto> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<InterviewStatusChangeDto> history) {
+        this.history = history;
+    }
+}
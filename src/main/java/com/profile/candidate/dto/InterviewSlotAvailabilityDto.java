@@ -0,0 +1,62 @@
+package com.profile.candidate.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class InterviewSlotAvailabilityDto {
+
+    private boolean available;
+    private OffsetDateTime start;
+    private OffsetDateTime end;
+    private List<InterviewSlotDto> conflicts;     // Interviews overlapping [start, end)
+    private List<OffsetDateTime> suggestions;     // Nearest free start times at or after start
+
+    public InterviewSlotAvailabilityDto(boolean available, OffsetDateTime start, OffsetDateTime end,
+                                        List<InterviewSlotDto> conflicts, List<OffsetDateTime> suggestions) {
+        this.available = available;
+        this.start = start;
+        this.end = end;
+        this.conflicts = conflicts;
+        this.suggestions = suggestions;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public OffsetDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(OffsetDateTime start) {
+        this.start = start;
+    }
+
+    public OffsetDateTime getEnd() {
+        return end;
+    }
+
+    public void setEnd(OffsetDateTime end) {
+        this.end = end;
+    }
+
+    public List<InterviewSlotDto> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<InterviewSlotDto> conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public List<OffsetDateTime> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<OffsetDateTime> suggestions) {
+        this.suggestions = suggestions;
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.dto;
+
+import java.time.OffsetDateTime;
+
+public class InterviewSlotDto {
+
+    private String candidateId;       // Candidate whose interview occupies the slot
+    private String resource;          // "recruiter" or "client": whose calendar it clashes with
+    private OffsetDateTime start;
+    private OffsetDateTime end;
+
+    public InterviewSlotDto(String candidateId, String resource, OffsetDateTime start, OffsetDateTime end) {
+        this.candidateId = candidateId;
+        this.resource = resource;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(String resource) {
+        this.resource = resource;
+    }
+
+    public OffsetDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(OffsetDateTime start) {
+        this.start = start;
+    }
+
+    public OffsetDateTime getEnd() {
+        return end;
+    }
+
+    public void setEnd(OffsetDateTime end) {
+        this.end = end;
+    }
+}
@@ -0,0 +1,62 @@
+package com.profile.candidate.dto;
+
+import java.time.LocalDateTime;
+
+public class InterviewStatusChangeDto {
+
+    private Long interviewId;
+    private String fromStatus;        // Null for the status the round was created with
+    private String toStatus;
+    private String changedBy;         // userId of the request
+    private LocalDateTime changedAt;
+
+    // Constructor used by the JPQL projections in InterviewStatusChangeRepository
+    public InterviewStatusChangeDto(Long interviewId, String fromStatus, String toStatus, String changedBy,
+                                    LocalDateTime changedAt) {
+        this.interviewId = interviewId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedBy = changedBy;
+        this.changedAt = changedAt;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,172 @@
+package com.profile.candidate.dto;
+
+import java.time.LocalDateTime;
+
+public class ResumeMigrationStatusDto {
+
+    private String state;                  // NOT_STARTED, RUNNING, PAUSED or COMPLETED
+    private String runningOn;              // Node holding the migration lease while it runs
+    private String lastCandidateId;        // Checkpoint: everything up to here has been processed
+    private long migrated;                 // Resumes copied to resume storage and cleared from candidates
+    private long superseded;               // Old resumes cleared because a newer upload exists
+    private long failed;                   // Left in place after an error
+    private long bytesMigrated;
+    private Long remaining;                // Candidates past the checkpoint still holding a resume
+    private double rowsPerSecond;          // Observed in the current run
+    private double bytesPerSecond;
+    private Long etaSeconds;               // At the observed rate; null when not running
+    private LocalDateTime estimatedCompletion;
+    private double maxRowsPerSecond;       // Current throttle settings
+    private long maxBytesPerSecond;
+    private int batchSize;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public ResumeMigrationStatusDto() {
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getRunningOn() {
+        return runningOn;
+    }
+
+    public void setRunningOn(String runningOn) {
+        this.runningOn = runningOn;
+    }
+
+    public String getLastCandidateId() {
+        return lastCandidateId;
+    }
+
+    public void setLastCandidateId(String lastCandidateId) {
+        this.lastCandidateId = lastCandidateId;
+    }
+
+    public long getMigrated() {
+        return migrated;
+    }
+
+    public void setMigrated(long migrated) {
+        this.migrated = migrated;
+    }
+
+    public long getSuperseded() {
+        return superseded;
+    }
+
+    public void setSuperseded(long superseded) {
+        this.superseded = superseded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getBytesMigrated() {
+        return bytesMigrated;
+    }
+
+    public void setBytesMigrated(long bytesMigrated) {
+        this.bytesMigrated = bytesMigrated;
+    }
+
+    public Long getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(Long remaining) {
+        this.remaining = remaining;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public void setBytesPerSecond(double bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public Long getEtaSeconds() {
+        return etaSeconds;
+    }
+
+    public void setEtaSeconds(Long etaSeconds) {
+        this.etaSeconds = etaSeconds;
+    }
+
+    public LocalDateTime getEstimatedCompletion() {
+        return estimatedCompletion;
+    }
+
+    public void setEstimatedCompletion(LocalDateTime estimatedCompletion) {
+        this.estimatedCompletion = estimatedCompletion;
+    }
+
+    public double getMaxRowsPerSecond() {
+        return maxRowsPerSecond;
+    }
+
+    public void setMaxRowsPerSecond(double maxRowsPerSecond) {
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    public long getMaxBytesPerSecond() {
+        return maxBytesPerSecond;
+    }
+
+    public void setMaxBytesPerSecond(long maxBytesPerSecond) {
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
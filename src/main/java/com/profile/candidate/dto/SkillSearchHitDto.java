@@ -0,0 +1,58 @@
+package com.profile.candidate.dto;
+
+public class SkillSearchHitDto {
+
+    private String candidateId;
+    private float score;       // BM25 relevance; higher is better
+    private String fullName;
+    private String jobId;
+    private String userId;
+
+    public SkillSearchHitDto(String candidateId, float score, String fullName, String jobId, String userId) {
+        this.candidateId = candidateId;
+        this.score = score;
+        this.fullName = fullName;
+        this.jobId = jobId;
+        this.userId = userId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.dto;
+
+import java.util.List;
+
+public class SkillSearchResponseDto {
+
+    private String query;
+    private String mode;                    // "ranked" or "boolean"
+    private long total;                     // All matching candidates, not just the returned hits
+    private List<SkillSearchHitDto> hits;   // Best first
+
+    public SkillSearchResponseDto(String query, String mode, long total, List<SkillSearchHitDto> hits) {
+        this.query = query;
+        this.mode = mode;
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<SkillSearchHitDto> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<SkillSearchHitDto> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,50 @@
+package com.profile.candidate.dto;
+
+import java.util.Map;
+
+public class SubmissionCountsDto {
+
+    private String userId;
+    private long submitted;               // All submissions of the user
+    private long scheduled;               // Submissions with an interview date/time
+    private Map<String, Long> byStatus;   // Submissions per interview status
+
+    public SubmissionCountsDto(String userId, long submitted, long scheduled, Map<String, Long> byStatus) {
+        this.userId = userId;
+        this.submitted = submitted;
+        this.scheduled = scheduled;
+        this.byStatus = byStatus;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    public void setScheduled(long scheduled) {
+        this.scheduled = scheduled;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+}
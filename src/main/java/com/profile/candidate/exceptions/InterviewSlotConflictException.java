@@ -0,0 +1,19 @@
+package com.profile.candidate.exceptions;
+
+import com.profile.candidate.dto.InterviewSlotAvailabilityDto;
+
+// The requested interview time overlaps another interview of the same recruiter or client
+public class InterviewSlotConflictException extends RuntimeException {
+
+    private final InterviewSlotAvailabilityDto availability;
+
+    public InterviewSlotConflictException(String message, InterviewSlotAvailabilityDto availability) {
+        super(message);
+        this.availability = availability;
+    }
+
+    // The clashing interviews and the nearest free start times
+    public InterviewSlotAvailabilityDto getAvailability() {
+        return availability;
+    }
+}
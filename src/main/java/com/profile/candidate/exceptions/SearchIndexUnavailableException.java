@@ -0,0 +1,9 @@
+package com.profile.candidate.exceptions;
+
+
+public class SearchIndexUnavailableException extends RuntimeException {
+
+    public SearchIndexUnavailableException(String message) {
+        super(message);
+    }
+}
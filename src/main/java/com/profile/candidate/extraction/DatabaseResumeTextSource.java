@@ -0,0 +1,26 @@
+package com.profile.candidate.extraction;
+
+import com.profile.candidate.repository.ResumeTextRepository;
+import com.profile.candidate.search.ResumeTextSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Serves extracted resume text to the skill search index from the resume_texts table, which
+ * every replica shares.
+ */
+@Component
+public class DatabaseResumeTextSource implements ResumeTextSource {
+
+    private final ResumeTextRepository resumeTextRepository;
+
+    public DatabaseResumeTextSource(ResumeTextRepository resumeTextRepository) {
+        this.resumeTextRepository = resumeTextRepository;
+    }
+
+    @Override
+    public Optional<String> findText(String contentHash) {
+        return resumeTextRepository.findExtractedText(contentHash);
+    }
+}
@@ -0,0 +1,24 @@
+package com.profile.candidate.extraction;
+
+/**
+ * Text pulled out of a resume file, whitespace-normalised and capped in length.
+ */
+public class ExtractedText {
+
+    private final String text;
+    private final boolean truncated;
+
+    public ExtractedText(String text, boolean truncated) {
+        this.text = text;
+        this.truncated = truncated;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    // True when the document held more text than the configured maximum
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,237 @@
+package com.profile.candidate.extraction;
+
+import com.profile.candidate.model.ResumeText;
+import com.profile.candidate.repository.PendingResumeText;
+import com.profile.candidate.repository.ResumeBlobInfo;
+import com.profile.candidate.repository.ResumeBlobRepository;
+import com.profile.candidate.repository.ResumeTextRepository;
+import com.profile.candidate.search.SkillSearchIndex;
+import com.profile.candidate.service.CandidateChangedEvent;
+import com.profile.candidate.storage.ResumeStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extracts resume text in the background after uploads commit.
+ *
+ * Each submit or resubmit hands one task to a small worker pool with a bounded queue. The
+ * request thread never parses and never waits: when the queue is full (a bulk import, say) the
+ * task is dropped and counted, and a periodic sweep later finds every stored file that still
+ * has no resume_texts row and feeds it in as capacity frees up. The same sweep extracts files
+ * uploaded before this pipeline existed.
+ *
+ * Results are keyed by content hash, so re-uploading a file that was already extracted costs
+ * one primary-key lookup and no parsing. Once a file's text is saved, every candidate using it
+ * is reindexed for skill search.
+ */
+@Component
+public class ResumeTextExtractionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeTextExtractionPipeline.class);
+
+    private final ResumeBlobRepository resumeBlobRepository;
+    private final ResumeTextRepository resumeTextRepository;
+    private final ResumeStorage resumeStorage;
+    private final ResumeTextExtractor extractor;
+    private final SkillSearchIndex skillSearchIndex;
+    private final ThreadPoolExecutor workerPool;
+    private final ArrayBlockingQueue<Runnable> queue;
+
+    // Hashes queued or being extracted on this node, so the sweep and a re-upload don't parse the same file twice
+    private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+
+    // Set when the last sweep filled the queue, i.e. more files are probably waiting
+    private final AtomicBoolean backlog = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter droppedCounter;
+    private final Timer extractionTimer;
+
+    public ResumeTextExtractionPipeline(ResumeBlobRepository resumeBlobRepository,
+                                        ResumeTextRepository resumeTextRepository,
+                                        ResumeStorage resumeStorage,
+                                        ResumeTextExtractor extractor,
+                                        SkillSearchIndex skillSearchIndex,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${candidate.extraction.worker-threads:2}") int workerThreads,
+                                        @Value("${candidate.extraction.queue-capacity:200}") int queueCapacity) {
+        this.resumeBlobRepository = resumeBlobRepository;
+        this.resumeTextRepository = resumeTextRepository;
+        this.resumeStorage = resumeStorage;
+        this.extractor = extractor;
+        this.skillSearchIndex = skillSearchIndex;
+        this.meterRegistry = meterRegistry;
+
+        // Parsing is CPU and memory heavy, so the pool stays small and the queue bounded; a full
+        // queue rejects (AbortPolicy) instead of running the parse on the uploading thread
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerPool = new ThreadPoolExecutor(workerThreads, workerThreads, 60, TimeUnit.SECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "resume-text-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("candidate.extraction.queue.depth", queue, ArrayBlockingQueue::size)
+                .description("Resume text extractions waiting for a worker")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("candidate.extraction.dropped")
+                .description("Extractions not queued because the queue was full; the sweep picks them up later")
+                .register(meterRegistry);
+        this.extractionTimer = Timer.builder("candidate.extraction.duration")
+                .description("Time to read and parse one resume file")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    // After commit, so the worker sees the new resume_blobs row; deletions leave shared text in place
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        if (event.getChangeType() == CandidateChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        String candidateId = event.getCandidateId();
+        // The resume lookup happens on the worker too, so the request thread only enqueues
+        offer(() -> resumeBlobRepository.findInfoByCandidateId(candidateId)
+                .filter(info -> info.getContentHash() != null && claimed.add(info.getContentHash()))
+                .ifPresent(info -> extract(info.getContentHash(), info.getContentType())));
+    }
+
+    /**
+     * Queues stored files that have no extraction yet, as many as the queue has room for.
+     * While a backlog remains, the worker that drains the queue runs the next sweep itself
+     * rather than waiting for the schedule, so catching up on a bulk load keeps every worker busy.
+     * Runs on every node; a file picked up by two nodes at once is parsed twice but stored once.
+     */
+    @Scheduled(fixedDelayString = "${candidate.extraction.sweep-interval-ms:30000}",
+            initialDelayString = "${candidate.extraction.sweep-initial-delay-ms:60000}")
+    public void sweepPending() {
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        try {
+            // Fetch beyond the free room so files already claimed here don't starve the rest
+            List<PendingResumeText> pending = resumeTextRepository.findPending(Limit.of(room + claimed.size()));
+            int queued = 0;
+            for (PendingResumeText file : pending) {
+                String contentHash = file.getContentHash();
+                if (!claimed.add(contentHash)) {
+                    continue;
+                }
+                if (!offer(() -> extract(contentHash, file.getContentType()))) {
+                    claimed.remove(contentHash);
+                    break;
+                }
+                queued++;
+            }
+            backlog.set(queued > 0 && queued >= room);
+            if (queued > 0) {
+                logger.debug("Queued {} stored resumes without extracted text", queued);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Resume text sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean offer(Runnable task) {
+        try {
+            workerPool.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            return false;
+        }
+    }
+
+    // The caller has claimed contentHash; the claim is released here
+    private void extract(String contentHash, String contentType) {
+        try {
+            if (resumeTextRepository.existsById(contentHash)) {
+                return;  // Same file uploaded before: nothing to parse
+            }
+            ResumeText result = parse(contentHash, contentType);
+            try {
+                resumeTextRepository.save(result);
+            } catch (DataIntegrityViolationException e) {
+                return;  // Another node stored it first
+            }
+            meterRegistry.counter("candidate.extraction.files", "status", result.getStatus()).increment();
+            if (ResumeText.EXTRACTED.equals(result.getStatus())) {
+                for (String candidateId : resumeBlobRepository.findCandidateIdsByContentHash(contentHash)) {
+                    skillSearchIndex.requestReindex(candidateId);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Storage or database trouble: no row is written, so the sweep retries later
+            logger.warn("Resume text extraction for {} failed: {}", contentHash, e.getMessage(), e);
+        } finally {
+            claimed.remove(contentHash);
+            if (queue.isEmpty() && backlog.compareAndSet(true, false)) {
+                sweepPending();
+            }
+        }
+    }
+
+    private ResumeText parse(String contentHash, String contentType) {
+        if (!extractor.supports(contentType)) {
+            return new ResumeText(contentHash, ResumeText.UNSUPPORTED, null, false,
+                    "Unsupported content type: " + contentType, 0);
+        }
+        long started = System.nanoTime();
+        InputStream stored;
+        try {
+            stored = resumeStorage.load(contentHash).getInputStream();
+        } catch (IOException e) {
+            // The file could not be read, which says nothing about the file itself; retry on a later sweep
+            throw new UncheckedIOException(e);
+        }
+        try (InputStream content = stored) {
+            ExtractedText text = extractor.extract(content, contentType);
+            long elapsed = System.nanoTime() - started;
+            extractionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            return new ResumeText(contentHash, ResumeText.EXTRACTED, text.getText(), text.isTruncated(), null,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } catch (IOException | RuntimeException e) {
+            // Corrupt, encrypted or mislabelled files fail the same way every time; record and move on
+            String error = Optional.ofNullable(e.getMessage()).orElse(e.getClass().getSimpleName());
+            logger.info("Could not extract text from resume {}: {}", contentHash, error);
+            return new ResumeText(contentHash, ResumeText.FAILED, null, false,
+                    error.length() > 255 ? error.substring(0, 255) : error,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+}
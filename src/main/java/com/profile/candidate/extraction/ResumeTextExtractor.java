@@ -0,0 +1,100 @@
+package com.profile.candidate.extraction;
+
+import com.profile.candidate.storage.ResumeType;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.hwpf.extractor.WordExtractor;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parses the resume formats accepted on upload (PDF, DOC, DOCX) into plain text, choosing the
+ * parser by the content type recorded for the stored file. Stateless and safe to call from
+ * several worker threads at once.
+ */
+@Component
+public class ResumeTextExtractor {
+
+    private final int maxChars;
+    private final int maxPdfPages;
+
+    public ResumeTextExtractor(@Value("${candidate.extraction.max-chars:200000}") int maxChars,
+                               @Value("${candidate.extraction.max-pdf-pages:50}") int maxPdfPages) {
+        this.maxChars = maxChars;
+        this.maxPdfPages = maxPdfPages;
+    }
+
+    public boolean supports(String contentType) {
+        return ResumeType.fromMediaType(contentType) != null;
+    }
+
+    /**
+     * Reads the whole document from {@code content}; the caller closes the stream.
+     *
+     * @throws IOException if the file is corrupt, encrypted or not of the given type
+     */
+    public ExtractedText extract(InputStream content, String contentType) throws IOException {
+        ResumeType type = ResumeType.fromMediaType(contentType);
+        if (type == null) {
+            throw new IOException("Unsupported resume content type: " + contentType);
+        }
+        String raw;
+        switch (type) {
+            case PDF -> {
+                try (PDDocument document = Loader.loadPDF(new RandomAccessReadBuffer(content))) {
+                    PDFTextStripper stripper = new PDFTextStripper();
+                    // A resume longer than this is almost certainly not one; don't spend a worker on it
+                    stripper.setEndPage(maxPdfPages);
+                    raw = stripper.getText(document);
+                }
+            }
+            case DOC -> {
+                try (WordExtractor extractor = new WordExtractor(content)) {
+                    raw = extractor.getText();
+                }
+            }
+            case DOCX -> {
+                try (XWPFWordExtractor extractor = new XWPFWordExtractor(new XWPFDocument(content))) {
+                    raw = extractor.getText();
+                }
+            }
+            default -> throw new IllegalStateException("Unhandled resume type: " + type);
+        }
+        return normalise(raw);
+    }
+
+    // Collapses runs of spaces/tabs and blank lines, then caps the length
+    private ExtractedText normalise(String raw) {
+        StringBuilder text = new StringBuilder(Math.min(raw.length(), maxChars));
+        boolean pendingSpace = false;
+        boolean pendingNewline = false;
+        for (int i = 0; i < raw.length() && text.length() < maxChars; i++) {
+            char c = raw.charAt(i);
+            if (c == '\n' || c == '\r') {
+                pendingNewline = true;
+            } else if (Character.isWhitespace(c) || Character.isISOControl(c)) {
+                pendingSpace = true;
+            } else {
+                if (text.length() > 0) {
+                    if (pendingNewline) {
+                        text.append('\n');
+                    } else if (pendingSpace) {
+                        text.append(' ');
+                    }
+                }
+                text.append(c);
+                pendingSpace = false;
+                pendingNewline = false;
+            }
+        }
+        boolean truncated = text.length() >= maxChars;
+        return new ExtractedText(text.toString(), truncated);
+    }
+}
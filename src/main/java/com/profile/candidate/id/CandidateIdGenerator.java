@@ -0,0 +1,29 @@
+package com.profile.candidate.id;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Assigns primary keys to new candidates. Implementations must never hand out the
+ * same ID twice and should return IDs in increasing order, so inserts land at the
+ * right-hand end of the primary key B-tree instead of splitting pages at random.
+ *
+ * The implementation is picked with {@code candidate.id.generator}
+ * ({@code sequence} by default, or {@code ulid}).
+ */
+public interface CandidateIdGenerator {
+
+    String nextId();
+
+    /**
+     * Returns {@code count} new IDs in increasing order. Bulk writers should use this rather than
+     * calling {@link #nextId()} in a loop, since an implementation may reserve them in one step.
+     */
+    default List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,188 @@
+package com.profile.candidate.id;
+
+import com.profile.candidate.configurations.WorkerThreads;
+import com.profile.candidate.model.IdSequence;
+import com.profile.candidate.repository.IdSequenceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the familiar "CAND" prefix but takes the number from a database sequence
+ * instead of a random draw. Each node reserves a block of numbers at a time
+ * (one short row-locked transaction per {@code candidate.id.block-size} IDs) and
+ * hands them out from memory. The number is zero-padded to a fixed width so string
+ * order matches numeric order, and it starts above the legacy CAND1000-CAND9999
+ * range; the fixed width also keeps new IDs from ever equalling a legacy one.
+ *
+ * When half of the current block is used up, the next one is reserved in the background,
+ * so a caller normally never waits on the database. Reservations always run on the
+ * generator's own thread, never inside the caller's transaction, so a request that is
+ * holding a pooled connection does not need a second one to get an ID.
+ *
+ * IDs are strictly increasing per node; with several nodes they interleave by block.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.id.generator", havingValue = "sequence", matchIfMissing = true)
+public class SequenceBlockCandidateIdGenerator implements CandidateIdGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceBlockCandidateIdGenerator.class);
+
+    static final String SEQUENCE_NAME = "candidate_id";
+    private static final String PREFIX = "CAND";
+    private static final int WIDTH = 10;
+    private static final long FIRST_VALUE = 10_000L;
+
+    private final IdSequenceRepository idSequenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final ExecutorService reserver;
+
+    // Not synchronized: reserving a block waits on the database, which would pin a virtual thread
+    // to its carrier for the whole round trip
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Current block [next, limit) and the start of the next block while it is being reserved; guarded by lock
+    private long next;
+    private long limit;
+    private Future<Long> prefetched;
+
+    public SequenceBlockCandidateIdGenerator(IdSequenceRepository idSequenceRepository,
+                                             PlatformTransactionManager transactionManager,
+                                             Environment environment,
+                                             @Value("${candidate.id.block-size:50}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("candidate.id.block-size must be at least 1");
+        }
+        this.idSequenceRepository = idSequenceRepository;
+        this.blockSize = blockSize;
+        // Blocks are reserved in a short transaction of their own on this thread, so the row lock is
+        // released right away and a rolled-back submission never returns numbers to the pool
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reserver = Executors.newSingleThreadExecutor(WorkerThreads.forBlockingTasks("candidate-id-", environment));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reserver.shutdownNow();
+    }
+
+    @Override
+    public String nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                takeBlock(blockSize);
+            }
+            String id = format(next++);
+            prefetchIfLow();
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Uses up the current block and the prefetched one, then reserves whatever is still missing in a single block
+    @Override
+    public List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        lock.lock();
+        try {
+            while (ids.size() < count) {
+                if (next >= limit) {
+                    takeBlock(count - ids.size());
+                }
+                ids.add(format(next++));
+            }
+            prefetchIfLow();
+        } finally {
+            lock.unlock();
+        }
+        return ids;
+    }
+
+    // Moves on to the prefetched block, or reserves one of at least minSize when none is pending.
+    // Only waits on the database when IDs are handed out faster than a block can be reserved.
+    private void takeBlock(int minSize) {
+        Future<Long> pending = prefetched;
+        prefetched = null;
+        if (pending != null) {
+            try {
+                next = await(pending);
+                limit = next + blockSize;
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Reserving the next block of candidate IDs failed, retrying: {}", e.getMessage());
+            }
+        }
+        int size = Math.max(blockSize, minSize);
+        next = await(reserver.submit(() -> reserveBlock(size)));
+        limit = next + size;
+    }
+
+    private void prefetchIfLow() {
+        if (prefetched == null && limit - next <= blockSize / 2) {
+            prefetched = reserver.submit(() -> reserveBlock(blockSize));
+        }
+    }
+
+    private static long await(Future<Long> reservation) {
+        try {
+            return reservation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reserving candidate IDs", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Reserving candidate IDs failed", e.getCause());
+        }
+    }
+
+    static String format(long value) {
+        String digits = Long.toString(value);
+        StringBuilder id = new StringBuilder(PREFIX.length() + Math.max(WIDTH, digits.length())).append(PREFIX);
+        for (int i = digits.length(); i < WIDTH; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+
+    private long reserveBlock(int size) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long start = transactionTemplate.execute(status -> {
+                    IdSequence sequence = idSequenceRepository.findForUpdate(SEQUENCE_NAME)
+                            .orElseGet(() -> idSequenceRepository.saveAndFlush(new IdSequence(SEQUENCE_NAME, FIRST_VALUE)));
+                    long first = sequence.getNextValue();
+                    sequence.setNextValue(first + size);
+                    return first;
+                });
+                logger.debug("Reserved candidate IDs {} to {}", start, start + size - 1);
+                return start;
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the sequence row at the same moment; lock it on the next try
+                if (attempt >= 3) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.profile.candidate.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+/**
+ * Generates ULIDs: a 48-bit millisecond timestamp followed by 80 random bits,
+ * written as 26 Crockford base32 characters, so the string order is the creation
+ * order. Within the same millisecond the random part is incremented instead of
+ * redrawn, which keeps IDs strictly increasing on this node. Needs no coordination
+ * between nodes; the random part makes cross-node collisions practically impossible.
+ */
+@Component
+@ConditionalOnProperty(name = "candidate.id.generator", havingValue = "ulid")
+public class UlidCandidateIdGenerator implements CandidateIdGenerator {
+
+    private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long RANDOM_HIGH_MASK = 0xFFFFL; // top 16 of the 80 random bits
+
+    private final SecureRandom random = new SecureRandom();
+
+    private long lastTimestamp = -1;
+    private long randomHigh;
+    private long randomLow;
+
+    @Override
+    public String nextId() {
+        long timestamp;
+        long high;
+        long low;
+        synchronized (this) {
+            timestamp = System.currentTimeMillis();
+            if (timestamp > lastTimestamp) {
+                lastTimestamp = timestamp;
+                randomHigh = random.nextInt() & RANDOM_HIGH_MASK;
+                randomLow = random.nextLong();
+            } else {
+                // Same millisecond (or the clock stepped back): keep the last timestamp and count up
+                timestamp = lastTimestamp;
+                randomLow++;
+                if (randomLow == 0) {
+                    randomHigh = (randomHigh + 1) & RANDOM_HIGH_MASK;
+                    if (randomHigh == 0) {
+                        // 80-bit space exhausted within one millisecond: borrow the next one
+                        timestamp = ++lastTimestamp;
+                    }
+                }
+            }
+            high = randomHigh;
+            low = randomLow;
+        }
+        return encode(timestamp, high, low);
+    }
+
+    static String encode(long timestamp, long randomHigh, long randomLow) {
+        char[] chars = new char[26];
+        // 10 characters of timestamp (50 bits, the top two are always zero)
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ENCODING[(int) (timestamp & 31)];
+            timestamp >>>= 5;
+        }
+        // 16 characters of randomness: 80 bits = 16 bits high + 64 bits low
+        for (int i = 25; i >= 10; i--) {
+            chars[i] = ENCODING[(int) (randomLow & 31)];
+            randomLow = (randomLow >>> 5) | (randomHigh << 59);
+            randomHigh >>>= 5;
+        }
+        return new String(chars);
+    }
+}
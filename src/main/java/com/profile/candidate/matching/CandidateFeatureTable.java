@@ -0,0 +1,347 @@
+package com.profile.candidate.matching;
+
+import com.profile.candidate.search.SkillAnalyzer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Per-candidate match features in columns of primitive arrays, one slot per candidate: experience,
+ * notice period in days, expected CTC in lakhs, job, and sorted dictionary IDs of skills and
+ * preferred locations. Scoring a job is then a branch-light linear scan over the columns that
+ * can be split across threads, with a bounded heap per thread keeping the best k.
+ *
+ * Slots of removed candidates are reused. Not thread-safe for writes: {@link CandidateMatchIndex}
+ * excludes scans while a candidate is put or removed.
+ */
+final class CandidateFeatureTable {
+
+    // Score weights; they sum to 1 so scores stay in 0..1
+    private static final float SKILL_WEIGHT = 0.55f;
+    private static final float EXPERIENCE_WEIGHT = 0.2f;
+    private static final float NOTICE_WEIGHT = 0.1f;
+    private static final float CTC_WEIGHT = 0.05f;
+    private static final float LOCATION_WEIGHT = 0.1f;
+
+    private static final byte REQUIRED = 2;
+    private static final byte PREFERRED = 1;
+
+    private static final int[] NO_IDS = new int[0];
+
+    private final SkillAnalyzer analyzer;
+
+    private final Map<String, Integer> skillIds = new HashMap<>();
+    private final List<String> skillNames = new ArrayList<>();
+    private final Map<String, Integer> jobIds = new HashMap<>();
+    private final Map<String, Integer> locationIds = new HashMap<>();
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int maxSlot;
+
+    private String[] candidateIds = new String[1024];
+    private int[] jobOrdinals = new int[1024];
+    private float[] totalExperience = new float[1024];
+    private float[] relevantExperience = new float[1024];
+    private int[] noticeDays = new int[1024];
+    private float[] expectedCtc = new float[1024];
+    private int[][] skills = new int[1024][];
+    private int[][] locations = new int[1024][];
+
+    CandidateFeatureTable(SkillAnalyzer analyzer) {
+        this.analyzer = analyzer;
+        locationIds.put(FeatureParsers.ANY_LOCATION, 0);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    void put(MatchFeatureRow row) {
+        Integer existing = slots.get(row.getCandidateId());
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else {
+            slot = freeSlots.isEmpty() ? maxSlot++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            slots.put(row.getCandidateId(), slot);
+        }
+        candidateIds[slot] = row.getCandidateId();
+        jobOrdinals[slot] = row.getJobId() == null ? -1 : jobIds.computeIfAbsent(row.getJobId(), j -> jobIds.size());
+        totalExperience[slot] = row.getTotalExperience();
+        relevantExperience[slot] = row.getRelevantExperience();
+        noticeDays[slot] = FeatureParsers.noticeDays(row.getNoticePeriod());
+        expectedCtc[slot] = FeatureParsers.ctcLakhs(row.getExpectedCtc());
+        skills[slot] = skillIdsOf(row.getSkills());
+        locations[slot] = locationIdsOf(row.getPreferredLocation());
+    }
+
+    void remove(String candidateId) {
+        Integer slot = slots.remove(candidateId);
+        if (slot == null) {
+            return;
+        }
+        candidateIds[slot] = null;
+        skills[slot] = null;
+        locations[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Scores every candidate that passes the hard constraints (job, minimum experience, maximum
+     * notice and CTC, minimum share of required skills) and returns the best {@code k}. Tables
+     * with more than {@code minSlotsPerTask} slots are scanned in up to {@code parallelism}
+     * ranges on {@code pool}, one of them on the calling thread.
+     */
+    MatchResult match(MatchCriteria criteria, int k, ExecutorService pool, int parallelism, int minSlotsPerTask) {
+        Scorer scorer = new Scorer(criteria);
+        if (scorer.impossible) {
+            return new MatchResult(0, List.of());
+        }
+        int end = maxSlot;
+        int tasks = Math.max(1, Math.min(parallelism, end / Math.max(1, minSlotsPerTask)));
+        int step = (end + tasks - 1) / Math.max(1, tasks);
+
+        TopK top = new TopK(k);
+        int total;
+        if (tasks == 1 || pool == null) {
+            total = scorer.scan(0, end, top);
+        } else {
+            List<Future<TopK>> futures = new ArrayList<>(tasks - 1);
+            int[] counts = new int[tasks];
+            for (int t = 1; t < tasks; t++) {
+                int task = t;
+                int from = t * step;
+                int to = Math.min(end, from + step);
+                futures.add(pool.submit(() -> {
+                    TopK partial = new TopK(k);
+                    counts[task] = scorer.scan(from, to, partial);
+                    return partial;
+                }));
+            }
+            counts[0] = scorer.scan(0, Math.min(end, step), top);
+            for (Future<TopK> future : futures) {
+                top.addAll(await(future));
+            }
+            total = Arrays.stream(counts).sum();  // Visible: every future has completed
+        }
+
+        int[] best = top.sortedSlots();
+        List<MatchResult.Hit> hits = new ArrayList<>(best.length);
+        for (int slot : best) {
+            hits.add(new MatchResult.Hit(candidateIds[slot], top.scoreOf(slot), scorer.matchedSkills(slot),
+                    totalExperience[slot],
+                    noticeDays[slot] == FeatureParsers.UNKNOWN_NOTICE ? null : noticeDays[slot],
+                    Float.isNaN(expectedCtc[slot]) ? null : expectedCtc[slot]));
+        }
+        return new MatchResult(total, hits);
+    }
+
+    private static TopK await(Future<TopK> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while matching candidates", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Candidate matching failed", e.getCause());
+        }
+    }
+
+    // Criteria resolved against the dictionaries once per request; read-only during the scan
+    private final class Scorer {
+
+        final boolean impossible;
+        final int job;
+        final byte[] skillMask;
+        final int requiredCount;
+        final float skillDenominator;
+        final boolean skillsGiven;
+        final int minRequired;
+        final float minExperience;
+        final int maxNotice;
+        final float maxCtc;
+        final int location;
+        final boolean locationGiven;
+
+        Scorer(MatchCriteria criteria) {
+            Integer jobOrdinal = criteria.getJobId() == null ? Integer.valueOf(-1) : jobIds.get(criteria.getJobId());
+            this.job = jobOrdinal == null ? -1 : jobOrdinal;
+
+            skillMask = new byte[skillNames.size()];
+            Set<String> required = new LinkedHashSet<>(criteria.getRequiredSkills());
+            Set<String> preferred = new LinkedHashSet<>(criteria.getPreferredSkills());
+            preferred.removeAll(required);
+            for (String skill : preferred) {
+                Integer id = skillIds.get(skill);
+                if (id != null) {
+                    skillMask[id] = PREFERRED;
+                }
+            }
+            for (String skill : required) {
+                Integer id = skillIds.get(skill);
+                if (id != null) {
+                    skillMask[id] = REQUIRED;
+                }
+            }
+            requiredCount = required.size();
+            skillDenominator = required.size() + 0.5f * preferred.size();
+            skillsGiven = skillDenominator > 0;
+            minRequired = (int) Math.ceil(criteria.getMinSkillMatch() * required.size());
+
+            minExperience = criteria.getMinExperience() != null ? criteria.getMinExperience() : Float.NaN;
+            maxNotice = criteria.getMaxNoticeDays() != null ? criteria.getMaxNoticeDays() : Integer.MAX_VALUE;
+            maxCtc = criteria.getMaxExpectedCtcLakhs() != null ? criteria.getMaxExpectedCtcLakhs() : Float.NaN;
+            locationGiven = criteria.getLocation() != null && !criteria.getLocation().isBlank();
+            List<String> wanted = FeatureParsers.locations(criteria.getLocation());
+            Integer locationId = wanted.isEmpty() ? null : locationIds.get(wanted.get(0));
+            location = locationId == null ? -1 : locationId;
+
+            // A job nobody applied to, or more required skills demanded than can ever be matched
+            impossible = (criteria.getJobId() != null && jobOrdinal == null) || minRequired > requiredCount;
+        }
+
+        // Scores slots [from, to) into top; returns how many passed the constraints
+        int scan(int from, int to, TopK top) {
+            String[] ids = candidateIds;
+            int[] jobs = jobOrdinals;
+            float[] total = totalExperience;
+            float[] relevant = relevantExperience;
+            int[] notice = noticeDays;
+            float[] ctc = expectedCtc;
+            int[][] skillColumn = skills;
+            int[][] locationColumn = locations;
+            byte[] mask = skillMask;
+            boolean checkExperience = !Float.isNaN(minExperience);
+            boolean checkCtc = !Float.isNaN(maxCtc);
+
+            int matched = 0;
+            for (int slot = from; slot < to; slot++) {
+                if (ids[slot] == null
+                        || (job >= 0 && jobs[slot] != job)
+                        || (checkExperience && total[slot] < minExperience)
+                        || notice[slot] > maxNotice
+                        || (checkCtc && ctc[slot] > maxCtc)) {  // Unknown notice (-1) and CTC (NaN) pass
+                    continue;
+                }
+
+                int requiredHits = 0;
+                int preferredHits = 0;
+                for (int skill : skillColumn[slot]) {
+                    if (skill < mask.length) {
+                        byte kind = mask[skill];
+                        requiredHits += kind == REQUIRED ? 1 : 0;
+                        preferredHits += kind == PREFERRED ? 1 : 0;
+                    }
+                }
+                if (skillsGiven && (requiredHits + preferredHits == 0 || requiredHits < minRequired)) {
+                    continue;
+                }
+                matched++;
+
+                float skillScore = skillsGiven ? (requiredHits + 0.5f * preferredHits) / skillDenominator : 1f;
+                float experienceScore = checkExperience && minExperience > 0
+                        ? Math.min(1f, relevant[slot] / minExperience)
+                        : Math.min(1f, relevant[slot] / 10f);
+                float noticeScore = notice[slot] < 0 ? 0.5f : 1f - Math.min(notice[slot], 90) / 180f;
+                float ctcScore = !checkCtc || Float.isNaN(ctc[slot]) || maxCtc <= 0 ? 0.5f : 1f - 0.5f * ctc[slot] / maxCtc;
+                float locationScore = locationGiven ? locationScore(locationColumn[slot]) : 0.5f;
+
+                top.offer(slot, SKILL_WEIGHT * skillScore + EXPERIENCE_WEIGHT * experienceScore
+                        + NOTICE_WEIGHT * noticeScore + CTC_WEIGHT * ctcScore + LOCATION_WEIGHT * locationScore);
+            }
+            return matched;
+        }
+
+        // 1 for the wanted location, 0.7 for "anywhere", 0.5 when none given, else 0
+        private float locationScore(int[] candidateLocations) {
+            if (candidateLocations.length == 0) {
+                return 0.5f;
+            }
+            float score = 0f;
+            for (int id : candidateLocations) {
+                if (id == location && location >= 0) {
+                    return 1f;
+                }
+                if (id == 0) {
+                    score = 0.7f;
+                }
+            }
+            return score;
+        }
+
+        List<String> matchedSkills(int slot) {
+            List<String> names = new ArrayList<>();
+            for (int skill : skills[slot]) {
+                if (skill < skillMask.length && skillMask[skill] != 0) {
+                    names.add(skillNames.get(skill));
+                }
+            }
+            return names;
+        }
+    }
+
+    private int[] skillIdsOf(String text) {
+        List<String> terms = analyzer.analyze(text);
+        if (terms.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[terms.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = skillIds.computeIfAbsent(terms.get(i), term -> {
+                skillNames.add(term);
+                return skillNames.size() - 1;
+            });
+        }
+        return distinctSorted(ids);
+    }
+
+    private int[] locationIdsOf(String text) {
+        List<String> names = FeatureParsers.locations(text);
+        if (names.isEmpty()) {
+            return NO_IDS;
+        }
+        int[] ids = new int[names.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = locationIds.computeIfAbsent(names.get(i), name -> locationIds.size());
+        }
+        return distinctSorted(ids);
+    }
+
+    private static int[] distinctSorted(int[] ids) {
+        Arrays.sort(ids);
+        int n = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[n++] = ids[i];
+            }
+        }
+        return n == ids.length ? ids : Arrays.copyOf(ids, n);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= candidateIds.length) {
+            return;
+        }
+        int capacity = Math.max(size, candidateIds.length * 2);
+        candidateIds = Arrays.copyOf(candidateIds, capacity);
+        jobOrdinals = Arrays.copyOf(jobOrdinals, capacity);
+        totalExperience = Arrays.copyOf(totalExperience, capacity);
+        relevantExperience = Arrays.copyOf(relevantExperience, capacity);
+        noticeDays = Arrays.copyOf(noticeDays, capacity);
+        expectedCtc = Arrays.copyOf(expectedCtc, capacity);
+        skills = Arrays.copyOf(skills, capacity);
+        locations = Arrays.copyOf(locations, capacity);
+    }
+}
@@ -0,0 +1,199 @@
+package com.profile.candidate.matching;
+
+import com.profile.candidate.cache.CacheInvalidationChannel;
+import com.profile.candidate.exceptions.SearchIndexUnavailableException;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.search.SkillAnalyzer;
+import com.profile.candidate.service.CandidateChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link CandidateFeatureTable} of every candidate in memory and ranks candidates for a
+ * job against it.
+ *
+ * Like the skill search index, the table is loaded in the background once the application is
+ * ready (matching fails with {@link SearchIndexUnavailableException} until then) and then kept
+ * current per candidate through the {@link CacheInvalidationChannel}. Matches hold the read lock,
+ * so they run concurrently with each other; a candidate update waits for running matches.
+ */
+@Component
+public class CandidateMatchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateMatchIndex.class);
+
+    static final String CHANNEL_NAME = "candidateFeatures";
+
+    private final CandidateRepository candidateRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SkillAnalyzer analyzer = SkillAnalyzer.fromClasspath();
+    private final ThreadPoolExecutor scanPool;
+    private final int parallelism;
+    private final int minSlotsPerTask;
+    private final Timer matchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private CandidateFeatureTable table = new CandidateFeatureTable(analyzer);  // Guarded by lock
+    private volatile boolean ready;
+
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public CandidateMatchIndex(CandidateRepository candidateRepository,
+                               CacheInvalidationChannel invalidationChannel,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${candidate.match.threads:0}") int threads,
+                               @Value("${candidate.match.min-candidates-per-thread:50000}") int minSlotsPerTask) {
+        this.candidateRepository = candidateRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.minSlotsPerTask = minSlotsPerTask;
+
+        // The caller scans one range itself, so the pool needs one thread fewer than the parallelism.
+        // When concurrent matches saturate it, CallerRunsPolicy makes the caller scan that range too
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolThreads = Math.max(1, parallelism - 1);
+        this.scanPool = new ThreadPoolExecutor(poolThreads, poolThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolThreads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "candidate-match-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("candidate.match.candidates", this, CandidateMatchIndex::size)
+                .description("Candidates in the in-memory match feature table")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("candidate.match.query")
+                .description("Time to score and rank candidates for one job")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        invalidationChannel.subscribe(CHANNEL_NAME, this::refresh);
+    }
+
+    public SkillAnalyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    /**
+     * The {@code k} best candidates for {@code criteria}, best first.
+     *
+     * @throws SearchIndexUnavailableException while the startup load is still running
+     */
+    public MatchResult match(MatchCriteria criteria, int k) {
+        if (!ready) {
+            throw new SearchIndexUnavailableException("Candidate match features are still loading");
+        }
+        return matchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return table.match(criteria, k, scanPool, parallelism, minSlotsPerTask);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        invalidationChannel.publish(CHANNEL_NAME, event.getCandidateId());
+    }
+
+    void refresh(String candidateId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(candidateId);
+        }
+        Optional<MatchFeatureRow> row = candidateRepository.findMatchFeaturesById(candidateId);
+        lock.writeLock().lock();
+        try {
+            if (row.isPresent()) {
+                table.put(row.get());
+            } else {
+                table.remove(candidateId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "candidate-match-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Loads a fresh table and swaps it in; changes committed meanwhile are re-read after the swap
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        CandidateFeatureTable fresh = new CandidateFeatureTable(analyzer);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<MatchFeatureRow> rows = candidateRepository.streamMatchFeatures()) {
+                    rows.forEach(fresh::put);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            logger.error("Candidate match feature load failed; keeping the previous table", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            table = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        for (String candidateId : changedDuringRebuild) {
+            refresh(candidateId);
+        }
+        changedDuringRebuild.clear();
+        logger.info("Candidate match features loaded: {} candidates in {} ms",
+                fresh.size(), System.currentTimeMillis() - started);
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdownNow();
+    }
+}
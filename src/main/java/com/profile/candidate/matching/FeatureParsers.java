@@ -0,0 +1,96 @@
+package com.profile.candidate.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalises the free-text candidate fields the matching engine compares numerically.
+ * Unparseable values come back as "unknown" (-1 or NaN) rather than failing the row.
+ */
+final class FeatureParsers {
+
+    static final int UNKNOWN_NOTICE = -1;
+
+    private static final Pattern NUMBER_WITH_UNIT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*([a-z]*)");
+
+    // Preferred locations meaning "anywhere"
+    static final String ANY_LOCATION = "*";
+
+    private FeatureParsers() {
+    }
+
+    // "Immediate", "15 days", "2 months", "1 week", "30" (days); -1 when unknown
+    static int noticeDays(String noticePeriod) {
+        if (noticePeriod == null || noticePeriod.isBlank()) {
+            return UNKNOWN_NOTICE;
+        }
+        String text = noticePeriod.toLowerCase(Locale.ROOT);
+        if (text.contains("immediate")) {
+            return 0;
+        }
+        Matcher matcher = NUMBER_WITH_UNIT.matcher(text);
+        if (!matcher.find()) {
+            return UNKNOWN_NOTICE;
+        }
+        float value = Float.parseFloat(matcher.group(1));
+        String unit = matcher.group(2);
+        if (unit.startsWith("m")) {
+            return Math.round(value * 30);
+        }
+        if (unit.startsWith("w")) {
+            return Math.round(value * 7);
+        }
+        return Math.round(value);
+    }
+
+    /**
+     * Expected CTC in lakhs per annum: "12 LPA", "12.5L", "1.2 Cr", "900k" and "1200000" (rupees)
+     * are understood. A bare number below 1000 is taken to be lakhs already. NaN when unknown.
+     */
+    static float ctcLakhs(String ctc) {
+        if (ctc == null || ctc.isBlank()) {
+            return Float.NaN;
+        }
+        Matcher matcher = NUMBER_WITH_UNIT.matcher(ctc.toLowerCase(Locale.ROOT).replace(",", ""));
+        if (!matcher.find()) {
+            return Float.NaN;
+        }
+        float value = Float.parseFloat(matcher.group(1));
+        String unit = matcher.group(2);
+        if (unit.startsWith("c")) {
+            return value * 100;
+        }
+        if (unit.startsWith("k")) {
+            return value / 100;
+        }
+        if (unit.startsWith("l")) {
+            return value;
+        }
+        return value >= 1000 ? value / 100_000 : value;
+    }
+
+    // "Hyderabad / Bangalore, Pune" -> [hyderabad, bangalore, pune]; "Anywhere" -> [*]
+    static List<String> locations(String preferredLocation) {
+        List<String> locations = new ArrayList<>();
+        if (preferredLocation == null) {
+            return locations;
+        }
+        for (String part : preferredLocation.toLowerCase(Locale.ROOT).split("[,/;|&]|\\band\\b|\\bor\\b")) {
+            String location = part.trim();
+            if (location.isEmpty()) {
+                continue;
+            }
+            if (location.startsWith("any") || location.equals("flexible") || location.equals("open")
+                    || location.startsWith("pan india")) {
+                location = ANY_LOCATION;
+            }
+            if (!locations.contains(location)) {
+                locations.add(location);
+            }
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,83 @@
+package com.profile.candidate.matching;
+
+import java.util.List;
+
+/**
+ * What a job asks for. Skills are index terms (already passed through the skill analyzer);
+ * null limits are not applied.
+ */
+public class MatchCriteria {
+
+    private String jobId;                  // Only candidates submitted for this job, or null for the whole pool
+    private List<String> requiredSkills = List.of();
+    private List<String> preferredSkills = List.of();
+    private float minSkillMatch;           // Fraction of required skills a candidate must have, 0..1
+    private Float minExperience;           // Years of total experience
+    private Integer maxNoticeDays;
+    private Float maxExpectedCtcLakhs;
+    private String location;               // Preferred location to favour
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public List<String> getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public void setRequiredSkills(List<String> requiredSkills) {
+        this.requiredSkills = requiredSkills;
+    }
+
+    public List<String> getPreferredSkills() {
+        return preferredSkills;
+    }
+
+    public void setPreferredSkills(List<String> preferredSkills) {
+        this.preferredSkills = preferredSkills;
+    }
+
+    public float getMinSkillMatch() {
+        return minSkillMatch;
+    }
+
+    public void setMinSkillMatch(float minSkillMatch) {
+        this.minSkillMatch = minSkillMatch;
+    }
+
+    public Float getMinExperience() {
+        return minExperience;
+    }
+
+    public void setMinExperience(Float minExperience) {
+        this.minExperience = minExperience;
+    }
+
+    public Integer getMaxNoticeDays() {
+        return maxNoticeDays;
+    }
+
+    public void setMaxNoticeDays(Integer maxNoticeDays) {
+        this.maxNoticeDays = maxNoticeDays;
+    }
+
+    public Float getMaxExpectedCtcLakhs() {
+        return maxExpectedCtcLakhs;
+    }
+
+    public void setMaxExpectedCtcLakhs(Float maxExpectedCtcLakhs) {
+        this.maxExpectedCtcLakhs = maxExpectedCtcLakhs;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+}
@@ -0,0 +1,61 @@
+package com.profile.candidate.matching;
+
+/**
+ * The candidate columns the matching engine turns into features, read without the entity.
+ */
+public class MatchFeatureRow {
+
+    private final String candidateId;
+    private final String jobId;
+    private final String skills;
+    private final float totalExperience;
+    private final float relevantExperience;
+    private final String noticePeriod;
+    private final String expectedCtc;
+    private final String preferredLocation;
+
+    // Constructor used by the JPQL projections in CandidateRepository
+    public MatchFeatureRow(String candidateId, String jobId, String skills, float totalExperience,
+                           float relevantExperience, String noticePeriod, String expectedCtc, String preferredLocation) {
+        this.candidateId = candidateId;
+        this.jobId = jobId;
+        this.skills = skills;
+        this.totalExperience = totalExperience;
+        this.relevantExperience = relevantExperience;
+        this.noticePeriod = noticePeriod;
+        this.expectedCtc = expectedCtc;
+        this.preferredLocation = preferredLocation;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public float getTotalExperience() {
+        return totalExperience;
+    }
+
+    public float getRelevantExperience() {
+        return relevantExperience;
+    }
+
+    public String getNoticePeriod() {
+        return noticePeriod;
+    }
+
+    public String getExpectedCtc() {
+        return expectedCtc;
+    }
+
+    public String getPreferredLocation() {
+        return preferredLocation;
+    }
+}
@@ -0,0 +1,73 @@
+package com.profile.candidate.matching;
+
+import java.util.List;
+
+/**
+ * The best candidates for a job, highest score first, and how many passed the constraints.
+ */
+public class MatchResult {
+
+    private final int total;
+    private final List<Hit> hits;
+
+    MatchResult(int total, List<Hit> hits) {
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<Hit> getHits() {
+        return hits;
+    }
+
+    public static class Hit {
+
+        private final String candidateId;
+        private final float score;
+        private final List<String> matchedSkills;
+        private final float totalExperience;
+        private final Integer noticeDays;
+        private final Float expectedCtcLakhs;
+
+        Hit(String candidateId, float score, List<String> matchedSkills, float totalExperience,
+            Integer noticeDays, Float expectedCtcLakhs) {
+            this.candidateId = candidateId;
+            this.score = score;
+            this.matchedSkills = matchedSkills;
+            this.totalExperience = totalExperience;
+            this.noticeDays = noticeDays;
+            this.expectedCtcLakhs = expectedCtcLakhs;
+        }
+
+        public String getCandidateId() {
+            return candidateId;
+        }
+
+        // 0..1
+        public float getScore() {
+            return score;
+        }
+
+        // Required and preferred skills the candidate has, as canonical skill terms
+        public List<String> getMatchedSkills() {
+            return matchedSkills;
+        }
+
+        public float getTotalExperience() {
+            return totalExperience;
+        }
+
+        // Null when the notice period could not be read
+        public Integer getNoticeDays() {
+            return noticeDays;
+        }
+
+        // Null when the expected CTC could not be read
+        public Float getExpectedCtcLakhs() {
+            return expectedCtcLakhs;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.profile.candidate.matching;
+
+import java.util.Arrays;
+
+/**
+ * Bounded min-heap of (slot, score) pairs over primitive arrays, keeping the k best. The root is
+ * the weakest entry kept, so most candidates are rejected with a single comparison. Equal scores
+ * prefer the lower slot, which makes the result independent of how the scan was split.
+ */
+final class TopK {
+
+    private final int capacity;
+    private final int[] slots;
+    private final float[] scores;
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        this.slots = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void offer(int slot, float score) {
+        if (size < capacity) {
+            slots[size] = slot;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (capacity > 0 && better(slot, score, slots[0], scores[0])) {
+            slots[0] = slot;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.slots[i], other.scores[i]);
+        }
+    }
+
+    // Slots best first
+    int[] sortedSlots() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> better(slots[a], scores[a], slots[b], scores[b]) ? -1 : 1);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = slots[order[i]];
+        }
+        return sorted;
+    }
+
+    float scoreOf(int slot) {
+        for (int i = 0; i < size; i++) {
+            if (slots[i] == slot) {
+                return scores[i];
+            }
+        }
+        return Float.NaN;
+    }
+
+    private static boolean better(int slotA, float scoreA, int slotB, float scoreB) {
+        return scoreA > scoreB || (scoreA == scoreB && slotA < slotB);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(slots[parent], scores[parent], slots[i], scores[i])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int weakest = left;
+            int right = left + 1;
+            if (right < size && better(slots[left], scores[left], slots[right], scores[right])) {
+                weakest = right;
+            }
+            if (!better(slots[i], scores[i], slots[weakest], scores[weakest])) {
+                return;
+            }
+            swap(i, weakest);
+            i = weakest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int slot = slots[a];
+        slots[a] = slots[b];
+        slots[b] = slot;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,51 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Adds {@link MethodMetricsInterceptor} to the beans of one application package
+ * (e.g. all controllers). Beans that already have a proxy (such as @Transactional
+ * services) get the interceptor as their outermost advice, so the recorded time
+ * includes the transaction commit; other beans are wrapped in a class-based proxy.
+ */
+public class MethodMetricsBeanPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private final String basePackage;
+    private final MethodMetricsInterceptor interceptor;
+
+    public MethodMetricsBeanPostProcessor(String basePackage, String metricName, Supplier<MeterRegistry> meterRegistry) {
+        this.basePackage = basePackage;
+        this.interceptor = new MethodMetricsInterceptor(meterRegistry, metricName, null);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return MethodMetricsInterceptor.isInstrumented(method);
+            }
+        };
+        pointcut.setClassFilter(this::isInstrumentedClass);
+        this.advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    private boolean isInstrumentedClass(Class<?> type) {
+        return basePackage.equals(type.getPackageName());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (isInstrumentedClass(targetClass)) {
+            interceptor.registerMethods(targetClass);
+        }
+        return super.postProcessAfterInitialization(bean, beanName);
+    }
+}
@@ -0,0 +1,175 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every call to an instrumented controller, service or repository method.
+ *
+ * Meters are registered once per method (eagerly for the methods a class declares,
+ * on first use for inherited ones) and looked up by {@link Method} afterwards, so a
+ * call only costs a map read, two nanoTime reads and the record itself; no tags or
+ * meter IDs are built per call. Each method gets one timer per outcome:
+ * {@code success} and {@code error} (exception thrown), and for controllers also
+ * {@code client_error} / {@code server_error} from the returned ResponseEntity status.
+ * Repository methods additionally record the number of rows returned or modified.
+ */
+public class MethodMetricsInterceptor implements MethodInterceptor {
+
+    public static final String CONTROLLER = "candidate.controller";
+    public static final String SERVICE = "candidate.service";
+    public static final String REPOSITORY = "candidate.repository";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final String metricName;
+    private final String className;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param className value of the {@code class} tag, or null to use the class of the called bean
+     */
+    public MethodMetricsInterceptor(Supplier<MeterRegistry> meterRegistry, String metricName, String className) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricName;
+        this.className = className;
+    }
+
+    /**
+     * Registers the meters for the public methods declared by {@code type}, so they are
+     * exported (at zero) before the first call.
+     */
+    public void registerMethods(Class<?> type) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (isInstrumented(method)) {
+                metersFor(type, method);
+            }
+        }
+    }
+
+    static boolean isInstrumented(Method method) {
+        return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && !method.isSynthetic()
+                && !method.isBridge()
+                && method.getDeclaringClass() != Object.class;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            Object target = invocation.getThis();
+            methodMeters = metersFor(target == null ? method.getDeclaringClass() : target.getClass(), method);
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            methodMeters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        methodMeters.timerFor(result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (methodMeters.rows != null) {
+            long rows = rowCount(result, methodMeters.modifying);
+            if (rows >= 0) {
+                methodMeters.rows.record(rows);
+            }
+        }
+        return result;
+    }
+
+    private MethodMeters metersFor(Class<?> type, Method method) {
+        return meters.computeIfAbsent(method, m -> new MethodMeters(meterRegistry.get(), metricName,
+                className != null ? className : ClassUtils.getUserClass(type).getSimpleName(), m));
+    }
+
+    // Rows returned by a query (collection size, page size, 0/1 for Optional or single results)
+    // or modified by a @Modifying query; -1 when the result is not a row set (counts, booleans, void)
+    static long rowCount(Object result, boolean modifying) {
+        if (modifying) {
+            return result instanceof Number number ? number.longValue() : -1;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result == null || result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return result instanceof Iterable<?> ? -1 : 1;
+    }
+
+    private static final class MethodMeters {
+
+        final Timer success;
+        final Timer error;
+        final Timer clientError;
+        final Timer serverError;
+        final DistributionSummary rows;
+        final boolean modifying;
+
+        MethodMeters(MeterRegistry registry, String metricName, String className, Method method) {
+            this.success = timer(registry, metricName, className, method, "success");
+            this.error = timer(registry, metricName, className, method, "error");
+            boolean controller = CONTROLLER.equals(metricName);
+            this.clientError = controller ? timer(registry, metricName, className, method, "client_error") : success;
+            this.serverError = controller ? timer(registry, metricName, className, method, "server_error") : success;
+            boolean repository = REPOSITORY.equals(metricName) && method.getReturnType() != void.class;
+            this.rows = repository
+                    ? DistributionSummary.builder(metricName + ".rows")
+                        .description("Rows returned or modified per repository call")
+                        .baseUnit("rows")
+                        .serviceLevelObjectives(1, 10, 100, 1_000, 10_000)
+                        .tag("class", className)
+                        .tag("method", method.getName())
+                        .register(registry)
+                    : null;
+            this.modifying = method.isAnnotationPresent(Modifying.class);
+        }
+
+        private static Timer timer(MeterRegistry registry, String metricName, String className, Method method, String outcome) {
+            return Timer.builder(metricName)
+                    .tag("class", className)
+                    .tag("method", method.getName())
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+
+        Timer timerFor(Object result) {
+            if (result instanceof ResponseEntity<?> response) {
+                int status = response.getStatusCode().value();
+                if (status >= 500) {
+                    return serverError;
+                }
+                if (status >= 400) {
+                    return clientError;
+                }
+            }
+            return success;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.profile.candidate.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.function.Supplier;
+
+/**
+ * Adds {@link MethodMetricsInterceptor} to every Spring Data repository proxy, giving
+ * per-query-method latency and row counts under {@code candidate.repository}.
+ */
+public class RepositoryMetricsBeanPostProcessor implements BeanPostProcessor {
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsBeanPostProcessor(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+                        // One interceptor per repository: inherited methods such as findById are the
+                        // same Method object for every repository and must not share meters
+                        Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+                        MethodMetricsInterceptor interceptor = new MethodMetricsInterceptor(meterRegistry,
+                                MethodMetricsInterceptor.REPOSITORY, repositoryInterface.getSimpleName());
+                        interceptor.registerMethods(repositoryInterface);
+                        proxyFactory.addAdvice(0, interceptor);
+                    }));
+        }
+        return bean;
+    }
+}
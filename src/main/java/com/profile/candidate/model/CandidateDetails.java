@@ -1,18 +1,39 @@
     package com.profile.candidate.model;
 
     import com.fasterxml.jackson.annotation.JsonFormat;
+    import com.fasterxml.jackson.annotation.JsonIgnore;
     import jakarta.persistence.*;
+    import org.hibernate.annotations.DynamicUpdate;
+    import org.springframework.data.domain.Persistable;
 
     import javax.validation.constraints.*;
 
     import java.time.LocalDate;
     import java.time.LocalDateTime;
     import java.time.OffsetDateTime;
-    import java.util.Random;
 
     @Entity
-    @Table(name = "candidates")
-    public class CandidateDetails {
+    @Table(name = "candidates", uniqueConstraints = {
+            // A candidate can be submitted once per job and client, by email and by phone number.
+            // clientNameKey is clientName with null as "", because unique indexes ignore NULLs.
+            @UniqueConstraint(name = CandidateDetails.UK_EMAIL_JOB_CLIENT, columnNames = {"candidateEmailId", "jobId", "clientNameKey"}),
+            @UniqueConstraint(name = CandidateDetails.UK_CONTACT_JOB_CLIENT, columnNames = {"contactNumber", "jobId", "clientNameKey"})
+    }, indexes = {
+            // Keyset pagination order for the submissions listing
+            @Index(name = "idx_candidates_received_date_id", columnList = "profileReceivedDate, candidateId"),
+            @Index(name = "idx_candidates_job_received_date", columnList = "jobId, profileReceivedDate, candidateId"),
+            // Per-user dashboards: the submission and interview lists, and the status counts
+            @Index(name = "idx_candidates_user_received_date", columnList = "userId, profileReceivedDate, candidateId"),
+            @Index(name = "idx_candidates_user_status", columnList = "userId, interviewStatus, interviewDateTime"),
+            // Scheduled interview lookups and calendar windows
+            @Index(name = "idx_candidates_interview_date_time", columnList = "interviewDateTime")
+    })
+    // Updates write only the columns that changed, so a field-level PATCH is a one- or two-column UPDATE
+    @DynamicUpdate
+    public class CandidateDetails implements Persistable<String> {
+
+        public static final String UK_EMAIL_JOB_CLIENT = "uk_candidates_email_job_client";
+        public static final String UK_CONTACT_JOB_CLIENT = "uk_candidates_contact_job_client";
 
         @Id
         @Column(unique = true, nullable = false)
@@ -90,6 +111,7 @@
 
         public void setClientName(String clientName) {
             this.clientName = clientName;
+            this.clientNameKey = clientNameKey(clientName);
         }
 
         public String getInterviewLevel() {
@@ -104,6 +126,10 @@
 
         private String clientName;
 
+        // Duplicate-check key kept in step with clientName (see the unique constraints)
+        @JsonIgnore
+        private String clientNameKey;
+
         private String interviewLevel;
 
         private String externalInterviewDetails;
@@ -120,9 +146,7 @@
         @Column(nullable = false)
         private LocalDate profileReceivedDate;
 
-        @Lob
-        @Column(name = "resume", columnDefinition = "LONGBLOB")
-        private byte[] resume;  // Storing file as byte array in DB
+        // Resume content lives in the resume_blobs table (see ResumeBlob)
 
         @Column(name = "resume_file_path")
         private String resumeFilePath;
@@ -138,14 +162,6 @@
             this.interviewStatus = interviewStatus;
         }
 
-        public byte[] getResume() {
-            return resume;
-        }
-
-        public void setResume(byte[] resume) {
-            this.resume = resume;
-        }
-
         public String getResumeFilePath() {
             return resumeFilePath;
         }
@@ -159,17 +175,50 @@
             if (this.profileReceivedDate == null) {
                 this.profileReceivedDate = LocalDate.now();  // Set the date before saving
             }
-            if (this.candidateId == null) {
-                generateCandidateId();  // Call the method to generate the candidate ID
+            this.clientNameKey = clientNameKey(this.clientName);
+            if (this.candidateId == null || this.candidateId.isEmpty()) {
+                // IDs come from CandidateIdGenerator; never fall back to a guess that could collide
+                throw new IllegalStateException("Candidate ID must be assigned before saving a new candidate");
             }
         }
 
-        public void generateCandidateId() {
-            if (this.candidateId == null || this.candidateId.isEmpty()) {
-                Random random = new Random();
-                int randomNumber = 1000 + random.nextInt(9000);  // Generates a random number between 100 and 999
-                this.candidateId = "CAND" + randomNumber;  // Combine the prefix with the random number
-            }
+        public static String clientNameKey(String clientName) {
+            return clientName == null ? "" : clientName;
+        }
+
+        // Optimistic lock: every update checks and bumps it, so a write based on a stale read fails
+        // instead of silently overwriting a concurrent one. Sent to clients as the ETag of PATCH.
+        @Version
+        @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+        private long version;
+
+        public long getVersion() {
+            return version;
+        }
+
+        // A candidate is new until it has been loaded or persisted, so save() on a new
+        // candidate is a plain INSERT (a reused ID fails on the primary key instead of
+        // silently merging into the existing row)
+        @Transient
+        @JsonIgnore
+        private boolean isNew = true;
+
+        @PostLoad
+        @PostPersist
+        void markNotNew() {
+            this.isNew = false;
+        }
+
+        @Override
+        @JsonIgnore
+        public String getId() {
+            return candidateId;
+        }
+
+        @Override
+        @JsonIgnore
+        public boolean isNew() {
+            return isNew;
         }
 
         // Getters and Setters for new fields
@@ -0,0 +1,31 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read-only view of the old {@code candidates.resume} LONGBLOB column.
+ * Rows submitted before resumes moved to {@link ResumeBlob} still carry their
+ * file here until LegacyResumeMigration moves it, in the background or on first download.
+ * The column is read and cleared through JDBC; the entity only keeps it in the schema.
+ */
+@Entity
+@Immutable
+@Table(name = "candidates")
+public class CandidateLegacyResume {
+
+    @Id
+    private String candidateId;
+
+    @Lob
+    @Column(name = "resume", columnDefinition = "LONGBLOB")
+    private byte[] resume;
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public byte[] getResume() {
+        return resume;
+    }
+}
@@ -0,0 +1,39 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Next unallocated value of a named ID sequence. Application nodes reserve
+ * blocks of values from here and hand them out from memory.
+ */
+@Entity
+@Table(name = "id_sequences")
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 64, nullable = false)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    public IdSequence() {
+    }
+
+    public IdSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
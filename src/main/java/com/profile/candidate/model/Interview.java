@@ -0,0 +1,196 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One interview round of a candidate. Scheduling another round inserts a row here instead of
+ * overwriting the previous one, so earlier rounds, their feedback and their outcome are kept.
+ *
+ * The interview columns on {@link CandidateDetails} mirror the latest round, which is what the
+ * submission and interview listings show.
+ */
+@Entity
+@Table(name = "interviews", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_interviews_candidate_round", columnNames = {"candidate_id", "round_number"})
+}, indexes = {
+        // Per-user interview lists within a time window
+        @Index(name = "idx_interviews_user_date_time", columnList = "user_id, interview_date_time"),
+        // Calendar windows across all users
+        @Index(name = "idx_interviews_date_time", columnList = "interview_date_time")
+})
+public class Interview {
+
+    public static final String STATUS_SCHEDULED = "SCHEDULED";
+    public static final String STATUS_RESCHEDULED = "RESCHEDULED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+
+    // A round in one of these states has not happened yet; a candidate has at most one such round
+    private static final Set<String> OPEN_STATUSES = Set.of(STATUS_SCHEDULED, STATUS_RESCHEDULED);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "candidate_id", nullable = false)
+    private String candidateId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "job_id")
+    private String jobId;
+
+    // 1 for the first interview of the candidate, then 2, 3, ...
+    @Column(name = "round_number", nullable = false)
+    private int roundNumber;
+
+    @Column(name = "interview_date_time")
+    private OffsetDateTime interviewDateTime;
+
+    private Integer duration;  // in minutes
+
+    @Column(name = "zoom_link")
+    private String zoomLink;
+
+    @Column(name = "user_email")
+    private String userEmail;
+
+    @Column(name = "client_email")
+    private String clientEmail;
+
+    @Column(name = "client_name")
+    private String clientName;
+
+    @Column(name = "interview_level")
+    private String interviewLevel;
+
+    @Column(name = "external_interview_details")
+    private String externalInterviewDetails;
+
+    @Column(name = "status", length = 64)
+    private String status;
+
+    @Embedded
+    private InterviewFeedback feedback;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public Interview() {
+    }
+
+    public Interview(String candidateId, String userId, String jobId, int roundNumber) {
+        this.candidateId = candidateId;
+        this.userId = userId;
+        this.jobId = jobId;
+        this.roundNumber = roundNumber;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public static boolean isOpen(String status) {
+        return status != null && OPEN_STATUSES.contains(status.trim().toUpperCase(Locale.ROOT));
+    }
+
+    // Copies the interview columns of the candidate, which hold this round's current details
+    public void copyFrom(CandidateDetails candidate) {
+        this.userId = candidate.getUserId();
+        this.jobId = candidate.getJobId();
+        this.interviewDateTime = candidate.getInterviewDateTime();
+        this.duration = candidate.getDuration();
+        this.zoomLink = candidate.getZoomLink();
+        this.userEmail = candidate.getUserEmail();
+        this.clientEmail = candidate.getClientEmail();
+        this.clientName = candidate.getClientName();
+        this.interviewLevel = candidate.getInterviewLevel();
+        this.externalInterviewDetails = candidate.getExternalInterviewDetails();
+        this.status = candidate.getInterviewStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    public OffsetDateTime getInterviewDateTime() {
+        return interviewDateTime;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public String getZoomLink() {
+        return zoomLink;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public String getInterviewLevel() {
+        return interviewLevel;
+    }
+
+    public String getExternalInterviewDetails() {
+        return externalInterviewDetails;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public InterviewFeedback getFeedback() {
+        return feedback;
+    }
+
+    public void setFeedback(InterviewFeedback feedback) {
+        this.feedback = feedback;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
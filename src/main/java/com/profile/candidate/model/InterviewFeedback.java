@@ -0,0 +1,74 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interviewer feedback on one interview round. All fields stay null until feedback is recorded.
+ */
+@Embeddable
+public class InterviewFeedback {
+
+    @Column(name = "communication_skills")
+    private String communicationSkills;
+
+    @Min(value = 0, message = "Rating must be 0 or higher")
+    @Max(value = 5, message = "Rating must be 5 or lower")
+    @Column(name = "required_technologies_rating")
+    private Double requiredTechnologiesRating;
+
+    @Size(max = 500, message = "Overall feedback must not exceed 500 characters")
+    @Column(name = "overall_feedback", length = 500)
+    private String overallFeedback;
+
+    @Column(name = "feedback_at")
+    private LocalDateTime feedbackAt;
+
+    public InterviewFeedback() {
+    }
+
+    public InterviewFeedback(String communicationSkills, Double requiredTechnologiesRating, String overallFeedback) {
+        this.communicationSkills = communicationSkills;
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+        this.overallFeedback = overallFeedback;
+        this.feedbackAt = LocalDateTime.now();
+    }
+
+    public String getCommunicationSkills() {
+        return communicationSkills;
+    }
+
+    public void setCommunicationSkills(String communicationSkills) {
+        this.communicationSkills = communicationSkills;
+    }
+
+    public Double getRequiredTechnologiesRating() {
+        return requiredTechnologiesRating;
+    }
+
+    public void setRequiredTechnologiesRating(Double requiredTechnologiesRating) {
+        this.requiredTechnologiesRating = requiredTechnologiesRating;
+    }
+
+    public String getOverallFeedback() {
+        return overallFeedback;
+    }
+
+    public void setOverallFeedback(String overallFeedback) {
+        this.overallFeedback = overallFeedback;
+    }
+
+    public LocalDateTime getFeedbackAt() {
+        return feedbackAt;
+    }
+
+    public void setFeedbackAt(LocalDateTime feedbackAt) {
+        this.feedbackAt = feedbackAt;
+    }
+}
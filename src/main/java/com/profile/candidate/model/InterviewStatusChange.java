@@ -0,0 +1,81 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition of an interview round, e.g. SCHEDULED to COMPLETED. Rows are only ever
+ * inserted, so the table is the audit trail of every round.
+ */
+@Entity
+@Table(name = "interview_status_history", indexes = {
+        @Index(name = "idx_interview_status_history_candidate", columnList = "candidate_id, changed_at"),
+        @Index(name = "idx_interview_status_history_interview", columnList = "interview_id")
+})
+public class InterviewStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interview_id", nullable = false)
+    private Long interviewId;
+
+    @Column(name = "candidate_id", nullable = false)
+    private String candidateId;
+
+    // Null for the status a round was created with
+    @Column(name = "from_status", length = 64)
+    private String fromStatus;
+
+    @Column(name = "to_status", length = 64)
+    private String toStatus;
+
+    // The userId of the request that made the change
+    @Column(name = "changed_by")
+    private String changedBy;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public InterviewStatusChange() {
+    }
+
+    public InterviewStatusChange(Interview interview, String fromStatus, String changedBy) {
+        this.interviewId = interview.getId();
+        this.candidateId = interview.getCandidateId();
+        this.fromStatus = fromStatus;
+        this.toStatus = interview.getStatus();
+        this.changedBy = changedBy;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
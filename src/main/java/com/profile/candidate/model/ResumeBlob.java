@@ -0,0 +1,147 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The resume attached to a candidate, kept in its own table so that the
+ * candidate listing and interview queries never touch it. The file itself
+ * lives in {@link com.profile.candidate.storage.ResumeStorage}; this row only
+ * references it by content hash and describes it for downloads.
+ */
+@Entity
+@Table(name = "resume_blobs", indexes = {
+        @Index(name = "idx_resume_blobs_content_hash", columnList = "content_hash")
+})
+public class ResumeBlob {
+
+    @Id
+    @Column(name = "candidate_id", nullable = false)
+    private String candidateId;
+
+    // Read-only link back to the owning candidate row (shares the primary key)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "candidate_id", insertable = false, updatable = false)
+    private CandidateDetails candidate;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    // Hex SHA-256 of the file content: the ResumeStorage key and the download ETag
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Original size; what downloads report unless the stored gzip is sent as is
+    @Column(name = "content_length")
+    private Long contentLength;
+
+    // Size at rest and its encoding ("gzip", or null when stored as uploaded)
+    @Column(name = "stored_length")
+    private Long storedLength;
+
+    @Column(name = "content_encoding", length = 16)
+    private String contentEncoding;
+
+    // Inline content written before ResumeStorage existed; new uploads leave this null
+    @Lob
+    @Column(name = "data", columnDefinition = "LONGBLOB")
+    private byte[] data;
+
+    @Column(name = "uploaded_at")
+    private LocalDateTime uploadedAt;
+
+    public ResumeBlob() {
+    }
+
+    public ResumeBlob(String candidateId, String fileName, String contentType, String contentHash, long contentLength,
+                      long storedLength, String contentEncoding) {
+        this.candidateId = candidateId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.contentHash = contentHash;
+        this.contentLength = contentLength;
+        this.storedLength = storedLength;
+        this.contentEncoding = contentEncoding;
+        this.uploadedAt = LocalDateTime.now();
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public CandidateDetails getCandidate() {
+        return candidate;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(Long contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public Long getStoredLength() {
+        return storedLength;
+    }
+
+    public void setStoredLength(Long storedLength) {
+        this.storedLength = storedLength;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+}
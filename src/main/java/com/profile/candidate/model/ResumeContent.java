@@ -0,0 +1,66 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resume file bytes keyed by their SHA-256, used when resumes are kept in the
+ * database instead of on disk ({@code resume.storage.type=database}).
+ * Content is written and streamed through JDBC; the entity only defines the table.
+ */
+@Entity
+@Table(name = "resume_contents")
+public class ResumeContent {
+
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    // Size of the original file
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    // Size of data, which is smaller when compressed; null on rows written before compression
+    @Column(name = "stored_length")
+    private Long storedLength;
+
+    // "gzip" when data is compressed, null when it holds the file as uploaded
+    @Column(name = "content_encoding", length = 16)
+    private String contentEncoding;
+
+    @Lob
+    @Column(name = "data", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] data;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // When the content was last stored or reused; the sweeper only removes rows idle for a while
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public Long getStoredLength() {
+        return storedLength;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastUsedAt() {
+        return lastUsedAt;
+    }
+}
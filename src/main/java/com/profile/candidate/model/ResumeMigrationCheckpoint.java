@@ -0,0 +1,194 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a resumable resume migration: the last key it finished, running totals, and which
+ * node currently holds it. The lease keeps two replicas from running the same migration; a node
+ * that dies simply lets its lease expire and another one (or its own restart) carries on from
+ * {@code lastKey}.
+ */
+@Entity
+@Table(name = "resume_migration_checkpoints")
+public class ResumeMigrationCheckpoint {
+
+    @Id
+    @Column(name = "migration_name", length = 64, nullable = false)
+    private String name;
+
+    // Last candidate_id processed (migrated, skipped or failed); null before the first batch
+    @Column(name = "last_key")
+    private String lastKey;
+
+    @Column(name = "migrated", nullable = false)
+    private long migrated;
+
+    // Candidates that already had a newer resume in resume_blobs; only their old column was cleared
+    @Column(name = "superseded", nullable = false)
+    private long superseded;
+
+    // Left in place after a read or verification error; a restart from the beginning retries them
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    @Column(name = "bytes_migrated", nullable = false)
+    private long bytesMigrated;
+
+    // Rows past last_key still holding a resume, counted when a run starts and counted down after
+    @Column(name = "remaining")
+    private Long remaining;
+
+    // Set through the API; the running node stops after its current batch and no node restarts it
+    @Column(name = "paused", nullable = false)
+    private boolean paused;
+
+    // Throttle overrides set at runtime; null means the resume.migration.* property applies
+    @Column(name = "rows_per_second")
+    private Double rowsPerSecond;
+
+    @Column(name = "bytes_per_second")
+    private Long bytesPerSecond;
+
+    @Column(name = "batch_size")
+    private Integer batchSize;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public ResumeMigrationCheckpoint() {
+    }
+
+    public ResumeMigrationCheckpoint(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLastKey() {
+        return lastKey;
+    }
+
+    public void setLastKey(String lastKey) {
+        this.lastKey = lastKey;
+    }
+
+    public long getMigrated() {
+        return migrated;
+    }
+
+    public void setMigrated(long migrated) {
+        this.migrated = migrated;
+    }
+
+    public long getSuperseded() {
+        return superseded;
+    }
+
+    public void setSuperseded(long superseded) {
+        this.superseded = superseded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getBytesMigrated() {
+        return bytesMigrated;
+    }
+
+    public void setBytesMigrated(long bytesMigrated) {
+        this.bytesMigrated = bytesMigrated;
+    }
+
+    public Long getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(Long remaining) {
+        this.remaining = remaining;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public Double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(Double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public Long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public void setBytesPerSecond(Long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
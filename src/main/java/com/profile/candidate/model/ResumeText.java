@@ -0,0 +1,114 @@
+package com.profile.candidate.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Plain text extracted from one stored resume file, keyed like the file itself by its content
+ * hash, so every candidate sharing that file shares one extraction. A row is written for every
+ * attempt, including unparseable files, so nothing is retried endlessly.
+ */
+@Entity
+@Table(name = "resume_texts")
+public class ResumeText {
+
+    public static final String EXTRACTED = "EXTRACTED";
+    public static final String UNSUPPORTED = "UNSUPPORTED";   // Not a PDF, DOC or DOCX
+    public static final String FAILED = "FAILED";             // Parser error, e.g. corrupt or encrypted
+
+    // Hex SHA-256 of the file content, as in resume_blobs.content_hash
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "status", length = 16, nullable = false)
+    private String status;
+
+    // Whitespace-normalised text; null unless status is EXTRACTED
+    @Lob
+    @Column(name = "text", columnDefinition = "LONGTEXT")
+    private String text;
+
+    // Set when the text was cut at candidate.extraction.max-chars
+    @Column(name = "truncated", nullable = false)
+    private boolean truncated;
+
+    @Column(name = "error", length = 255)
+    private String error;
+
+    @Column(name = "extraction_millis")
+    private Long extractionMillis;
+
+    @Column(name = "extracted_at", nullable = false)
+    private LocalDateTime extractedAt;
+
+    public ResumeText() {
+    }
+
+    public ResumeText(String contentHash, String status, String text, boolean truncated, String error, long extractionMillis) {
+        this.contentHash = contentHash;
+        this.status = status;
+        this.text = text;
+        this.truncated = truncated;
+        this.error = error;
+        this.extractionMillis = extractionMillis;
+        this.extractedAt = LocalDateTime.now();
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Long getExtractionMillis() {
+        return extractionMillis;
+    }
+
+    public void setExtractionMillis(Long extractionMillis) {
+        this.extractionMillis = extractionMillis;
+    }
+
+    public LocalDateTime getExtractedAt() {
+        return extractedAt;
+    }
+
+    public void setExtractedAt(LocalDateTime extractedAt) {
+        this.extractedAt = extractedAt;
+    }
+}
@@ -0,0 +1,25 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.CacheInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    @Query("SELECT i FROM CacheInvalidation i WHERE i.createdAt >= :since AND i.origin <> :origin ORDER BY i.createdAt")
+    List<CacheInvalidation> findPublishedSince(@Param("since") LocalDateTime since, @Param("origin") String origin);
+
+    @Query("SELECT MAX(i.createdAt) FROM CacheInvalidation i")
+    LocalDateTime findLatestCreatedAt();
+
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
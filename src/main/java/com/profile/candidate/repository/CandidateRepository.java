@@ -1,12 +1,28 @@
 package com.profile.candidate.repository;
 
+import com.profile.candidate.cache.CandidateSummary;
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.dto.GetInterviewResponseDto;
+import com.profile.candidate.matching.MatchFeatureRow;
 import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.scheduling.InterviewSlotRow;
+import com.profile.candidate.search.SearchableCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<CandidateDetails, String> {
@@ -22,7 +38,8 @@ public interface CandidateRepository extends JpaRepository<CandidateDetails, Str
     // Find all candidates with specific total experience
     List<CandidateDetails> findByTotalExperience(Integer totalExperience);
 
-    // Find all candidates with specific skills (if skills are a list)
+    // Find all candidates with specific skills (if skills are a list). A LIKE '%skill%' scan of
+    // the whole table; interactive search goes through SkillSearchIndex instead
     List<CandidateDetails> findBySkillsContaining(String skill);
 
     // Find candidates by notice period
@@ -38,16 +55,186 @@ public interface CandidateRepository extends JpaRepository<CandidateDetails, Str
 
     Optional<CandidateDetails> findByCandidateIdAndUserId(String candidateId, String userId);
     Optional<CandidateDetails> findByCandidateIdAndInterviewDateTime(String candidateId, OffsetDateTime interviewDateTime);
-    Optional<CandidateDetails> findByCandidateEmailIdAndJobIdAndClientName(
-            String candidateEmailId,
-            String jobId,
-            String clientName);
-
-    Optional<CandidateDetails> findByContactNumberAndJobIdAndClientName(
-            String contactNumber,
-            String jobId,
-            String clientEmail);
+    // One round trip for both duplicate rules: same email or same contact number for the same
+    // job and client. Each branch of the OR is served by its own composite unique index.
+    @Query("SELECT c.candidateEmailId AS candidateEmailId, c.contactNumber AS contactNumber, "
+            + "c.jobId AS jobId, c.clientName AS clientName FROM CandidateDetails c "
+            + "WHERE c.jobId = :jobId AND c.clientNameKey = :clientNameKey "
+            + "AND (c.candidateEmailId = :candidateEmailId OR c.contactNumber = :contactNumber)")
+    List<DuplicateCandidateKey> findDuplicateKeys(@Param("candidateEmailId") String candidateEmailId,
+                                                  @Param("contactNumber") String contactNumber,
+                                                  @Param("jobId") String jobId,
+                                                  @Param("clientNameKey") String clientNameKey,
+                                                  Limit limit);
+
+    // Batched forms of findDuplicateKeys for imports: existing submissions that may clash with the
+    // given records. One query per rule, so each is a range read on its unique index instead of
+    // an OR that defeats both; callers match the exact (value, job, client) key in memory.
+    @Query("SELECT c.candidateEmailId AS candidateEmailId, c.contactNumber AS contactNumber, "
+            + "c.jobId AS jobId, c.clientName AS clientName FROM CandidateDetails c "
+            + "WHERE c.candidateEmailId IN :candidateEmailIds AND c.jobId IN :jobIds")
+    List<DuplicateCandidateKey> findDuplicateKeysByEmailIn(@Param("candidateEmailIds") Collection<String> candidateEmailIds,
+                                                           @Param("jobIds") Collection<String> jobIds);
+
+    @Query("SELECT c.candidateEmailId AS candidateEmailId, c.contactNumber AS contactNumber, "
+            + "c.jobId AS jobId, c.clientName AS clientName FROM CandidateDetails c "
+            + "WHERE c.contactNumber IN :contactNumbers AND c.jobId IN :jobIds")
+    List<DuplicateCandidateKey> findDuplicateKeysByContactIn(@Param("contactNumbers") Collection<String> contactNumbers,
+                                                             @Param("jobIds") Collection<String> jobIds);
+
+    // Fills the duplicate-check key on rows written before it existed
+    @Modifying
+    @Query("UPDATE CandidateDetails c SET c.clientNameKey = COALESCE(c.clientName, '') WHERE c.clientNameKey IS NULL")
+    int backfillClientNameKeys();
+
+    // Gives rows written before the column was required a received date, taken from their last
+    // interview update, or today when there was none; the submissions keyset cannot page over NULL dates
+    @Modifying
+    @Query("UPDATE CandidateDetails c SET c.profileReceivedDate = COALESCE(CAST(c.timestamp AS LocalDate), CURRENT_DATE) "
+            + "WHERE c.profileReceivedDate IS NULL")
+    int backfillProfileReceivedDates();
+
     // Method to fetch all candidates (this is already provided by JpaRepository)
     List<CandidateDetails> findAll();
-    
-}
\ No newline at end of file
+
+    // Columns cached by CandidateSummaryCache; never touches resume data
+    @Query("SELECT new com.profile.candidate.cache.CandidateSummary(c.candidateId, c.userId, c.jobId, c.fullName, "
+            + "c.candidateEmailId, c.userEmail, c.clientEmail, c.clientName, c.interviewDateTime, c.interviewStatus) "
+            + "FROM CandidateDetails c WHERE c.candidateId = :candidateId")
+    Optional<CandidateSummary> findSummaryById(@Param("candidateId") String candidateId);
+
+    // Selects only the columns CandidateGetResponseDto needs
+    String SUBMISSION_PROJECTION = "SELECT new com.profile.candidate.dto.CandidateGetResponseDto("
+            + "c.candidateId, c.jobId, c.userId, c.fullName, c.candidateEmailId, c.contactNumber, "
+            + "c.currentOrganization, c.qualification, c.totalExperience, c.relevantExperience, "
+            + "c.currentCTC, c.expectedCTC, c.noticePeriod, c.currentLocation, c.preferredLocation, "
+            + "c.skills, c.communicationSkills, c.requiredTechnologiesRating, c.overallFeedback, "
+            + "c.userEmail, c.interviewDateTime, c.profileReceivedDate, c.version) FROM CandidateDetails c ";
+
+    @Query(SUBMISSION_PROJECTION)
+    List<CandidateGetResponseDto> findAllSubmissions();
+
+    /**
+     * One page of submissions, newest first, in keyset order on (profileReceivedDate, candidateId).
+     * Pass the last row of the previous page as afterDate/afterCandidateId, or nulls for the first page.
+     * Every filter is optional; a null parameter disables it.
+     */
+    @Query(SUBMISSION_PROJECTION
+            + "WHERE (:jobId IS NULL OR c.jobId = :jobId) "
+            + "AND (:userId IS NULL OR c.userId = :userId) "
+            + "AND (:interviewStatus IS NULL OR LOWER(c.interviewStatus) = LOWER(:interviewStatus)) "
+            + "AND (:fromDate IS NULL OR c.profileReceivedDate >= :fromDate) "
+            + "AND (:toDate IS NULL OR c.profileReceivedDate <= :toDate) "
+            + "AND (:afterDate IS NULL OR c.profileReceivedDate < :afterDate "
+            + "     OR (c.profileReceivedDate = :afterDate AND c.candidateId < :afterCandidateId)) "
+            + "ORDER BY c.profileReceivedDate DESC, c.candidateId DESC")
+    List<CandidateGetResponseDto> findSubmissionsPage(@Param("jobId") String jobId,
+                                                      @Param("userId") String userId,
+                                                      @Param("interviewStatus") String interviewStatus,
+                                                      @Param("fromDate") LocalDate fromDate,
+                                                      @Param("toDate") LocalDate toDate,
+                                                      @Param("afterDate") LocalDate afterDate,
+                                                      @Param("afterCandidateId") String afterCandidateId,
+                                                      Limit limit);
+
+    /**
+     * Scheduled interviews ordered by time, optionally limited to the window [from, to).
+     * Served by the interview date/time index as a range read rather than a table scan.
+     */
+    @Query("SELECT new com.profile.candidate.dto.GetInterviewResponseDto("
+            + "c.jobId, c.candidateId, c.fullName, c.contactNumber, c.candidateEmailId, c.userEmail, c.userId, "
+            + "c.interviewDateTime, c.duration, c.zoomLink, c.timestamp, c.clientEmail, c.clientName, "
+            + "c.interviewLevel, 'Scheduled') "
+            + "FROM CandidateDetails c "
+            + "WHERE c.interviewDateTime IS NOT NULL "
+            + "AND (:from IS NULL OR c.interviewDateTime >= :from) "
+            + "AND (:to IS NULL OR c.interviewDateTime < :to) "
+            + "ORDER BY c.interviewDateTime")
+    List<GetInterviewResponseDto> findScheduledInterviews(@Param("from") OffsetDateTime from,
+                                                          @Param("to") OffsetDateTime to);
+
+    // All of one user's submissions, newest first, read along the user index
+    @Query(SUBMISSION_PROJECTION
+            + "WHERE c.userId = :userId ORDER BY c.profileReceivedDate DESC, c.candidateId DESC")
+    List<CandidateGetResponseDto> findSubmissionsByUserId(@Param("userId") String userId);
+
+    @Query(SUBMISSION_PROJECTION + "WHERE c.candidateId = :candidateId")
+    Optional<CandidateGetResponseDto> findSubmissionById(@Param("candidateId") String candidateId);
+
+    // Interview view of every candidate, with the status derived from whether a time is set
+    String INTERVIEW_PROJECTION = "SELECT new com.profile.candidate.dto.GetInterviewResponseDto("
+            + "c.jobId, c.candidateId, c.fullName, c.contactNumber, c.candidateEmailId, c.userEmail, c.userId, "
+            + "c.interviewDateTime, c.duration, c.zoomLink, c.timestamp, c.clientEmail, c.clientName, "
+            + "c.interviewLevel, CASE WHEN c.interviewDateTime IS NOT NULL THEN 'Scheduled' ELSE 'Not Scheduled' END) "
+            + "FROM CandidateDetails c ";
+
+    @Query(INTERVIEW_PROJECTION
+            + "WHERE c.userId = :userId ORDER BY c.profileReceivedDate DESC, c.candidateId DESC")
+    List<GetInterviewResponseDto> findInterviewsByUserId(@Param("userId") String userId);
+
+    @Query(INTERVIEW_PROJECTION + "WHERE c.candidateId = :candidateId")
+    Optional<GetInterviewResponseDto> findInterviewById(@Param("candidateId") String candidateId);
+
+    // Per-status counts for one user, answered from the (userId, interviewStatus, interviewDateTime) index alone
+    @Query("SELECT c.interviewStatus AS interviewStatus, COUNT(c) AS total, "
+            + "SUM(CASE WHEN c.interviewDateTime IS NOT NULL THEN 1 ELSE 0 END) AS scheduled "
+            + "FROM CandidateDetails c WHERE c.userId = :userId GROUP BY c.interviewStatus")
+    List<UserStatusCount> countByInterviewStatus(@Param("userId") String userId);
+
+    // Forward-only reads for the exports. Rows are fetched from the server in blocks of FETCH_SIZE
+    // (with useCursorFetch on MySQL) instead of being buffered whole; the caller must consume the
+    // stream inside a transaction and close it.
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SUBMISSION_PROJECTION + "ORDER BY c.profileReceivedDate DESC, c.candidateId DESC")
+    Stream<CandidateGetResponseDto> streamAllSubmissions();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.profile.candidate.dto.GetInterviewResponseDto("
+            + "c.jobId, c.candidateId, c.fullName, c.contactNumber, c.candidateEmailId, c.userEmail, c.userId, "
+            + "c.interviewDateTime, c.duration, c.zoomLink, c.timestamp, c.clientEmail, c.clientName, "
+            + "c.interviewLevel, 'Scheduled') "
+            + "FROM CandidateDetails c "
+            + "WHERE c.interviewDateTime IS NOT NULL "
+            + "AND (:from IS NULL OR c.interviewDateTime >= :from) "
+            + "AND (:to IS NULL OR c.interviewDateTime < :to) "
+            + "ORDER BY c.interviewDateTime")
+    Stream<GetInterviewResponseDto> streamScheduledInterviews(@Param("from") OffsetDateTime from,
+                                                             @Param("to") OffsetDateTime to);
+
+    // Searchable text of a candidate plus its resume hash, for the skill search index
+    String SEARCHABLE_PROJECTION = "SELECT new com.profile.candidate.search.SearchableCandidate("
+            + "c.candidateId, c.skills, c.qualification, c.currentOrganization, r.contentHash) "
+            + "FROM CandidateDetails c LEFT JOIN ResumeBlob r ON r.candidateId = c.candidateId ";
+
+    @Query(SEARCHABLE_PROJECTION + "WHERE c.candidateId = :candidateId")
+    Optional<SearchableCandidate> findSearchableById(@Param("candidateId") String candidateId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(SEARCHABLE_PROJECTION)
+    Stream<SearchableCandidate> streamSearchable();
+
+    // Columns the matching engine scores on
+    String MATCH_FEATURES_PROJECTION = "SELECT new com.profile.candidate.matching.MatchFeatureRow("
+            + "c.candidateId, c.jobId, c.skills, c.totalExperience, c.relevantExperience, c.noticePeriod, "
+            + "c.expectedCTC, c.preferredLocation) FROM CandidateDetails c ";
+
+    @Query(MATCH_FEATURES_PROJECTION + "WHERE c.candidateId = :candidateId")
+    Optional<MatchFeatureRow> findMatchFeaturesById(@Param("candidateId") String candidateId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(MATCH_FEATURES_PROJECTION)
+    Stream<MatchFeatureRow> streamMatchFeatures();
+
+    // When and with whom a candidate's interview is held, for the interview slot index
+    String INTERVIEW_SLOT_PROJECTION = "SELECT new com.profile.candidate.scheduling.InterviewSlotRow("
+            + "c.candidateId, c.userEmail, c.clientEmail, c.interviewDateTime, c.duration) FROM CandidateDetails c ";
+
+    @Query(INTERVIEW_SLOT_PROJECTION + "WHERE c.candidateId = :candidateId")
+    Optional<InterviewSlotRow> findInterviewSlotById(@Param("candidateId") String candidateId);
+
+    // Interviews starting at or after from; past ones can no longer clash with a new booking
+    @Query(INTERVIEW_SLOT_PROJECTION + "WHERE c.interviewDateTime IS NOT NULL AND c.interviewDateTime >= :from")
+    List<InterviewSlotRow> findInterviewSlotsFrom(@Param("from") OffsetDateTime from);
+}
@@ -0,0 +1,15 @@
+package com.profile.candidate.repository;
+
+/**
+ * The uniqueness keys of an existing submission that clashes with a new one.
+ */
+public interface DuplicateCandidateKey {
+
+    String getCandidateEmailId();
+
+    String getContactNumber();
+
+    String getJobId();
+
+    String getClientName();
+}
@@ -0,0 +1,55 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.EmailOutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // Oldest pending messages whose retry delay has elapsed
+    @Query("SELECT m.id FROM EmailOutboxMessage m WHERE m.status = 'PENDING' AND m.nextAttemptAt <= :now ORDER BY m.id")
+    List<Long> findIdsReadyToSend(@Param("now") LocalDateTime now, Limit limit);
+
+    // Claims only rows that are still pending, so two dispatchers never own the same message
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = 'SENDING', m.claimToken = :token, m.claimedAt = :now "
+            + "WHERE m.id IN :ids AND m.status = 'PENDING'")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    List<EmailOutboxMessage> findByClaimToken(String claimToken);
+
+    // Outcomes are recorded only while the claim is still ours, not after it was released and claimed again
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = 'SENT', m.sentAt = :now, m.claimToken = null, "
+            + "m.attempts = m.attempts + 1 WHERE m.id IN :ids AND m.claimToken = :token")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.attempts = :attempts, m.lastError = :lastError, "
+            + "m.nextAttemptAt = :nextAttemptAt, m.claimToken = null WHERE m.id = :id AND m.claimToken = :token")
+    int markFailed(@Param("id") Long id, @Param("token") String token, @Param("status") String status,
+                   @Param("attempts") int attempts, @Param("lastError") String lastError,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // Returns messages abandoned by a dispatcher that stopped mid-batch to the queue. The abandoned
+    // send counts as an attempt, so a message that crashes the sender every time still runs out of
+    // attempts; status is assigned first so it is decided on the attempts before this one.
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET "
+            + "m.status = CASE WHEN m.attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, "
+            + "m.attempts = m.attempts + 1, m.claimToken = null, m.lastError = :lastError "
+            + "WHERE m.status = 'SENDING' AND m.claimedAt < :claimedBefore")
+    int releaseStaleClaims(@Param("claimedBefore") LocalDateTime claimedBefore, @Param("maxAttempts") int maxAttempts,
+                           @Param("lastError") String lastError);
+
+    long countByStatus(String status);
+}
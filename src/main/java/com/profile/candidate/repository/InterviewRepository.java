@@ -0,0 +1,63 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.dto.InterviewRoundDto;
+import com.profile.candidate.model.Interview;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface InterviewRepository extends JpaRepository<Interview, Long> {
+
+    // The candidate's latest round, read through the (candidate_id, round_number) unique index
+    Optional<Interview> findFirstByCandidateIdOrderByRoundNumberDesc(String candidateId);
+
+    @Query("SELECT COALESCE(MAX(i.roundNumber), 0) FROM Interview i WHERE i.candidateId = :candidateId")
+    int findLastRoundNumber(@Param("candidateId") String candidateId);
+
+    String ROUND_PROJECTION = "SELECT new com.profile.candidate.dto.InterviewRoundDto("
+            + "i.id, i.candidateId, i.userId, i.jobId, i.roundNumber, i.interviewDateTime, i.duration, i.zoomLink, "
+            + "i.userEmail, i.clientEmail, i.clientName, i.interviewLevel, i.status, "
+            + "i.feedback.communicationSkills, i.feedback.requiredTechnologiesRating, i.feedback.overallFeedback, "
+            + "i.feedback.feedbackAt, i.createdAt, i.updatedAt) FROM Interview i ";
+
+    @Query(ROUND_PROJECTION + "WHERE i.candidateId = :candidateId ORDER BY i.roundNumber")
+    List<InterviewRoundDto> findRoundsByCandidateId(@Param("candidateId") String candidateId);
+
+    /**
+     * Rounds of one user and/or within the window [from, to), in time order. Served by the
+     * (user_id, interview_date_time) index when a user is given, by the date/time index otherwise.
+     */
+    @Query(ROUND_PROJECTION
+            + "WHERE (:userId IS NULL OR i.userId = :userId) "
+            + "AND (:from IS NULL OR i.interviewDateTime >= :from) "
+            + "AND (:to IS NULL OR i.interviewDateTime < :to) "
+            + "ORDER BY i.interviewDateTime, i.id")
+    List<InterviewRoundDto> findRounds(@Param("userId") String userId,
+                                       @Param("from") OffsetDateTime from,
+                                       @Param("to") OffsetDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM Interview i WHERE i.candidateId = :candidateId")
+    int deleteByCandidateId(@Param("candidateId") String candidateId);
+
+    // Round 1 for every candidate interviewed before rounds were kept, from the candidate's interview columns
+    @Modifying
+    @Query("INSERT INTO Interview (candidateId, userId, jobId, roundNumber, interviewDateTime, duration, zoomLink, "
+            + "userEmail, clientEmail, clientName, interviewLevel, externalInterviewDetails, status, "
+            + "feedback.communicationSkills, feedback.requiredTechnologiesRating, feedback.overallFeedback, "
+            + "createdAt, updatedAt) "
+            + "SELECT c.candidateId, c.userId, c.jobId, 1, c.interviewDateTime, c.duration, c.zoomLink, "
+            + "c.userEmail, c.clientEmail, c.clientName, c.interviewLevel, c.externalInterviewDetails, c.interviewStatus, "
+            + "c.communicationSkills, c.requiredTechnologiesRating, c.overallFeedback, "
+            + "COALESCE(c.timestamp, LOCAL DATETIME), LOCAL DATETIME "
+            + "FROM CandidateDetails c WHERE c.interviewDateTime IS NOT NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM Interview i WHERE i.candidateId = c.candidateId)")
+    int backfillFirstRounds();
+}
@@ -0,0 +1,25 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.dto.InterviewStatusChangeDto;
+import com.profile.candidate.model.InterviewStatusChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InterviewStatusChangeRepository extends JpaRepository<InterviewStatusChange, Long> {
+
+    // Every status change of the candidate's rounds, oldest first
+    @Query("SELECT new com.profile.candidate.dto.InterviewStatusChangeDto("
+            + "h.interviewId, h.fromStatus, h.toStatus, h.changedBy, h.changedAt) "
+            + "FROM InterviewStatusChange h WHERE h.candidateId = :candidateId ORDER BY h.changedAt, h.id")
+    List<InterviewStatusChangeDto> findHistoryByCandidateId(@Param("candidateId") String candidateId);
+
+    @Modifying
+    @Query("DELETE FROM InterviewStatusChange h WHERE h.candidateId = :candidateId")
+    int deleteByCandidateId(@Param("candidateId") String candidateId);
+}
@@ -0,0 +1,11 @@
+package com.profile.candidate.repository;
+
+/**
+ * A stored resume file that has no extracted text yet.
+ */
+public interface PendingResumeText {
+
+    String getContentHash();
+
+    String getContentType();
+}
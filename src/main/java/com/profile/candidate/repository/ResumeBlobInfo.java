@@ -0,0 +1,22 @@
+package com.profile.candidate.repository;
+
+/**
+ * Projection of the resume_blobs metadata columns, so that conditional and
+ * range requests can be answered without selecting the LOB.
+ */
+public interface ResumeBlobInfo {
+
+    String getCandidateId();
+
+    String getFileName();
+
+    String getContentType();
+
+    String getContentHash();
+
+    Long getContentLength();
+
+    Long getStoredLength();
+
+    String getContentEncoding();
+}
@@ -0,0 +1,30 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.ResumeBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeBlobRepository extends JpaRepository<ResumeBlob, String> {
+
+    // Metadata only, the LOB column is not selected
+    Optional<ResumeBlobInfo> findInfoByCandidateId(String candidateId);
+
+    // The given stored content hashes that some candidate's resume still points at
+    @Query("SELECT DISTINCT r.contentHash FROM ResumeBlob r WHERE r.contentHash IN :contentHashes")
+    List<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    @Query("SELECT r.candidateId FROM ResumeBlob r WHERE r.contentHash = :contentHash")
+    List<String> findCandidateIdsByContentHash(@Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query("DELETE FROM ResumeBlob r WHERE r.candidateId = :candidateId")
+    int deleteByCandidateId(@Param("candidateId") String candidateId);
+}
@@ -0,0 +1,26 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.ResumeMigrationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ResumeMigrationCheckpointRepository extends JpaRepository<ResumeMigrationCheckpoint, String> {
+
+    // Takes or renews the lease unless another node holds an unexpired one
+    @Modifying
+    @Query("UPDATE ResumeMigrationCheckpoint c SET c.leaseOwner = :owner, c.leaseUntil = :until "
+            + "WHERE c.name = :name AND (c.leaseOwner IS NULL OR c.leaseOwner = :owner OR c.leaseUntil < :now)")
+    int acquireLease(@Param("name") String name, @Param("owner") String owner,
+                     @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE ResumeMigrationCheckpoint c SET c.leaseOwner = null, c.leaseUntil = null "
+            + "WHERE c.name = :name AND c.leaseOwner = :owner")
+    int releaseLease(@Param("name") String name, @Param("owner") String owner);
+}
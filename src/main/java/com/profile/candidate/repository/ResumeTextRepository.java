@@ -0,0 +1,24 @@
+package com.profile.candidate.repository;
+
+import com.profile.candidate.model.ResumeText;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, String> {
+
+    @Query("SELECT t.text FROM ResumeText t WHERE t.contentHash = :contentHash AND t.status = 'EXTRACTED'")
+    Optional<String> findExtractedText(@Param("contentHash") String contentHash);
+
+    // Stored files never attempted: uploads dropped while the extraction queue was full, or from before it existed
+    @Query("SELECT DISTINCT r.contentHash AS contentHash, r.contentType AS contentType FROM ResumeBlob r "
+            + "WHERE r.contentHash IS NOT NULL "
+            + "AND NOT EXISTS (SELECT t.contentHash FROM ResumeText t WHERE t.contentHash = r.contentHash)")
+    List<PendingResumeText> findPending(Limit limit);
+}
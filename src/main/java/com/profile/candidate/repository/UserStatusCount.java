@@ -0,0 +1,13 @@
+package com.profile.candidate.repository;
+
+/**
+ * One interview status of one user's submissions, with how many of them have an interview time set.
+ */
+public interface UserStatusCount {
+
+    String getInterviewStatus();
+
+    Long getTotal();
+
+    Long getScheduled();
+}
@@ -0,0 +1,338 @@
+package com.profile.candidate.scheduling;
+
+import com.profile.candidate.cache.CacheInvalidationChannel;
+import com.profile.candidate.dto.InterviewSlotAvailabilityDto;
+import com.profile.candidate.dto.InterviewSlotDto;
+import com.profile.candidate.exceptions.InterviewSlotConflictException;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.service.CandidateChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory calendar of upcoming interviews per recruiter (userEmail) and per client interviewer
+ * (clientEmail), used to reject overlapping bookings and to suggest the nearest free slots.
+ *
+ * An interview occupies [interviewDateTime, interviewDateTime + duration). Each calendar is an
+ * ordered set searched by time range (see {@link ResourceSchedule}), so overlap checks are
+ * logarithmic in the number of interviews.
+ *
+ * The calendars are loaded from the database on first use (and eagerly once the application is
+ * ready) and then follow committed candidate changes through the {@link CacheInvalidationChannel}.
+ * A booking reserves its slot as soon as it passes the check, so two concurrent bookings on this
+ * node cannot both take the same time; replicas only see each other's bookings after commit.
+ */
+@Component
+public class InterviewSlotIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewSlotIndex.class);
+
+    static final String CHANNEL_NAME = "interviewSlots";
+
+    static final String RECRUITER = "recruiter";
+    static final String CLIENT = "client";
+
+    private final CandidateRepository candidateRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final long defaultLength;
+    private final long step;
+    private final long horizon;
+    private final Duration history;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, ResourceSchedule> schedules = new HashMap<>();   // Guarded by lock
+    private final Map<String, Placement> placements = new HashMap<>();         // Guarded by lock
+    private volatile boolean loaded;
+    private final ReentrantLock loadLock = new ReentrantLock();  // Not synchronized: loading waits on the database
+
+    private final Set<String> changedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    // Where one candidate's interview sits: its slot and the calendars holding it
+    private record Placement(ResourceSchedule.Slot slot, String recruiterKey, String clientKey) {
+    }
+
+    public InterviewSlotIndex(CandidateRepository candidateRepository,
+                              CacheInvalidationChannel invalidationChannel,
+                              @Value("${candidate.interview.default-duration-minutes:60}") int defaultDurationMinutes,
+                              @Value("${candidate.interview.slot-step-minutes:15}") int stepMinutes,
+                              @Value("${candidate.interview.suggestion-horizon-days:14}") int horizonDays,
+                              @Value("${candidate.interview.history:P1D}") Duration history) {
+        this.candidateRepository = candidateRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.defaultLength = Duration.ofMinutes(defaultDurationMinutes).toMillis();
+        this.step = Duration.ofMinutes(stepMinutes).toMillis();
+        this.horizon = Duration.ofDays(horizonDays).toMillis();
+        this.history = history;
+        invalidationChannel.subscribe(CHANNEL_NAME, this::refresh);
+    }
+
+    /**
+     * Whether [start, start + duration) is free for both the recruiter and the client, the
+     * interviews it clashes with, and up to {@code suggestions} free start times from
+     * {@code start} on. {@code excludedCandidateId} is ignored, so rescheduling an interview does
+     * not clash with its own current slot. Either email may be null.
+     */
+    public InterviewSlotAvailabilityDto check(String userEmail, String clientEmail, OffsetDateTime start,
+                                              Integer duration, String excludedCandidateId, int suggestions) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return availability(resourceKey(RECRUITER, userEmail), resourceKey(CLIENT, clientEmail),
+                    start, duration, excludedCandidateId, suggestions, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Books the slot for {@code candidateId} if it is free, replacing the candidate's previous
+     * slot. Called inside the scheduling transaction; if that transaction rolls back the
+     * candidate's slot is re-read from the database.
+     *
+     * @throws InterviewSlotConflictException if the slot overlaps another interview of the
+     *                                        recruiter or the client, with suggested free times
+     */
+    public void reserve(String candidateId, String userEmail, String clientEmail, OffsetDateTime start,
+                        Integer duration, int suggestions) {
+        ensureLoaded();
+        String recruiterKey = resourceKey(RECRUITER, userEmail);
+        String clientKey = resourceKey(CLIENT, clientEmail);
+        lock.writeLock().lock();
+        try {
+            InterviewSlotAvailabilityDto availability =
+                    availability(recruiterKey, clientKey, start, duration, candidateId, suggestions, false);
+            if (!availability.isAvailable()) {
+                throw new InterviewSlotConflictException("The requested interview time overlaps "
+                        + availability.getConflicts().size() + " other interview(s) of the recruiter or client.",
+                        availability);
+            }
+            long startMillis = start.toInstant().toEpochMilli();
+            place(new ResourceSchedule.Slot(candidateId, startMillis, startMillis + length(duration)),
+                    recruiterKey, clientKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        refresh(candidateId);  // Drop the reservation, restore what the database holds
+                    }
+                }
+            });
+        }
+    }
+
+    // After commit; every replica re-reads the candidate's interview
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        invalidationChannel.publish(CHANNEL_NAME, event.getCandidateId());
+    }
+
+    void refresh(String candidateId) {
+        if (loading) {
+            changedDuringLoad.add(candidateId);
+        }
+        Optional<InterviewSlotRow> row = candidateRepository.findInterviewSlotById(candidateId);
+        lock.writeLock().lock();
+        try {
+            unplace(candidateId);
+            row.filter(r -> r.getInterviewDateTime() != null).ifPresent(this::place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        ensureLoaded();
+    }
+
+    // Loads interviews from (now - history) on; concurrent callers wait for the one load
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            long started = System.currentTimeMillis();
+            changedDuringLoad.clear();
+            loading = true;
+            List<InterviewSlotRow> rows;
+            try {
+                rows = candidateRepository.findInterviewSlotsFrom(OffsetDateTime.now(ZoneOffset.UTC).minus(history));
+            } finally {
+                loading = false;
+            }
+            lock.writeLock().lock();
+            try {
+                schedules.clear();
+                placements.clear();
+                rows.forEach(this::place);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded = true;
+            for (String candidateId : changedDuringLoad) {
+                refresh(candidateId);
+            }
+            changedDuringLoad.clear();
+            logger.info("Interview slot index loaded: {} interviews in {} ms",
+                    rows.size(), System.currentTimeMillis() - started);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // Caller holds a lock; suggestions are only searched for on a clash unless alwaysSuggest
+    private InterviewSlotAvailabilityDto availability(String recruiterKey, String clientKey, OffsetDateTime start,
+                                                      Integer duration, String excludedCandidateId, int suggestions,
+                                                      boolean alwaysSuggest) {
+        long startMillis = start.toInstant().toEpochMilli();
+        long length = length(duration);
+        ZoneOffset offset = start.getOffset();
+
+        List<InterviewSlotDto> conflicts = new ArrayList<>();
+        List<ResourceSchedule.Slot> overlapping = new ArrayList<>();
+        for (String key : new String[]{recruiterKey, clientKey}) {
+            ResourceSchedule schedule = key != null ? schedules.get(key) : null;
+            if (schedule == null) {
+                continue;
+            }
+            overlapping.clear();
+            schedule.overlapping(startMillis, startMillis + length, excludedCandidateId, overlapping);
+            String resource = key.substring(0, key.indexOf(':'));
+            for (ResourceSchedule.Slot slot : overlapping) {
+                conflicts.add(new InterviewSlotDto(slot.candidateId(), resource,
+                        toDateTime(slot.start(), offset), toDateTime(slot.end(), offset)));
+            }
+        }
+
+        List<OffsetDateTime> free = new ArrayList<>();
+        if (!conflicts.isEmpty() || alwaysSuggest) {
+            for (long slotStart : freeSlots(recruiterKey, clientKey, startMillis, length, excludedCandidateId, suggestions)) {
+                free.add(toDateTime(slotStart, offset));
+            }
+        }
+        return new InterviewSlotAvailabilityDto(conflicts.isEmpty(), start,
+                toDateTime(startMillis + length, offset), conflicts, free);
+    }
+
+    /**
+     * Walks forward from {@code from}: at each clash, jumps to the end of the latest overlapping
+     * interview (rounded up to the slot step); each free start found is followed by a search
+     * from the end of that suggestion. Stops after {@code count} slots or the horizon.
+     */
+    private List<Long> freeSlots(String recruiterKey, String clientKey, long from, long length,
+                                 String excludedCandidateId, int count) {
+        List<Long> free = new ArrayList<>(count);
+        List<ResourceSchedule.Slot> overlapping = new ArrayList<>();
+        long candidate = from;
+        long limit = from + horizon;
+        while (free.size() < count && candidate < limit) {
+            overlapping.clear();
+            for (String key : new String[]{recruiterKey, clientKey}) {
+                ResourceSchedule schedule = key != null ? schedules.get(key) : null;
+                if (schedule != null) {
+                    schedule.overlapping(candidate, candidate + length, excludedCandidateId, overlapping);
+                }
+            }
+            if (overlapping.isEmpty()) {
+                free.add(candidate);
+                candidate = roundUp(candidate + length, from);
+            } else {
+                long latestEnd = candidate;
+                for (ResourceSchedule.Slot slot : overlapping) {
+                    latestEnd = Math.max(latestEnd, slot.end());
+                }
+                candidate = roundUp(latestEnd, from);
+            }
+        }
+        return free;
+    }
+
+    // Next start on the step grid anchored at the requested time
+    private long roundUp(long time, long anchor) {
+        long offset = time - anchor;
+        return anchor + ((offset + step - 1) / step) * step;
+    }
+
+    private long length(Integer duration) {
+        return duration != null && duration > 0 ? Duration.ofMinutes(duration).toMillis() : defaultLength;
+    }
+
+    private void place(InterviewSlotRow row) {
+        long start = row.getInterviewDateTime().toInstant().toEpochMilli();
+        place(new ResourceSchedule.Slot(row.getCandidateId(), start, start + length(row.getDuration())),
+                resourceKey(RECRUITER, row.getUserEmail()), resourceKey(CLIENT, row.getClientEmail()));
+    }
+
+    // Caller holds the write lock
+    private void place(ResourceSchedule.Slot slot, String recruiterKey, String clientKey) {
+        unplace(slot.candidateId());
+        if (recruiterKey != null) {
+            schedules.computeIfAbsent(recruiterKey, k -> new ResourceSchedule()).add(slot);
+        }
+        if (clientKey != null) {
+            schedules.computeIfAbsent(clientKey, k -> new ResourceSchedule()).add(slot);
+        }
+        placements.put(slot.candidateId(), new Placement(slot, recruiterKey, clientKey));
+    }
+
+    // Caller holds the write lock
+    private void unplace(String candidateId) {
+        Placement placement = placements.remove(candidateId);
+        if (placement == null) {
+            return;
+        }
+        for (String key : new String[]{placement.recruiterKey(), placement.clientKey()}) {
+            ResourceSchedule schedule = key != null ? schedules.get(key) : null;
+            if (schedule != null) {
+                schedule.remove(placement.slot());
+                if (schedule.isEmpty()) {
+                    schedules.remove(key);
+                }
+            }
+        }
+    }
+
+    // "recruiter:jane@x.com"; null when there is no email to key on
+    private static String resourceKey(String resource, String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        return resource + ":" + email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static OffsetDateTime toDateTime(long epochMillis, ZoneOffset offset) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), offset);
+    }
+}
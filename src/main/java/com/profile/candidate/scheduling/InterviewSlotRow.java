@@ -0,0 +1,47 @@
+package com.profile.candidate.scheduling;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The columns of a candidate that place its interview in time and against whom it is held.
+ */
+public class InterviewSlotRow {
+
+    private final String candidateId;
+    private final String userEmail;
+    private final String clientEmail;
+    private final OffsetDateTime interviewDateTime;
+    private final Integer duration;
+
+    // Constructor used by the JPQL projections in CandidateRepository
+    public InterviewSlotRow(String candidateId, String userEmail, String clientEmail,
+                            OffsetDateTime interviewDateTime, Integer duration) {
+        this.candidateId = candidateId;
+        this.userEmail = userEmail;
+        this.clientEmail = clientEmail;
+        this.interviewDateTime = interviewDateTime;
+        this.duration = duration;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    // Null when no interview is scheduled
+    public OffsetDateTime getInterviewDateTime() {
+        return interviewDateTime;
+    }
+
+    // Minutes; may be null
+    public Integer getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,53 @@
+package com.profile.candidate.scheduling;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * The interviews of one recruiter or client interviewer, ordered by start time.
+ *
+ * Overlap queries use the longest interview ever added as a bound: any interview overlapping
+ * [start, end) must begin in [start - longest, end), so a range scan of the ordered set finds
+ * every candidate in O(log n + m). Interviews have similar lengths, so m stays small. The bound is
+ * never lowered on removal, which only widens the scan, never misses an overlap.
+ */
+final class ResourceSchedule {
+
+    private final NavigableSet<Slot> slots = new TreeSet<>();
+    private long longest;
+
+    record Slot(String candidateId, long start, long end) implements Comparable<Slot> {
+
+        @Override
+        public int compareTo(Slot other) {
+            int byStart = Long.compare(start, other.start);
+            return byStart != 0 ? byStart : candidateId.compareTo(other.candidateId);
+        }
+    }
+
+    void add(Slot slot) {
+        slots.add(slot);
+        longest = Math.max(longest, slot.end() - slot.start());
+    }
+
+    void remove(Slot slot) {
+        slots.remove(slot);
+    }
+
+    boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    // Interviews overlapping [start, end), except the one of excludedCandidateId
+    void overlapping(long start, long end, String excludedCandidateId, List<Slot> out) {
+        // "" sorts before every candidate ID, so the probes bound the range by time alone
+        Slot from = new Slot("", start - longest, start - longest);
+        Slot to = new Slot("", end, end);
+        for (Slot slot : slots.subSet(from, true, to, false)) {
+            if (slot.end() > start && !slot.candidateId().equals(excludedCandidateId)) {
+                out.add(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.profile.candidate.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Term to document postings over primitive arrays, scored with BM25. Documents are numbered
+ * internally; numbers of removed documents are reused so the arrays only grow with the number
+ * of live candidates. Each document keeps the IDs of its terms so it can be removed or replaced
+ * without scanning the whole dictionary.
+ *
+ * Not thread-safe: {@link SkillSearchIndex} guards every call with its read/write lock.
+ */
+final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+
+    private final Map<String, Integer> docNumbers = new HashMap<>();
+    private final Deque<Integer> freeDocs = new ArrayDeque<>();
+    private final BitSet liveDocs = new BitSet();
+    private String[] candidateIds = new String[1024];
+    private int[][] docTerms = new int[1024][];
+    private float[] docLengths = new float[1024];
+    private int maxDoc;
+    private double totalLength;
+
+    int size() {
+        return docNumbers.size();
+    }
+
+    int termCount() {
+        return termIds.size();
+    }
+
+    /**
+     * Adds or replaces a candidate. {@code termWeights} maps each term to its weighted
+     * frequency in the document (field boosts already applied).
+     */
+    void put(String candidateId, Map<String, Float> termWeights) {
+        remove(candidateId);
+        if (termWeights.isEmpty()) {
+            return;
+        }
+        int doc = freeDocs.isEmpty() ? maxDoc++ : freeDocs.pop();
+        ensureCapacity(doc + 1);
+
+        int[] terms = new int[termWeights.size()];
+        float length = 0;
+        int i = 0;
+        for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+            int termId = termIds.computeIfAbsent(entry.getKey(), t -> {
+                postings.add(new Postings());
+                return postings.size() - 1;
+            });
+            postings.get(termId).add(doc, entry.getValue());
+            terms[i++] = termId;
+            length += entry.getValue();
+        }
+        candidateIds[doc] = candidateId;
+        docTerms[doc] = terms;
+        docLengths[doc] = length;
+        totalLength += length;
+        docNumbers.put(candidateId, doc);
+        liveDocs.set(doc);
+    }
+
+    void remove(String candidateId) {
+        Integer doc = docNumbers.remove(candidateId);
+        if (doc == null) {
+            return;
+        }
+        // Terms left without documents stay in the dictionary; their postings are just empty
+        for (int termId : docTerms[doc]) {
+            postings.get(termId).remove(doc);
+        }
+        totalLength -= docLengths[doc];
+        candidateIds[doc] = null;
+        docTerms[doc] = null;
+        docLengths[doc] = 0;
+        liveDocs.clear(doc);
+        freeDocs.push(doc);
+    }
+
+    /**
+     * Documents matching {@code query}, best {@code limit} first. Only terms outside MUST_NOT
+     * clauses score; a document matched purely through MUST_NOT exclusions scores 0.
+     */
+    SkillSearchResult search(SkillQuery query, int limit) {
+        BitSet matches = matching(query);
+        int total = matches.cardinality();
+        if (total == 0 || limit <= 0) {
+            return new SkillSearchResult(total, List.of());
+        }
+
+        Set<String> scoringTerms = new LinkedHashSet<>();
+        query.collectScoringTerms(scoringTerms);
+        float[] scores = new float[maxDoc];
+        float averageLength = (float) (totalLength / Math.max(1, size()));
+        for (String term : scoringTerms) {
+            Postings list = postingsFor(term);
+            if (list == null || list.size == 0) {
+                continue;
+            }
+            float idf = (float) Math.log(1 + (size() - list.size + 0.5) / (list.size + 0.5));
+            for (int p = 0; p < list.size; p++) {
+                int doc = list.docs[p];
+                if (matches.get(doc)) {
+                    float tf = list.weights[p];
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+        }
+
+        // Min-heap of the best limit documents so far: the root is the one to evict
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, total) + 1,
+                (a, b) -> scores[a] != scores[b]
+                        ? Float.compare(scores[a], scores[b])
+                        : candidateIds[b].compareTo(candidateIds[a]));
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            if (top.size() < limit) {
+                top.add(doc);
+            } else if (top.comparator().compare(doc, top.peek()) > 0) {
+                top.poll();
+                top.add(doc);
+            }
+        }
+        SkillSearchResult.Hit[] hits = new SkillSearchResult.Hit[top.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int doc = top.poll();
+            hits[i] = new SkillSearchResult.Hit(candidateIds[doc], scores[doc]);
+        }
+        return new SkillSearchResult(total, Arrays.asList(hits));
+    }
+
+    // MUST clauses intersect, SHOULD clauses union when there is no MUST, MUST_NOT subtracts
+    private BitSet matching(SkillQuery query) {
+        BitSet required = null;
+        BitSet optional = null;
+        BitSet excluded = null;
+        for (SkillQuery.Clause clause : query.getClauses()) {
+            BitSet docs = clause.getTerm() != null ? docsFor(clause.getTerm()) : matching(clause.getGroup());
+            switch (clause.getOccur()) {
+                case MUST -> {
+                    if (required == null) {
+                        required = docs;
+                    } else {
+                        required.and(docs);
+                    }
+                }
+                case SHOULD -> {
+                    if (optional == null) {
+                        optional = docs;
+                    } else {
+                        optional.or(docs);
+                    }
+                }
+                case MUST_NOT -> {
+                    if (excluded == null) {
+                        excluded = docs;
+                    } else {
+                        excluded.or(docs);
+                    }
+                }
+            }
+        }
+        BitSet result;
+        if (required != null) {
+            result = required;
+        } else if (optional != null) {
+            result = optional;
+        } else if (excluded != null) {
+            result = (BitSet) liveDocs.clone();  // Only exclusions: everything else matches
+        } else {
+            result = new BitSet();
+        }
+        if (excluded != null) {
+            result.andNot(excluded);
+        }
+        return result;
+    }
+
+    private BitSet docsFor(String term) {
+        Postings list = postingsFor(term);
+        BitSet docs = new BitSet(maxDoc);
+        if (list != null) {
+            for (int p = 0; p < list.size; p++) {
+                docs.set(list.docs[p]);
+            }
+        }
+        return docs;
+    }
+
+    private Postings postingsFor(String term) {
+        Integer termId = termIds.get(term);
+        return termId != null ? postings.get(termId) : null;
+    }
+
+    private void ensureCapacity(int docs) {
+        if (docs > candidateIds.length) {
+            int capacity = Math.max(docs, candidateIds.length * 2);
+            candidateIds = Arrays.copyOf(candidateIds, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+        }
+    }
+
+    // Unordered; removal moves the last entry into the hole
+    private static final class Postings {
+
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int p = 0; p < size; p++) {
+                if (docs[p] == doc) {
+                    size--;
+                    docs[p] = docs[size];
+                    weights[p] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+}
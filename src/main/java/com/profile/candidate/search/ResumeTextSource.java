@@ -0,0 +1,14 @@
+package com.profile.candidate.search;
+
+import java.util.Optional;
+
+/**
+ * Plain text extracted from stored resumes, looked up by content hash. The skill index adds it
+ * to a candidate's document when available; without an implementation only the candidate
+ * columns are indexed.
+ */
+public interface ResumeTextSource {
+
+    // Empty when the text has not been extracted (yet) or the file has none
+    Optional<String> findText(String contentHash);
+}
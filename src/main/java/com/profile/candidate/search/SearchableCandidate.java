@@ -0,0 +1,45 @@
+package com.profile.candidate.search;
+
+/**
+ * The candidate columns the skill index reads: the searchable text fields plus the hash of the
+ * stored resume, which keys its extracted text. Never holds resume content.
+ */
+public class SearchableCandidate {
+
+    private final String candidateId;
+    private final String skills;
+    private final String qualification;
+    private final String currentOrganization;
+    private final String resumeHash;
+
+    // Constructor used by the JPQL projections in CandidateRepository
+    public SearchableCandidate(String candidateId, String skills, String qualification,
+                               String currentOrganization, String resumeHash) {
+        this.candidateId = candidateId;
+        this.skills = skills;
+        this.qualification = qualification;
+        this.currentOrganization = currentOrganization;
+        this.resumeHash = resumeHash;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public String getQualification() {
+        return qualification;
+    }
+
+    public String getCurrentOrganization() {
+        return currentOrganization;
+    }
+
+    // Null when the candidate has no resume in resume_blobs
+    public String getResumeHash() {
+        return resumeHash;
+    }
+}
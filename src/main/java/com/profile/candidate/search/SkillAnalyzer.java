@@ -0,0 +1,132 @@
+package com.profile.candidate.search;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns free text (skills, qualification, resume text, queries) into index terms:
+ * lower-cased tokens of letters, digits, '+' and '#' (so "C++" and "C#" survive), with
+ * common filler words dropped and skill synonyms rewritten to one canonical term.
+ *
+ * Synonyms come from {@code search/skill-synonyms.txt}. A variant may span several tokens
+ * ("spring boot", "node.js"); the longest variant starting at a token wins.
+ */
+public class SkillAnalyzer {
+
+    static final String SYNONYMS_RESOURCE = "search/skill-synonyms.txt";
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or",
+            "the", "to", "was", "were", "with", "etc", "year", "years", "yrs", "experience");
+
+    private final Map<String, String> synonyms;
+    private final int maxVariantTokens;
+
+    SkillAnalyzer(Map<String, List<String>> synonymTable) {
+        Map<String, String> byVariant = new HashMap<>();
+        int longest = 1;
+        for (Map.Entry<String, List<String>> entry : synonymTable.entrySet()) {
+            String canonical = entry.getKey().toLowerCase(Locale.ROOT);
+            byVariant.put(canonical, canonical);
+            for (String variant : entry.getValue()) {
+                List<String> tokens = tokenize(variant);
+                if (!tokens.isEmpty()) {
+                    byVariant.put(String.join(" ", tokens), canonical);
+                    longest = Math.max(longest, tokens.size());
+                }
+            }
+        }
+        this.synonyms = byVariant;
+        this.maxVariantTokens = longest;
+    }
+
+    public static SkillAnalyzer fromClasspath() {
+        Map<String, List<String>> table = new HashMap<>();
+        ClassPathResource resource = new ClassPathResource(SYNONYMS_RESOURCE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int colon = line.indexOf(':');
+                if (line.isEmpty() || line.startsWith("#") || colon <= 0) {
+                    continue;
+                }
+                List<String> variants = new ArrayList<>();
+                for (String variant : line.substring(colon + 1).split(",")) {
+                    if (!variant.isBlank()) {
+                        variants.add(variant.trim());
+                    }
+                }
+                table.computeIfAbsent(line.substring(0, colon).trim(), k -> new ArrayList<>()).addAll(variants);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + SYNONYMS_RESOURCE, e);
+        }
+        return new SkillAnalyzer(table);
+    }
+
+    // Index terms of text in order, repeats included
+    public List<String> analyze(String text) {
+        List<String> tokens = tokenize(text);
+        List<String> terms = new ArrayList<>(tokens.size());
+        int i = 0;
+        while (i < tokens.size()) {
+            String canonical = null;
+            int length = Math.min(maxVariantTokens, tokens.size() - i);
+            for (; length >= 1; length--) {
+                String key = length == 1 ? tokens.get(i) : String.join(" ", tokens.subList(i, i + length));
+                canonical = synonyms.get(key);
+                if (canonical != null) {
+                    break;
+                }
+            }
+            if (canonical != null) {
+                terms.add(canonical);
+                i += length;
+            } else {
+                String token = tokens.get(i++);
+                if (!STOP_WORDS.contains(token)) {
+                    terms.add(token);
+                }
+            }
+        }
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        boolean hasAlphanumeric = false;
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? Character.toLowerCase(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+                hasAlphanumeric = true;
+            } else if ((c == '+' || c == '#') && token.length() > 0) {
+                token.append(c);
+            } else {
+                // A lone "+" or "#" is punctuation, not a term
+                if (hasAlphanumeric) {
+                    tokens.add(token.toString());
+                }
+                token.setLength(0);
+                hasAlphanumeric = false;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,239 @@
+package com.profile.candidate.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A parsed skill search: a list of clauses, each a single term or a nested query, marked as
+ * required (MUST), optional (SHOULD) or excluded (MUST_NOT).
+ *
+ * Syntax, Lucene style:
+ * <pre>
+ *   java spring              implicit operator: SHOULD when ranked, MUST when boolean
+ *   +java -python            required / excluded
+ *   java AND (kafka OR jms)  AND, OR and NOT are upper case; parentheses group
+ *   NOT php
+ *   "spring boot"            every term of the phrase is required (positions are not indexed)
+ * </pre>
+ * Words and phrases go through the same {@link SkillAnalyzer} as indexed text, so "Node.js",
+ * "nodejs" and "node" all search for the same term.
+ */
+public final class SkillQuery {
+
+    public enum Occur { MUST, SHOULD, MUST_NOT }
+
+    // Deeper nesting is rejected rather than risking the parser's stack
+    static final int MAX_DEPTH = 8;
+
+    public static final class Clause {
+
+        private final Occur occur;
+        private final String term;
+        private final SkillQuery group;
+
+        private Clause(Occur occur, String term, SkillQuery group) {
+            this.occur = occur;
+            this.term = term;
+            this.group = group;
+        }
+
+        public Occur getOccur() {
+            return occur;
+        }
+
+        // Null for a nested query
+        public String getTerm() {
+            return term;
+        }
+
+        // Null for a term
+        public SkillQuery getGroup() {
+            return group;
+        }
+    }
+
+    private final List<Clause> clauses;
+
+    private SkillQuery(List<Clause> clauses) {
+        this.clauses = Collections.unmodifiableList(clauses);
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    // Terms that contribute to the score: everything not under a MUST_NOT
+    void collectScoringTerms(Set<String> terms) {
+        for (Clause clause : clauses) {
+            if (clause.occur == Occur.MUST_NOT) {
+                continue;
+            }
+            if (clause.term != null) {
+                terms.add(clause.term);
+            } else {
+                clause.group.collectScoringTerms(terms);
+            }
+        }
+    }
+
+    /**
+     * Parses {@code text}; {@code matchAll} makes unmarked clauses required (boolean mode)
+     * instead of optional (ranked mode).
+     *
+     * @throws IllegalArgumentException if parentheses nest deeper than {@link #MAX_DEPTH}
+     */
+    public static SkillQuery parse(String text, boolean matchAll, SkillAnalyzer analyzer) {
+        return new Parser(lex(text == null ? "" : text), matchAll, analyzer).parseGroup(0);
+    }
+
+    private enum TokenType { WORD, PHRASE, LPAREN, RPAREN, AND, OR, NOT, REQUIRED, EXCLUDED }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    private static List<Token> lex(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int n = text.length();
+        while (i < n) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? TokenType.LPAREN : TokenType.RPAREN, null));
+                i++;
+            } else if (c == '"') {
+                int end = text.indexOf('"', i + 1);
+                end = end < 0 ? n : end;
+                tokens.add(new Token(TokenType.PHRASE, text.substring(i + 1, end)));
+                i = end + 1;
+            } else if ((c == '+' || c == '-') && i + 1 < n && !Character.isWhitespace(text.charAt(i + 1))) {
+                tokens.add(new Token(c == '+' ? TokenType.REQUIRED : TokenType.EXCLUDED, null));
+                i++;
+            } else {
+                int start = i;
+                while (i < n && !Character.isWhitespace(text.charAt(i)) && "()\"".indexOf(text.charAt(i)) < 0) {
+                    i++;
+                }
+                String word = text.substring(start, i);
+                switch (word) {
+                    case "AND", "&&" -> tokens.add(new Token(TokenType.AND, null));
+                    case "OR", "||" -> tokens.add(new Token(TokenType.OR, null));
+                    case "NOT" -> tokens.add(new Token(TokenType.NOT, null));
+                    default -> tokens.add(new Token(TokenType.WORD, word));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+        private final boolean matchAll;
+        private final SkillAnalyzer analyzer;
+        private int pos;
+
+        Parser(List<Token> tokens, boolean matchAll, SkillAnalyzer analyzer) {
+            this.tokens = tokens;
+            this.matchAll = matchAll;
+            this.analyzer = analyzer;
+        }
+
+        // Reads clauses up to the closing parenthesis of this group (or the end of input)
+        SkillQuery parseGroup(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new IllegalArgumentException("Query nests parentheses deeper than " + MAX_DEPTH);
+            }
+            List<Object> elements = new ArrayList<>();       // String term or SkillQuery
+            List<Occur> explicit = new ArrayList<>();        // null where no +, - or NOT was given
+            List<TokenType> connectorBefore = new ArrayList<>();
+            Occur pendingOccur = null;
+            TokenType pendingConnector = null;
+
+            while (pos < tokens.size()) {
+                Token token = tokens.get(pos++);
+                Object element = null;
+                switch (token.type()) {
+                    case RPAREN -> {
+                        if (depth > 0) {
+                            return build(elements, explicit, connectorBefore);
+                        }
+                        continue;  // Unbalanced; ignore it
+                    }
+                    case AND, OR -> {
+                        pendingConnector = token.type();
+                        continue;
+                    }
+                    case NOT, EXCLUDED -> {
+                        pendingOccur = Occur.MUST_NOT;
+                        continue;
+                    }
+                    case REQUIRED -> {
+                        pendingOccur = Occur.MUST;
+                        continue;
+                    }
+                    case LPAREN -> {
+                        SkillQuery group = parseGroup(depth + 1);
+                        element = group.isEmpty() ? null : group;
+                    }
+                    case WORD, PHRASE -> element = analyzed(token.text());
+                }
+                if (element != null) {
+                    elements.add(element);
+                    explicit.add(pendingOccur);
+                    connectorBefore.add(pendingConnector);
+                }
+                pendingOccur = null;
+                pendingConnector = null;
+            }
+            return build(elements, explicit, connectorBefore);
+        }
+
+        // A single term, or a group requiring every term when the text analyses to several
+        private Object analyzed(String text) {
+            List<String> terms = analyzer.analyze(text);
+            if (terms.isEmpty()) {
+                return null;
+            }
+            if (terms.size() == 1) {
+                return terms.get(0);
+            }
+            List<Clause> required = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                required.add(new Clause(Occur.MUST, term, null));
+            }
+            return new SkillQuery(required);
+        }
+
+        // An unmarked clause next to AND is required, next to OR optional, otherwise the default
+        private SkillQuery build(List<Object> elements, List<Occur> explicit, List<TokenType> connectorBefore) {
+            List<Clause> clauses = new ArrayList<>(elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                Occur occur = explicit.get(i);
+                if (occur == null) {
+                    TokenType before = connectorBefore.get(i);
+                    TokenType after = i + 1 < elements.size() ? connectorBefore.get(i + 1) : null;
+                    if (before == TokenType.AND || after == TokenType.AND) {
+                        occur = Occur.MUST;
+                    } else if (before == TokenType.OR || after == TokenType.OR) {
+                        occur = Occur.SHOULD;
+                    } else {
+                        occur = matchAll ? Occur.MUST : Occur.SHOULD;
+                    }
+                }
+                Object element = elements.get(i);
+                clauses.add(element instanceof String term
+                        ? new Clause(occur, term, null)
+                        : new Clause(occur, null, (SkillQuery) element));
+            }
+            return new SkillQuery(clauses);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.profile.candidate.search;
+
+import com.profile.candidate.cache.CacheInvalidationChannel;
+import com.profile.candidate.exceptions.SearchIndexUnavailableException;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.service.CandidateChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-process full-text index over each candidate's skills, qualification, current organization
+ * and extracted resume text, replacing LIKE scans for skill search.
+ *
+ * The index is rebuilt from the database in the background once the application is ready; until
+ * then searches fail with {@link SearchIndexUnavailableException}. After that it is kept current
+ * one candidate at a time: every committed submit, update or delete is published on the
+ * {@link CacheInvalidationChannel}, and each replica re-reads that candidate into its own index.
+ *
+ * Searches take the read lock and run concurrently; an update holds the write lock only for the
+ * postings change, never for the database read or text analysis.
+ */
+@Component
+public class SkillSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillSearchIndex.class);
+
+    static final String CHANNEL_NAME = "skillIndex";
+
+    // Field boosts: a term listed under skills counts three times as much as one in the resume
+    private static final float SKILLS_WEIGHT = 3f;
+    private static final float QUALIFICATION_WEIGHT = 1f;
+    private static final float ORGANIZATION_WEIGHT = 1f;
+    private static final float RESUME_WEIGHT = 1f;
+
+    private final CandidateRepository candidateRepository;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final ObjectProvider<ResumeTextSource> resumeTextSources;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SkillAnalyzer analyzer = SkillAnalyzer.fromClasspath();
+    private final Timer searchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();  // Guarded by lock
+    private volatile boolean ready;
+
+    // Candidates changed while a rebuild streams the table; re-read once the new index is in place
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public SkillSearchIndex(CandidateRepository candidateRepository,
+                            CacheInvalidationChannel invalidationChannel,
+                            ObjectProvider<ResumeTextSource> resumeTextSources,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
+        this.candidateRepository = candidateRepository;
+        this.invalidationChannel = invalidationChannel;
+        this.resumeTextSources = resumeTextSources;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("candidate.search.index.documents", this, SkillSearchIndex::size)
+                .description("Candidates in the skill search index")
+                .register(meterRegistry);
+        Gauge.builder("candidate.search.index.terms", this, SkillSearchIndex::termCount)
+                .description("Distinct terms in the skill search index")
+                .register(meterRegistry);
+        this.searchTimer = Timer.builder("candidate.search.query")
+                .description("Time to evaluate and rank one skill search")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        invalidationChannel.subscribe(CHANNEL_NAME, this::reindex);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public SkillAnalyzer getAnalyzer() {
+        return analyzer;
+    }
+
+    /**
+     * Candidates matching {@code query}, best first, with the total number of matches.
+     *
+     * @throws SearchIndexUnavailableException while the startup rebuild is still running
+     */
+    public SkillSearchResult search(SkillQuery query, int limit) {
+        if (!ready) {
+            throw new SearchIndexUnavailableException("Skill search index is still being built");
+        }
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return index.search(query, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    // After commit, so the re-read sees the committed row (or its absence)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChangedEvent event) {
+        requestReindex(event.getCandidateId());
+    }
+
+    // Reindexes a candidate on every replica, e.g. once its resume text becomes available
+    public void requestReindex(String candidateId) {
+        invalidationChannel.publish(CHANNEL_NAME, candidateId);
+    }
+
+    // Re-reads one candidate and replaces its document, or drops it if the row is gone
+    public void reindex(String candidateId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(candidateId);
+        }
+        Map<String, Float> terms = candidateRepository.findSearchableById(candidateId)
+                .map(this::documentTerms)
+                .orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (terms == null) {
+                index.remove(candidateId);
+            } else {
+                index.put(candidateId, terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuild, "skill-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Builds a fresh index from a forward-only read of every candidate and swaps it in. Searches
+     * keep using the previous index meanwhile; changes that commit during the read are applied
+     * again after the swap, so none is lost whichever index they reached first.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        InvertedIndex fresh = new InvertedIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SearchableCandidate> rows = candidateRepository.streamSearchable()) {
+                    rows.forEach(row -> fresh.put(row.getCandidateId(), documentTerms(row)));
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            logger.error("Skill search index rebuild failed; keeping the previous index", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        for (String candidateId : changedDuringRebuild) {
+            reindex(candidateId);
+        }
+        changedDuringRebuild.clear();
+        logger.info("Skill search index built: {} candidates, {} terms in {} ms",
+                fresh.size(), fresh.termCount(), System.currentTimeMillis() - started);
+    }
+
+    private Map<String, Float> documentTerms(SearchableCandidate candidate) {
+        Map<String, Float> terms = new HashMap<>();
+        addField(terms, candidate.getSkills(), SKILLS_WEIGHT);
+        addField(terms, candidate.getQualification(), QUALIFICATION_WEIGHT);
+        addField(terms, candidate.getCurrentOrganization(), ORGANIZATION_WEIGHT);
+        if (candidate.getResumeHash() != null) {
+            ResumeTextSource textSource = resumeTextSources.getIfAvailable();
+            Optional<String> text = textSource != null ? textSource.findText(candidate.getResumeHash()) : Optional.empty();
+            text.ifPresent(t -> addField(terms, t, RESUME_WEIGHT));
+        }
+        return terms;
+    }
+
+    private void addField(Map<String, Float> terms, String text, float weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String term : analyzer.analyze(text)) {
+            terms.merge(term, weight, Float::sum);
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return index.termCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.profile.candidate.search;
+
+import java.util.List;
+
+/**
+ * One page of skill search results: the best hits in score order and the total number of
+ * candidates that matched.
+ */
+public class SkillSearchResult {
+
+    private final int total;
+    private final List<Hit> hits;
+
+    SkillSearchResult(int total, List<Hit> hits) {
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<Hit> getHits() {
+        return hits;
+    }
+
+    public static class Hit {
+
+        private final String candidateId;
+        private final float score;
+
+        Hit(String candidateId, float score) {
+            this.candidateId = candidateId;
+            this.score = score;
+        }
+
+        public String getCandidateId() {
+            return candidateId;
+        }
+
+        // BM25; 0 for candidates matched only through exclusions
+        public float getScore() {
+            return score;
+        }
+    }
+}
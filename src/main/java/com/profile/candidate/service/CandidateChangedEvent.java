@@ -0,0 +1,43 @@
+package com.profile.candidate.service;
+
+/**
+ * Published by CandidateService whenever a candidate row is created, updated or deleted.
+ * Listeners that keep derived state (caches, indexes) should react after commit, e.g. with
+ * {@code @TransactionalEventListener(fallbackExecution = true)}.
+ */
+public class CandidateChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final String candidateId;
+    private final String userId;
+    private final String previousUserId;
+    private final ChangeType changeType;
+
+    public CandidateChangedEvent(String candidateId, String userId, String previousUserId, ChangeType changeType) {
+        this.candidateId = candidateId;
+        this.userId = userId;
+        this.previousUserId = previousUserId;
+        this.changeType = changeType;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    // Owner after the change (the former owner for deletions)
+    public String getUserId() {
+        return userId;
+    }
+
+    // Owner before the change when it moved to another user, otherwise the same as userId
+    public String getPreviousUserId() {
+        return previousUserId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
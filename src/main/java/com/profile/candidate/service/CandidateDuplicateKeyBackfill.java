@@ -0,0 +1,39 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.repository.CandidateRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates candidates.client_name_key for rows created before the duplicate-check
+ * unique constraints existed. Runs once per startup and is a no-op once every row has a key.
+ */
+@Component
+public class CandidateDuplicateKeyBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateDuplicateKeyBackfill.class);
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        try {
+            int updated = candidateRepository.backfillClientNameKeys();
+            if (updated > 0) {
+                logger.info("Backfilled the duplicate-check key on {} existing candidates", updated);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Existing data already holds duplicate submissions; they have to be merged by hand
+            logger.warn("Could not backfill candidate duplicate-check keys because existing rows are duplicates "
+                    + "of each other (same email or contact number for the same job and client): {}", e.getMessage());
+        }
+    }
+}
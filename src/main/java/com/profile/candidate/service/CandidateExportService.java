@@ -0,0 +1,120 @@
+package com.profile.candidate.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.dto.GetInterviewResponseDto;
+import com.profile.candidate.repository.CandidateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes submissions and scheduled interviews as NDJSON or CSV straight from a forward-only
+ * query stream. Each row is serialised and handed to the output as soon as it is read, so heap
+ * use does not depend on the table size. Rows are projections, never entities, so the
+ * persistence context stays empty however many rows pass through.
+ */
+@Service
+public class CandidateExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateExportService.class);
+
+    private final CandidateRepository candidateRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+    private final CsvMapper csvMapper;
+    private final MeterRegistry meterRegistry;
+
+    public CandidateExportService(CandidateRepository candidateRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.candidateRepository = candidateRepository;
+        this.meterRegistry = meterRegistry;
+        // Streaming query methods need an open transaction to keep the connection for the whole read
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // CSV columns in the same order as the JSON fields rather than CsvMapper's alphabetical default
+        this.csvMapper = CsvMapper.builder()
+                .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+    }
+
+    public void exportSubmissions(RecordFormat format, boolean gzip, OutputStream out) throws IOException {
+        export("submissions", CandidateGetResponseDto.class, format, gzip, out,
+                candidateRepository::streamAllSubmissions);
+    }
+
+    // Scheduled interviews in time order, optionally limited to the window [from, to)
+    public void exportScheduledInterviews(OffsetDateTime from, OffsetDateTime to, RecordFormat format,
+                                          boolean gzip, OutputStream out) throws IOException {
+        export("interviews", GetInterviewResponseDto.class, format, gzip, out,
+                () -> candidateRepository.streamScheduledInterviews(from, to));
+    }
+
+    private <T> void export(String name, Class<T> type, RecordFormat format, boolean gzip, OutputStream out,
+                            Supplier<Stream<T>> query) throws IOException {
+        long started = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        long rows;
+        try (SequenceWriter writer = writerFor(type, format).writeValues(target)) {
+            rows = readOnlyTransaction.execute(status -> {
+                long written = 0;
+                try (Stream<T> stream = query.get()) {
+                    for (T row : (Iterable<T>) stream::iterator) {
+                        writer.write(row);
+                        written++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return written;
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; nothing more can be sent either way
+            throw e.getCause();
+        }
+        if (format == RecordFormat.NDJSON && rows > 0) {
+            target.write('\n');  // The separator only goes between rows; end the last line too
+        }
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        target.flush();
+
+        meterRegistry.counter("candidate.export.rows", "export", name, "format", format.getExtension()).increment(rows);
+        logger.info("Exported {} {} as {}{} in {} ms", rows, name, format.getExtension(), gzip ? " (gzip)" : "",
+                System.currentTimeMillis() - started);
+    }
+
+    private ObjectWriter writerFor(Class<?> type, RecordFormat format) {
+        if (format == RecordFormat.CSV) {
+            return csvMapper.writer(csvMapper.schemaFor(type).withHeader());
+        }
+        return jsonWriter.forType(type);
+    }
+}
@@ -0,0 +1,584 @@
+package com.profile.candidate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.profile.candidate.configurations.WorkerThreads;
+import com.profile.candidate.dto.CandidateImportResultDto;
+import com.profile.candidate.dto.CandidateImportRow;
+import com.profile.candidate.dto.CandidateImportSummaryDto;
+import com.profile.candidate.exceptions.InvalidFileTypeException;
+import com.profile.candidate.id.CandidateIdGenerator;
+import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.ResumeBlob;
+import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.repository.DuplicateCandidateKey;
+import com.profile.candidate.storage.ResumeStorage;
+import com.profile.candidate.storage.ResumeType;
+import com.profile.candidate.storage.StoredResume;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Bulk candidate import from a CSV or JSON-lines stream, with resumes taken from an optional ZIP.
+ *
+ * Records are read in chunks of {@code candidate.import.batch-size}. Per chunk the records are
+ * validated on a bounded worker pool and de-duplicated, in memory against the rest of the import
+ * and against the database with one IN query per duplicate rule. Their resumes are then stored in
+ * parallel, and the rows are inserted in one transaction as JDBC batches (see
+ * {@code hibernate.jdbc.batch_size}). The outcome of every record is written to the response as
+ * one JSON line once its chunk is done.
+ *
+ * A chunk that fails to commit, e.g. because a concurrent submission won the unique constraint,
+ * is retried row by row so only the offending rows are reported. A resume stored for a row that
+ * is then rejected stays unreferenced and is removed by ResumeContentSweeper once its grace
+ * period has passed; deleting it here could race with another row or upload of the same file.
+ */
+@Service
+public class CandidateImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateImportService.class);
+
+    // Same per-file limit as the single-candidate upload endpoints
+    static final long MAX_RESUME_SIZE = ResumeUpload.MAX_SIZE;
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateService candidateService;
+    private final CandidateIdGenerator candidateIdGenerator;
+    private final ResumeStorage resumeStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader csvReader;
+    private final ObjectReader jsonLinesReader;
+    private final ObjectWriter resultWriter;
+    private final ThreadPoolExecutor workerPool;
+    private final int workerThreads;
+    private final int batchSize;
+    private final Map<String, Counter> rowCounters = new HashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CandidateImportService(CandidateRepository candidateRepository,
+                                  CandidateService candidateService,
+                                  CandidateIdGenerator candidateIdGenerator,
+                                  ResumeStorage resumeStorage,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  Environment environment,
+                                  @Value("${candidate.import.batch-size:500}") int batchSize,
+                                  @Value("${candidate.import.worker-threads:4}") int workerThreads) {
+        this.candidateRepository = candidateRepository;
+        this.candidateService = candidateService;
+        this.candidateIdGenerator = candidateIdGenerator;
+        this.resumeStorage = resumeStorage;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.workerThreads = workerThreads;
+
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        csvMapper.enable(CsvParser.Feature.TRIM_SPACES);
+        this.csvReader = csvMapper.readerFor(CandidateImportRow.class).with(CsvSchema.emptySchema().withHeader());
+        this.jsonLinesReader = objectMapper.readerFor(CandidateImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.resultWriter = objectMapper.writer();
+
+        // Bounded like the notification sender pool; when it is saturated the import thread does
+        // the work itself rather than queueing without limit. Workers mostly wait on JDBC and
+        // resume storage, so they are virtual threads in virtual-thread mode.
+        this.workerPool = new ThreadPoolExecutor(workerThreads, workerThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workerThreads * 2),
+                WorkerThreads.forBlockingTasks("candidate-import-", environment),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        for (String status : List.of(CandidateImportResultDto.CREATED, CandidateImportResultDto.DUPLICATE,
+                CandidateImportResultDto.INVALID, CandidateImportResultDto.FAILED)) {
+            rowCounters.put(status, Counter.builder("candidate.import.rows")
+                    .description("Records processed by bulk candidate imports")
+                    .tag("status", status.toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * Imports every record of {@code records} and writes one JSON line per record to {@code out},
+     * followed by a summary line. Chunks already written stay committed if a later one fails.
+     */
+    public void importCandidates(MultipartFile records, RecordFormat format, MultipartFile resumes, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        Path resumesPath = null;
+        try {
+            ZipFile resumesZip = null;
+            if (resumes != null && !resumes.isEmpty()) {
+                // ZipFile reads the central directory, so resumes can be looked up by name in any order
+                resumesPath = Files.createTempFile("candidate-import-", ".zip");
+                resumes.transferTo(resumesPath);
+                resumesZip = new ZipFile(resumesPath.toFile());
+            }
+            ImportRun run = new ImportRun(resumesZip, out);
+            try (InputStream in = records.getInputStream();
+                 MappingIterator<CandidateImportRow> rows = (format == RecordFormat.CSV ? csvReader : jsonLinesReader).readValues(in)) {
+                run.readAll(rows);
+            } finally {
+                if (resumesZip != null) {
+                    resumesZip.close();
+                }
+            }
+            writeLine(out, new CandidateImportSummaryDto(run.rowNumber, run.counts.get(CandidateImportResultDto.CREATED),
+                    run.counts.get(CandidateImportResultDto.DUPLICATE), run.counts.get(CandidateImportResultDto.INVALID),
+                    run.counts.get(CandidateImportResultDto.FAILED), System.currentTimeMillis() - started));
+            out.flush();
+            logger.info("Candidate import finished: {} records, {} created in {} ms", run.rowNumber,
+                    run.counts.get(CandidateImportResultDto.CREATED), System.currentTimeMillis() - started);
+        } finally {
+            if (resumesPath != null) {
+                Files.deleteIfExists(resumesPath);
+            }
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(resultWriter.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    // State of one import: the duplicate keys seen so far, the resume index and the totals
+    private class ImportRun {
+
+        private final ZipFile resumesZip;
+        private final Map<String, ZipEntry> resumesByBaseName = new HashMap<>();
+        private final OutputStream out;
+        private final Map<String, Long> emailKeys = new HashMap<>();     // Key -> first row with it
+        private final Map<String, Long> contactKeys = new HashMap<>();
+        private final Map<String, Long> counts = new HashMap<>(Map.of(
+                CandidateImportResultDto.CREATED, 0L, CandidateImportResultDto.DUPLICATE, 0L,
+                CandidateImportResultDto.INVALID, 0L, CandidateImportResultDto.FAILED, 0L));
+        private long rowNumber;
+
+        ImportRun(ZipFile resumesZip, OutputStream out) {
+            this.resumesZip = resumesZip;
+            this.out = out;
+            if (resumesZip != null) {
+                // Rows may name a resume by its bare file name even if the archive has folders
+                Enumeration<? extends ZipEntry> entries = resumesZip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (!entry.isDirectory()) {
+                        resumesByBaseName.putIfAbsent(baseName(entry.getName()), entry);
+                    }
+                }
+            }
+        }
+
+        void readAll(MappingIterator<CandidateImportRow> rows) throws IOException {
+            List<PendingRow> chunk = new ArrayList<>(batchSize);
+            String unreadable = null;
+            while (true) {
+                CandidateImportRow next;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    next = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    unreadable = e.getOriginalMessage();
+                    break;
+                } catch (RuntimeJsonMappingException e) {
+                    unreadable = e.getMessage();
+                    break;
+                }
+                chunk.add(new PendingRow(++rowNumber, next));
+                if (chunk.size() == batchSize) {
+                    process(chunk);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            process(chunk);
+            if (unreadable != null) {
+                // The stream cannot be resynchronised after a syntax error, so the import stops here
+                record(new CandidateImportResultDto(++rowNumber, CandidateImportResultDto.FAILED, null,
+                        "Unreadable record, import stopped: " + unreadable));
+                out.flush();
+            }
+        }
+
+        private void process(List<PendingRow> chunk) throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            inParallel(chunk, this::validate);
+            removeDuplicatesWithinImport(chunk);
+            removeExistingDuplicates(chunk);
+
+            List<PendingRow> accepted = pending(chunk);
+            List<String> candidateIds = candidateIdGenerator.nextIds(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).candidate.setCandidateId(candidateIds.get(i));
+            }
+            inParallel(accepted, this::storeResume);
+            insert(pending(chunk));
+
+            for (PendingRow row : chunk) {
+                record(row.result);
+            }
+            out.flush();
+        }
+
+        private void record(CandidateImportResultDto result) throws IOException {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+            rowCounters.get(result.getStatus()).increment();
+            writeLine(out, result);
+        }
+
+        private void validate(PendingRow row) {
+            CandidateImportRow source = row.source;
+            if (source == null) {
+                row.reject(CandidateImportResultDto.INVALID, "Empty record.");
+                return;
+            }
+            try {
+                if (isBlank(source.getJobId())) {
+                    row.reject(CandidateImportResultDto.INVALID, "Job ID is required.");
+                    return;
+                }
+                if (isBlank(source.getUserId())) {
+                    row.reject(CandidateImportResultDto.INVALID, "User ID is required.");
+                    return;
+                }
+                CandidateDetails candidate = toCandidate(source);
+                candidateService.validateCandidateDetails(candidate);
+                row.candidate = candidate;
+            } catch (NumberFormatException e) {
+                row.reject(CandidateImportResultDto.INVALID, "Experience and rating must be numbers.");
+                return;
+            } catch (RuntimeException e) {
+                row.reject(CandidateImportResultDto.INVALID, e.getMessage());
+                return;
+            }
+
+            String resumeFile = trimToNull(source.getResumeFile());
+            if (resumeFile == null) {
+                return;
+            }
+            if (ResumeType.fromFileName(resumeFile) == null) {
+                row.reject(CandidateImportResultDto.INVALID, "Invalid file type. Only PDF, DOC and DOCX Files are allowed.");
+            } else if (resumesZip == null) {
+                row.reject(CandidateImportResultDto.INVALID, "Resume " + resumeFile + " given but no resumes archive was uploaded.");
+            } else {
+                ZipEntry entry = resumesZip.getEntry(resumeFile);
+                if (entry == null) {
+                    entry = resumesByBaseName.get(baseName(resumeFile));
+                }
+                if (entry == null) {
+                    row.reject(CandidateImportResultDto.INVALID, "Resume " + resumeFile + " not found in the resumes archive.");
+                } else if (entry.getSize() > MAX_RESUME_SIZE) {
+                    row.reject(CandidateImportResultDto.INVALID, "Resume " + resumeFile + " exceeds the maximum allowed size of 10 MB.");
+                } else {
+                    row.resume = entry;
+                }
+            }
+        }
+
+        // The first record with a given (email or contact, job, client) key wins
+        private void removeDuplicatesWithinImport(List<PendingRow> chunk) {
+            for (PendingRow row : pending(chunk)) {
+                String emailKey = emailKey(row.candidate.getCandidateEmailId(), row.candidate);
+                String contactKey = contactKey(row.candidate.getContactNumber(), row.candidate);
+                Long firstWithEmail = emailKeys.putIfAbsent(emailKey, row.rowNumber);
+                Long firstWithContact = contactKeys.putIfAbsent(contactKey, row.rowNumber);
+                if (firstWithEmail != null) {
+                    row.reject(CandidateImportResultDto.DUPLICATE, "Same email ID, job and client as row " + firstWithEmail + ".");
+                } else if (firstWithContact != null) {
+                    row.reject(CandidateImportResultDto.DUPLICATE, "Same contact number, job and client as row " + firstWithContact + ".");
+                }
+            }
+        }
+
+        // Two IN queries per chunk instead of one duplicate check per record
+        private void removeExistingDuplicates(List<PendingRow> chunk) {
+            List<PendingRow> rows = pending(chunk);
+            if (rows.isEmpty()) {
+                return;
+            }
+            Set<String> emails = new HashSet<>();
+            Set<String> contacts = new HashSet<>();
+            Set<String> jobIds = new HashSet<>();
+            for (PendingRow row : rows) {
+                emails.add(row.candidate.getCandidateEmailId());
+                contacts.add(row.candidate.getContactNumber());
+                jobIds.add(row.candidate.getJobId());
+            }
+            Map<String, DuplicateCandidateKey> existingByEmail = new HashMap<>();
+            Map<String, DuplicateCandidateKey> existingByContact = new HashMap<>();
+            for (DuplicateCandidateKey existing : candidateRepository.findDuplicateKeysByEmailIn(emails, jobIds)) {
+                existingByEmail.put(key(existing.getCandidateEmailId(), existing.getJobId(),
+                        CandidateDetails.clientNameKey(existing.getClientName())), existing);
+            }
+            for (DuplicateCandidateKey existing : candidateRepository.findDuplicateKeysByContactIn(contacts, jobIds)) {
+                existingByContact.put(key(existing.getContactNumber(), existing.getJobId(),
+                        CandidateDetails.clientNameKey(existing.getClientName())), existing);
+            }
+            if (existingByEmail.isEmpty() && existingByContact.isEmpty()) {
+                return;
+            }
+            for (PendingRow row : rows) {
+                DuplicateCandidateKey byEmail = existingByEmail.get(emailKey(row.candidate.getCandidateEmailId(), row.candidate));
+                DuplicateCandidateKey byContact = existingByContact.get(contactKey(row.candidate.getContactNumber(), row.candidate));
+                if (byEmail != null) {
+                    row.reject(CandidateImportResultDto.DUPLICATE, "Candidate with email ID " + byEmail.getCandidateEmailId()
+                            + " has already been submitted for job " + byEmail.getJobId() + " by client " + byEmail.getClientName());
+                } else if (byContact != null) {
+                    row.reject(CandidateImportResultDto.DUPLICATE, "Candidate with contact number " + byContact.getContactNumber()
+                            + " has already been submitted for job " + byContact.getJobId() + " by client " + byContact.getClientName());
+                }
+            }
+        }
+
+        private void storeResume(PendingRow row) {
+            if (row.resume == null) {
+                return;
+            }
+            try {
+                // One pass over the entry: sniffed, size-limited (the ZIP header size can lie) and hashed
+                StoredResume stored;
+                String contentType;
+                try (ResumeUpload resume = ResumeUpload.open(baseName(row.resume.getName()),
+                        resumesZip.getInputStream(row.resume), MAX_RESUME_SIZE)) {
+                    try {
+                        resume.requireResume();
+                    } catch (InvalidFileTypeException e) {
+                        row.reject(CandidateImportResultDto.INVALID, e.getMessage());
+                        return;
+                    }
+                    contentType = resume.getContentType();
+                    stored = resumeStorage.store(resume, contentType);
+                }
+                // Content is addressed by hash, so storing it before the insert commits is safe to repeat.
+                // Should the insert reject the row, the sweep collects the content (see the class comment)
+                row.resumeBlob = new ResumeBlob(row.candidate.getCandidateId(), baseName(row.resume.getName()),
+                        contentType, stored.getContentHash(), stored.getContentLength(), stored.getStoredLength(),
+                        stored.getContentEncoding());
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to store resume {} for import row {}: {}", row.resume.getName(), row.rowNumber, e.getMessage());
+                row.reject(CandidateImportResultDto.FAILED, "Resume could not be stored: " + e.getMessage());
+            }
+        }
+
+        private void insert(List<PendingRow> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(rows));
+                rows.forEach(PendingRow::created);
+            } catch (RuntimeException batchFailure) {
+                // Retry one by one so a single clashing row does not fail the whole chunk
+                logger.info("Import chunk insert failed ({}), retrying {} rows individually", batchFailure.getMessage(), rows.size());
+                for (PendingRow row : rows) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                        row.created();
+                    } catch (RuntimeException e) {
+                        String constraint = CandidateService.violatedConstraint(e);
+                        if (CandidateDetails.UK_EMAIL_JOB_CLIENT.equals(constraint)) {
+                            row.reject(CandidateImportResultDto.DUPLICATE, "Candidate with email ID "
+                                    + row.candidate.getCandidateEmailId() + " has already been submitted for job "
+                                    + row.candidate.getJobId() + " by client " + row.candidate.getClientName());
+                        } else if (CandidateDetails.UK_CONTACT_JOB_CLIENT.equals(constraint)) {
+                            row.reject(CandidateImportResultDto.DUPLICATE, "Candidate with contact number "
+                                    + row.candidate.getContactNumber() + " has already been submitted for job "
+                                    + row.candidate.getJobId() + " by client " + row.candidate.getClientName());
+                        } else {
+                            logger.warn("Failed to insert import row {}: {}", row.rowNumber, e.getMessage());
+                            row.reject(CandidateImportResultDto.FAILED, "Candidate could not be saved.");
+                        }
+                    }
+                }
+            }
+        }
+
+        // Plain persist calls; Hibernate groups the inserts per table into JDBC batches on flush
+        private void persist(List<PendingRow> rows) {
+            for (PendingRow row : rows) {
+                entityManager.persist(row.candidate);
+                if (row.resumeBlob != null) {
+                    entityManager.persist(row.resumeBlob);
+                }
+                eventPublisher.publishEvent(new CandidateChangedEvent(row.candidate.getCandidateId(),
+                        row.candidate.getUserId(), row.candidate.getUserId(), CandidateChangedEvent.ChangeType.CREATED));
+            }
+            entityManager.flush();
+            // The request's entity manager may span every chunk; keep it from growing with the import
+            entityManager.clear();
+        }
+    }
+
+    // Runs action over the rows in one slice per worker and waits for all of them
+    private void inParallel(List<PendingRow> rows, Consumer<PendingRow> action) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int sliceSize = Math.max(1, (rows.size() + workerThreads - 1) / workerThreads);
+        List<Future<?>> slices = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<PendingRow> slice = rows.subList(from, Math.min(rows.size(), from + sliceSize));
+            slices.add(workerPool.submit(() -> slice.forEach(action)));
+        }
+        for (Future<?> slice : slices) {
+            try {
+                slice.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Candidate import interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Candidate import worker failed", e.getCause());
+            }
+        }
+    }
+
+    // Rows not yet rejected
+    private static List<PendingRow> pending(List<PendingRow> chunk) {
+        List<PendingRow> pending = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            if (row.result == null) {
+                pending.add(row);
+            }
+        }
+        return pending;
+    }
+
+    private static CandidateDetails toCandidate(CandidateImportRow source) {
+        CandidateDetails candidate = new CandidateDetails();
+        candidate.setJobId(trimToNull(source.getJobId()));
+        candidate.setUserId(trimToNull(source.getUserId()));
+        candidate.setFullName(trimToNull(source.getFullName()));
+        candidate.setCandidateEmailId(trimToNull(source.getCandidateEmailId()));
+        candidate.setContactNumber(trimToNull(source.getContactNumber()));
+        candidate.setQualification(trimToNull(source.getQualification()));
+        candidate.setTotalExperience(parseFloat(source.getTotalExperience()));
+        candidate.setRelevantExperience(parseFloat(source.getRelevantExperience()));
+        candidate.setCurrentCTC(trimToNull(source.getCurrentCTC()));
+        candidate.setExpectedCTC(trimToNull(source.getExpectedCTC()));
+        candidate.setNoticePeriod(trimToNull(source.getNoticePeriod()));
+        candidate.setCurrentLocation(trimToNull(source.getCurrentLocation()));
+        candidate.setPreferredLocation(trimToNull(source.getPreferredLocation()));
+        candidate.setSkills(trimToNull(source.getSkills()));
+        candidate.setCommunicationSkills(trimToNull(source.getCommunicationSkills()));
+        String rating = trimToNull(source.getRequiredTechnologiesRating());
+        candidate.setRequiredTechnologiesRating(rating == null ? null : Double.valueOf(rating));
+        candidate.setOverallFeedback(trimToNull(source.getOverallFeedback()));
+        candidate.setCurrentOrganization(trimToNull(source.getCurrentOrganization()));
+        candidate.setUserEmail(trimToNull(source.getUserEmail()));
+        candidate.setClientName(trimToNull(source.getClientName()));
+        candidate.setClientEmail(trimToNull(source.getClientEmail()));
+        return candidate;
+    }
+
+    private static float parseFloat(String value) {
+        String trimmed = trimToNull(value);
+        return trimmed == null ? 0 : Float.parseFloat(trimmed);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static boolean isBlank(String value) {
+        return trimToNull(value) == null;
+    }
+
+    private static String baseName(String path) {
+        int slash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return path.substring(slash + 1);
+    }
+
+    private static String emailKey(String email, CandidateDetails candidate) {
+        return key(email, candidate.getJobId(), CandidateDetails.clientNameKey(candidate.getClientName()));
+    }
+
+    private static String contactKey(String contactNumber, CandidateDetails candidate) {
+        return key(contactNumber, candidate.getJobId(), CandidateDetails.clientNameKey(candidate.getClientName()));
+    }
+
+    private static String key(String value, String jobId, String clientNameKey) {
+        return value + '\u0000' + jobId + '\u0000' + clientNameKey;
+    }
+
+    // One record on its way through the import; result is set once it is rejected or written
+    private static class PendingRow {
+
+        private final long rowNumber;
+        private final CandidateImportRow source;
+        private CandidateDetails candidate;
+        private ZipEntry resume;
+        private ResumeBlob resumeBlob;
+        private volatile CandidateImportResultDto result;
+
+        PendingRow(long rowNumber, CandidateImportRow source) {
+            this.rowNumber = rowNumber;
+            this.source = source;
+        }
+
+        void reject(String status, String message) {
+            result = new CandidateImportResultDto(rowNumber, status, null, message);
+        }
+
+        void created() {
+            result = new CandidateImportResultDto(rowNumber, CandidateImportResultDto.CREATED, candidate.getCandidateId(), null);
+        }
+    }
+}
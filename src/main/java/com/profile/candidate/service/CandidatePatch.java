@@ -0,0 +1,182 @@
+package com.profile.candidate.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.profile.candidate.model.CandidateDetails;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A JSON merge patch (RFC 7396) of the editable candidate fields: a field that is present is
+ * set, {@code null} clears it where the field is optional, and absent fields are left alone.
+ * Only the fields in the patch are validated, with the same rules as a submission, and
+ * {@link #applyTo} reports which of them actually changed.
+ *
+ * The resume is not part of it; replace it with PUT /candidate/resume/{candidateId}.
+ */
+public final class CandidatePatch {
+
+    private static final String EMAIL_PATTERN = "^[A-Za-z0-9+_.-]+@(.+)$";
+    private static final String CONTACT_NUMBER_PATTERN = "\\d{10}";
+
+    private static final Map<String, Field<?>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        text("jobId", true, CandidateDetails::getJobId, CandidateDetails::setJobId);
+        text("userId", true, CandidateDetails::getUserId, CandidateDetails::setUserId);
+        text("fullName", true, CandidateDetails::getFullName, CandidateDetails::setFullName);
+        text("candidateEmailId", true, CandidateDetails::getCandidateEmailId, CandidateDetails::setCandidateEmailId);
+        text("contactNumber", true, CandidateDetails::getContactNumber, CandidateDetails::setContactNumber);
+        text("qualification", true, CandidateDetails::getQualification, CandidateDetails::setQualification);
+        text("currentOrganization", false, CandidateDetails::getCurrentOrganization, CandidateDetails::setCurrentOrganization);
+        text("currentCTC", false, CandidateDetails::getCurrentCTC, CandidateDetails::setCurrentCTC);
+        text("expectedCTC", false, CandidateDetails::getExpectedCTC, CandidateDetails::setExpectedCTC);
+        text("noticePeriod", false, CandidateDetails::getNoticePeriod, CandidateDetails::setNoticePeriod);
+        text("currentLocation", false, CandidateDetails::getCurrentLocation, CandidateDetails::setCurrentLocation);
+        text("preferredLocation", false, CandidateDetails::getPreferredLocation, CandidateDetails::setPreferredLocation);
+        text("skills", false, CandidateDetails::getSkills, CandidateDetails::setSkills);
+        text("communicationSkills", false, CandidateDetails::getCommunicationSkills, CandidateDetails::setCommunicationSkills);
+        text("overallFeedback", false, CandidateDetails::getOverallFeedback, CandidateDetails::setOverallFeedback);
+        field("totalExperience", true, CandidatePatch::experience,
+                CandidateDetails::getTotalExperience, CandidateDetails::setTotalExperience);
+        field("relevantExperience", true, CandidatePatch::experience,
+                CandidateDetails::getRelevantExperience, CandidateDetails::setRelevantExperience);
+        field("requiredTechnologiesRating", false, value -> value.isNumber() ? value.doubleValue() : null,
+                CandidateDetails::getRequiredTechnologiesRating, CandidateDetails::setRequiredTechnologiesRating);
+    }
+
+    private final Map<Field<?>, Object> values;
+
+    private CandidatePatch(Map<Field<?>, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Reads and validates a patch document.
+     *
+     * @throws IllegalArgumentException listing every unknown or invalid field
+     */
+    public static CandidatePatch parse(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("The patch must be a JSON object of the fields to change.");
+        }
+        Map<Field<?>, Object> values = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            Field<?> field = FIELDS.get(entry.getKey());
+            if (field == null) {
+                errors.add(entry.getKey() + " cannot be changed here");
+                continue;
+            }
+            JsonNode value = entry.getValue();
+            if (value.isNull()) {
+                if (field.required) {
+                    errors.add(field.name + " cannot be removed");
+                } else {
+                    values.put(field, null);
+                }
+                continue;
+            }
+            Object parsed = field.parser.apply(value);
+            String error = parsed == null ? field.name + " has an invalid value" : validate(field.name, parsed);
+            if (error != null) {
+                errors.add(error);
+            } else {
+                values.put(field, parsed);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors) + ".");
+        }
+        return new CandidatePatch(values);
+    }
+
+    // The submission rules (see CandidateService.validateCandidateDetails and the entity constraints)
+    private static String validate(String name, Object value) {
+        switch (name) {
+            case "fullName":
+                String fullName = ((String) value).trim();
+                if (fullName.isEmpty() || fullName.length() > 100) {
+                    return "fullName is required and must not exceed 100 characters";
+                }
+                return null;
+            case "candidateEmailId":
+                return ((String) value).matches(EMAIL_PATTERN) ? null : "candidateEmailId is not a valid email address";
+            case "contactNumber":
+                return ((String) value).matches(CONTACT_NUMBER_PATTERN) ? null : "contactNumber must be 10 digits";
+            case "jobId":
+            case "userId":
+            case "qualification":
+                return ((String) value).isBlank() ? name + " cannot be empty" : null;
+            default:
+                return null;
+        }
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Sets the patched fields that differ from the candidate's current values and returns their
+     * names; with {@code @DynamicUpdate} these are the only columns the UPDATE writes.
+     */
+    public List<String> applyTo(CandidateDetails candidate) {
+        List<String> changed = new ArrayList<>();
+        values.forEach((field, value) -> {
+            if (field.set(candidate, value)) {
+                changed.add(field.name);
+            }
+        });
+        return changed;
+    }
+
+    private static Float experience(JsonNode value) {
+        return value.isNumber() && value.floatValue() >= 0 ? value.floatValue() : null;
+    }
+
+    private static void text(String name, boolean required, Function<CandidateDetails, String> getter,
+                             BiConsumer<CandidateDetails, String> setter) {
+        field(name, required, value -> value.isTextual() ? value.textValue() : null, getter, setter);
+    }
+
+    private static <T> void field(String name, boolean required, Function<JsonNode, T> parser,
+                                  Function<CandidateDetails, T> getter, BiConsumer<CandidateDetails, T> setter) {
+        FIELDS.put(name, new Field<>(name, required, parser, getter, setter));
+    }
+
+    private static final class Field<T> {
+
+        private final String name;
+        private final boolean required;
+        // Null when the JSON value has the wrong type or is out of range
+        private final Function<JsonNode, T> parser;
+        private final Function<CandidateDetails, T> getter;
+        private final BiConsumer<CandidateDetails, T> setter;
+
+        Field(String name, boolean required, Function<JsonNode, T> parser,
+              Function<CandidateDetails, T> getter, BiConsumer<CandidateDetails, T> setter) {
+            this.name = name;
+            this.required = required;
+            this.parser = parser;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean set(CandidateDetails candidate, Object value) {
+            if (Objects.equals(getter.apply(candidate), value)) {
+                return false;
+            }
+            setter.accept(candidate, (T) value);
+            return true;
+        }
+    }
+}
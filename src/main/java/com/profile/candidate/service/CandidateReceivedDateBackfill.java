@@ -0,0 +1,33 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.repository.CandidateRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Populates candidates.profile_received_date on rows created before it was required, so
+ * every row has a place in the submissions keyset (see CandidateService.getSubmissionsPage).
+ * Runs once per startup and is a no-op once every row has a date.
+ */
+@Component
+public class CandidateReceivedDateBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(CandidateReceivedDateBackfill.class);
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = candidateRepository.backfillProfileReceivedDates();
+        if (updated > 0) {
+            logger.info("Backfilled the profile received date on {} existing candidates", updated);
+        }
+    }
+}
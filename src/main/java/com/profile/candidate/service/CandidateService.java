@@ -1,35 +1,61 @@
 package com.profile.candidate.service;
 
+import com.profile.candidate.cache.CandidateSummary;
+import com.profile.candidate.cache.CandidateSummaryCache;
+import com.profile.candidate.cache.UserSubmissionsCache;
 import com.profile.candidate.dto.*;
 import com.profile.candidate.exceptions.*;
+import com.profile.candidate.id.CandidateIdGenerator;
+import com.profile.candidate.matching.CandidateMatchIndex;
+import com.profile.candidate.matching.MatchCriteria;
+import com.profile.candidate.matching.MatchResult;
 import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.Interview;
+import com.profile.candidate.model.ResumeBlob;
 import com.profile.candidate.repository.CandidateRepository;
+import com.profile.candidate.repository.DuplicateCandidateKey;
+import com.profile.candidate.repository.ResumeBlobInfo;
+import com.profile.candidate.repository.ResumeBlobRepository;
+import com.profile.candidate.scheduling.InterviewSlotIndex;
+import com.profile.candidate.search.SkillQuery;
+import com.profile.candidate.search.SkillSearchIndex;
+import com.profile.candidate.search.SkillSearchResult;
+import com.profile.candidate.storage.ResumeCodec;
+import com.profile.candidate.storage.ResumeStorage;
+import com.profile.candidate.storage.ResumeType;
+import com.profile.candidate.storage.StoredResume;
 import jakarta.transaction.Transactional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 public class CandidateService {
@@ -38,9 +64,73 @@ public class CandidateService {
     private CandidateRepository candidateRepository;
 
     @Autowired
-    private InterviewEmailService emailService;
+    private ResumeBlobRepository resumeBlobRepository;
 
-    // Method to submit a candidate profile
+    @Autowired
+    private InterviewNotificationOutbox notificationOutbox;
+
+    @Autowired
+    private ResumeStorage resumeStorage;
+
+    @Autowired
+    private CandidateIdGenerator candidateIdGenerator;
+
+    @Autowired
+    private CandidateSummaryCache candidateSummaryCache;
+
+    @Autowired
+    private UserSubmissionsCache userSubmissionsCache;
+
+    @Autowired
+    private SkillSearchIndex skillSearchIndex;
+
+    @Autowired
+    private CandidateMatchIndex candidateMatchIndex;
+
+    @Autowired
+    private InterviewSlotIndex interviewSlotIndex;
+
+    @Autowired
+    private InterviewRoundService interviewRoundService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LegacyResumeMigration legacyResumeMigration;
+
+    @Value("${candidate.submissions.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${candidate.submissions.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${candidate.search.default-limit:20}")
+    private int defaultSearchLimit;
+
+    @Value("${candidate.search.max-limit:100}")
+    private int maxSearchLimit;
+
+    @Value("${candidate.search.max-query-length:500}")
+    private int maxQueryLength;
+
+    @Value("${candidate.match.default-k:20}")
+    private int defaultMatchCount;
+
+    @Value("${candidate.match.max-k:500}")
+    private int maxMatchCount;
+
+    @Value("${candidate.interview.suggestions:3}")
+    private int slotSuggestions;
+
+    @Value("${candidate.interview.max-suggestions:20}")
+    private int maxSlotSuggestions;
+
+    // Method to submit a candidate profile. Not transactional as a whole: the resume is copied to
+    // storage first, and only the inserts run in a transaction, so no connection is held during the copy.
     public CandidateResponseDto submitCandidate(CandidateDetails candidateDetails, MultipartFile resumeFile) throws IOException {
         // Validate input fields
         validateCandidateDetails(candidateDetails);
@@ -51,22 +141,27 @@ public class CandidateService {
         // Optionally set userEmail and clientEmail if not already set
         setDefaultEmailsIfMissing(candidateDetails);
 
-        // Process the resume file and set it as a BLOB
-        if (resumeFile != null && !resumeFile.isEmpty()) {
-            // Convert the resume file to byte[] and set it in the candidateDetails object
-            byte[] resumeData = resumeFile.getBytes();
-            candidateDetails.setResume(resumeData);  // Store the resume as binary data in DB
-
-            // Save the resume to the file system and store the file path in DB
-            String resumeFilePath = saveResumeToFileSystem(resumeFile);
-            candidateDetails.setResumeFilePath(resumeFilePath);  // Store the file path in DB
-        }
         if (!isValidFileType(resumeFile)) {
             throw new InvalidFileTypeException("Invalid file type. Only PDF, DOC and DOCX Files are allowed.");
         }
 
-        // Save the candidate details to the database
-        CandidateDetails savedCandidate = candidateRepository.save(candidateDetails);
+        // Sniff the content before anything is written, so a renamed file never creates a candidate,
+        // then store it once in the resume storage. Should the insert below fail, the unreferenced
+        // content is removed later by ResumeContentSweeper.
+        ResumeUpload resume = resumeFile.isEmpty() ? null : openResume(ResumeUpload.of(resumeFile));
+        StoredResume stored = resume == null ? null : storeContent(resume);
+
+        // Assign a unique, time-ordered ID and save the candidate details, and the resume_blobs row
+        // referencing the stored resume, in one transaction
+        candidateDetails.setCandidateId(candidateIdGenerator.nextId());
+        CandidateDetails savedCandidate = new TransactionTemplate(transactionManager).execute(status -> {
+            CandidateDetails saved = saveCandidate(candidateDetails);
+            publishChange(saved, saved.getUserId(), CandidateChangedEvent.ChangeType.CREATED);
+            if (stored != null) {
+                saveResumeBlob(saved.getCandidateId(), resume, stored);
+            }
+            return saved;
+        });
 
         // Create the payload with candidateId, employeeId, and jobId
         CandidateResponseDto.Payload payload = new CandidateResponseDto.Payload(
@@ -84,25 +179,12 @@ public class CandidateService {
         );
 
     }
-    private boolean isValidFileType(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
-        if (fileName != null) {
-            String fileExtension = getFileExtension(fileName).toLowerCase();
-            return fileExtension.equals("pdf") || fileExtension.equals("docx") || fileExtension.equals("doc");
-        }
-        return false;
-    }
-
-    private String getFileExtension(String fileName) {
-        int index = fileName.lastIndexOf(".");
-        if (index > 0) {
-            return fileName.substring(index + 1);
-        }
-        return "";
+    boolean isValidFileType(MultipartFile file) {
+        return ResumeType.fromFileName(file.getOriginalFilename()) != null;
     }
 
     // Validate required candidate fields
-    private void validateCandidateDetails(CandidateDetails candidateDetails) {
+    void validateCandidateDetails(CandidateDetails candidateDetails) {
         if (candidateDetails.getFullName() == null || candidateDetails.getFullName().trim().isEmpty()) {
             throw new CandidateAlreadyExistsException("Full Name is required and cannot be empty.");
         }
@@ -116,39 +198,83 @@ public class CandidateService {
         }
     }
 
-    // Check for duplicate candidate based on Email ID, Job ID, and Client Name
+    // Check for duplicate candidate based on Email ID or Contact Number, Job ID, and Client Name
     private void checkForDuplicates(CandidateDetails candidateDetails) {
-        Optional<CandidateDetails> existingCandidate =
-                candidateRepository.findByCandidateEmailIdAndJobIdAndClientName(
-                        candidateDetails.getCandidateEmailId(),
-                        candidateDetails.getJobId(),
-                        candidateDetails.getClientName());
-
-        if (existingCandidate.isPresent()) {
-            throw new CandidateAlreadyExistsException(
-                    "Candidate with email ID " + existingCandidate.get().getCandidateEmailId() +
-                            " has already been submitted for job " + existingCandidate.get().getJobId() +
-                            " by client " + existingCandidate.get().getClientName()
-            );
+        // Single query for both rules; the unique constraints still catch submissions racing past this check
+        List<DuplicateCandidateKey> duplicates = candidateRepository.findDuplicateKeys(
+                candidateDetails.getCandidateEmailId(),
+                candidateDetails.getContactNumber(),
+                candidateDetails.getJobId(),
+                CandidateDetails.clientNameKey(candidateDetails.getClientName()),
+                Limit.of(2));
+
+        // Report an email clash first, as the two separate checks used to
+        for (DuplicateCandidateKey existing : duplicates) {
+            if (Objects.equals(existing.getCandidateEmailId(), candidateDetails.getCandidateEmailId())) {
+                throw new CandidateAlreadyExistsException(
+                        "Candidate with email ID " + existing.getCandidateEmailId() +
+                                " has already been submitted for job " + existing.getJobId() +
+                                " by client " + existing.getClientName()
+                );
+            }
         }
-        Optional<CandidateDetails> existingContactNumber =
-                candidateRepository.findByContactNumberAndJobIdAndClientName(
-                        candidateDetails.getContactNumber(),
-                        candidateDetails.getJobId(),
-                        candidateDetails.getClientName());
-
-        if (existingContactNumber.isPresent()) {
+        if (!duplicates.isEmpty()) {
+            DuplicateCandidateKey existing = duplicates.get(0);
             throw new CandidateAlreadyExistsException(
-                    "Candidate with contact number " + existingContactNumber.get().getContactNumber() +
-                            " has already been submitted for job " + existingContactNumber.get().getJobId() +
-                            " by client " + existingContactNumber.get().getClientName()
+                    "Candidate with contact number " + existing.getContactNumber() +
+                            " has already been submitted for job " + existing.getJobId() +
+                            " by client " + existing.getClientName()
             );
         }
+    }
 
+    // Writes the candidate immediately so a unique-constraint violation surfaces here, and
+    // reports it the same way as the duplicate check does
+    private CandidateDetails saveCandidate(CandidateDetails candidateDetails) {
+        try {
+            return candidateRepository.saveAndFlush(candidateDetails);
+        } catch (DataIntegrityViolationException ex) {
+            String constraint = violatedConstraint(ex);
+            if (CandidateDetails.UK_EMAIL_JOB_CLIENT.equals(constraint)) {
+                throw new CandidateAlreadyExistsException("Candidate with email ID " + candidateDetails.getCandidateEmailId() +
+                        " has already been submitted for job " + candidateDetails.getJobId() +
+                        " by client " + candidateDetails.getClientName(), ex);
+            }
+            if (CandidateDetails.UK_CONTACT_JOB_CLIENT.equals(constraint)) {
+                throw new CandidateAlreadyExistsException("Candidate with contact number " + candidateDetails.getContactNumber() +
+                        " has already been submitted for job " + candidateDetails.getJobId() +
+                        " by client " + candidateDetails.getClientName(), ex);
+            }
+            throw ex;
+        }
+    }
 
+    // Name of the candidates unique constraint behind the violation, or null if it is another one
+    static String violatedConstraint(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // Drivers report the name differently (case, "table.name" prefix), so match loosely
+                String name = violation.getConstraintName() == null ? ""
+                        : violation.getConstraintName().toLowerCase(Locale.ROOT);
+                if (name.contains(CandidateDetails.UK_EMAIL_JOB_CLIENT)) {
+                    return CandidateDetails.UK_EMAIL_JOB_CLIENT;
+                }
+                if (name.contains(CandidateDetails.UK_CONTACT_JOB_CLIENT)) {
+                    return CandidateDetails.UK_CONTACT_JOB_CLIENT;
+                }
+                return null;
+            }
+        }
+        return null;
     }
 
 
+    // Lets caches and indexes derived from candidates catch up once the change is committed
+    private void publishChange(CandidateDetails candidate, String previousUserId, CandidateChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new CandidateChangedEvent(candidate.getCandidateId(), candidate.getUserId(),
+                previousUserId, changeType));
+    }
+
     // Set default values for userEmail and clientEmail if not provided
     private void setDefaultEmailsIfMissing(CandidateDetails candidateDetails) {
         if (candidateDetails.getUserEmail() == null) {
@@ -160,58 +286,41 @@ public class CandidateService {
         }
     }
 
-    private String saveResumeToFileSystem(MultipartFile resumeFile) throws IOException {
-        // Set the directory where resumes will be stored
-        String resumeDirectory = "C:\\Users\\User\\Downloads"; // Ensure the directory path is correct and does not have extra quotes
-
-        // Generate a unique file name using UUID to avoid conflicts
-        String fileName = UUID.randomUUID().toString() + "-" + resumeFile.getOriginalFilename();
-        Path filePath = Paths.get(resumeDirectory, fileName);
-
-        // Create the directories if they don't exist
-        Files.createDirectories(filePath.getParent());
-
-        // Save the file to the disk
-        Files.write(filePath, resumeFile.getBytes());
-
-        // Return the path where the file is saved
-        return filePath.toString();
-    }
-
     private static final Logger logger = LoggerFactory.getLogger(CandidateService.class);
 
 
 
 
-    private void saveFile(CandidateDetails candidate, MultipartFile file) throws IOException {
-        // Define the path where files will be stored
-        Path uploadsDirectory = Paths.get("uploads");
-
-        // Check if the directory exists, if not, create it
-        if (Files.notExists(uploadsDirectory)) {
-            Files.createDirectories(uploadsDirectory);
-            logger.info("Created directory: {}", uploadsDirectory.toString());
-        }
-
-        // Generate a filename that combines the candidateId and timestamp
-        String filename = candidate.getCandidateId() + "-" + System.currentTimeMillis() + "-" + file.getOriginalFilename();
-        Path targetPath = uploadsDirectory.resolve(filename);  // Save the file inside the "uploads" directory
-
+    // Rejects content that is not the PDF, DOC or DOCX file its name claims, closing the upload
+    private ResumeUpload openResume(ResumeUpload resume) throws IOException {
         try {
-            // Log the file saving action
-            logger.info("Saving file to path: {}", targetPath);
-
-            // Save the file to the directory
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-
-            // Optionally save the file path in the database (for example, updating the candidate)
-            candidate.setResumeFilePath(targetPath.toString());
-            candidateRepository.save(candidate);
+            resume.requireResume();
+        } catch (InvalidFileTypeException ex) {
+            resume.close();
+            throw ex;
+        }
+        return resume;
+    }
 
-        } catch (IOException e) {
-            logger.error("Failed to save file: {}", e.getMessage());
-            throw new IOException("Failed to save file to path: " + targetPath, e);  // Throw exception to indicate failure
+    // Writes the resume to ResumeStorage in one pass and closes the upload. Callers run this
+    // outside any transaction, the copy can take as long as the client takes to send the file.
+    private StoredResume storeContent(ResumeUpload resume) throws IOException {
+        StoredResume stored;
+        try (resume) {
+            stored = resumeStorage.store(resume, resume.getContentType());
         }
+        if (stored.isDeduplicated()) {
+            logger.info("Resume {} matches already stored content {}", resume.getFileName(), stored.getContentHash());
+        }
+        return stored;
+    }
+
+    // Points the candidate's resume_blobs row at stored content. The replaced content, if no other
+    // candidate shares it, is removed by ResumeContentSweeper.
+    private void saveResumeBlob(String candidateId, ResumeUpload resume, StoredResume stored) {
+        resumeBlobRepository.save(new ResumeBlob(candidateId, resume.getFileName(),
+                resume.getContentType(), stored.getContentHash(), stored.getContentLength(), stored.getStoredLength(),
+                stored.getContentEncoding()));
     }
 
     public CandidateResponseDto resubmitCandidate(String candidateId, CandidateDetails updatedCandidateDetails, MultipartFile resumeFile) {
@@ -237,20 +346,28 @@ public class CandidateService {
                         new CandidateResponseDto.Payload(null, null, null), null);
             }
 
+            // Store the new resume before touching the candidate, so a failed save cannot leak the upload
+            ResumeUpload resume = openResume(ResumeUpload.of(resumeFile));
+            StoredResume stored = storeContent(resume);
+
             // Update candidate fields with the new data (e.g., name, contact, etc.)
+            String previousUserId = existingCandidate.getUserId();
             updateCandidateFields(existingCandidate, updatedCandidateDetails);
 
-            // Save the resume file and update the candidate with the new file path
-            saveFile(existingCandidate, resumeFile);  // This saves the file and updates the candidate's resumeFilePath
-
-            // Save the updated candidate details (including the new resume file path)
-            candidateRepository.save(existingCandidate);
+            // Save the updated candidate details and point the candidate at the new resume in one
+            // transaction, so a failed resume_blobs write leaves neither the update nor its change event
+            CandidateDetails savedCandidate = new TransactionTemplate(transactionManager).execute(status -> {
+                CandidateDetails saved = saveCandidate(existingCandidate);
+                publishChange(saved, previousUserId, CandidateChangedEvent.ChangeType.UPDATED);
+                saveResumeBlob(saved.getCandidateId(), resume, stored);
+                return saved;
+            });
 
             // Return a success response with the updated candidate details
             CandidateResponseDto.Payload payload = new CandidateResponseDto.Payload(
-                    existingCandidate.getCandidateId(),
-                    existingCandidate.getUserId(),
-                    existingCandidate.getJobId()
+                    savedCandidate.getCandidateId(),
+                    savedCandidate.getUserId(),
+                    savedCandidate.getJobId()
             );
 
             return new CandidateResponseDto(
@@ -264,10 +381,18 @@ public class CandidateService {
             // Custom handling for CandidateNotFoundException
             logger.error("Candidate with ID {} not found: {}", candidateId, ex.getMessage());
             throw ex; // Rethrow to be caught by GlobalExceptionHandler
+        } catch (CandidateAlreadyExistsException ex) {
+            // The updated email or contact number clashes with another submission
+            logger.error("Resubmission of candidate {} clashes with an existing submission: {}", candidateId, ex.getMessage());
+            throw ex; // Rethrow to be caught by GlobalExceptionHandler
         } catch (InvalidFileTypeException ex) {
             // Custom handling for InvalidFileTypeException
             logger.error("Invalid file type for resume: {}", ex.getMessage());
             throw ex; // Rethrow to be caught by GlobalExceptionHandler
+        } catch (OptimisticLockingFailureException ex) {
+            // Someone else updated the candidate between our read and write
+            logger.error("Resubmission of candidate {} lost to a concurrent update: {}", candidateId, ex.getMessage());
+            throw ex;
         } catch (IOException ex) {
             // Specific handling for I/O issues, such as file saving errors
             logger.error("Failed to save resume file: {}", ex.getMessage());
@@ -280,46 +405,286 @@ public class CandidateService {
     }
 
 
+    /**
+     * Applies a field-level patch. The candidate is read and the changed fields set on it, and
+     * with {@code @DynamicUpdate} the flush is a single UPDATE of just those columns plus the
+     * version, guarded by the version that was read. A patch that changes nothing writes nothing.
+     *
+     * @param expectedVersion the version the client based its edit on (If-Match), or null to skip that check
+     * @throws OptimisticLockingFailureException when the candidate changed since expectedVersion or concurrently
+     */
+    @Transactional
+    public CandidateDetails patchCandidate(String candidateId, CandidatePatch patch, Long expectedVersion) {
+        CandidateDetails candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found with ID: " + candidateId));
+        if (expectedVersion != null && expectedVersion != candidate.getVersion()) {
+            throw new OptimisticLockingFailureException("Candidate " + candidateId + " is at version "
+                    + candidate.getVersion() + ", not " + expectedVersion + ".");
+        }
+
+        String previousUserId = candidate.getUserId();
+        List<String> changed = patch.applyTo(candidate);
+        if (changed.isEmpty()) {
+            return candidate;
+        }
+        // Flushes now, so a clash with the duplicate-check constraints is reported like a submission's
+        CandidateDetails saved = saveCandidate(candidate);
+        publishChange(saved, previousUserId, CandidateChangedEvent.ChangeType.UPDATED);
+        logger.info("Patched {} of candidate {}", changed, candidateId);
+        return saved;
+    }
+
+    /**
+     * Replaces a candidate's resume with a file streamed straight from the request body: the type
+     * is sniffed from the first bytes and the content is hashed while it is copied to storage, so
+     * nothing is buffered beyond a fixed-size copy buffer. Not transactional on purpose, so no
+     * database connection is held while a slow client is still sending.
+     */
+    public CandidateResponseDto replaceResume(String candidateId, String fileName, InputStream body) throws IOException {
+        CandidateSummary candidate = candidateSummaryCache.get(candidateId)
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found with ID: " + candidateId));
+
+        if (ResumeType.fromFileName(fileName) == null) {
+            throw new InvalidFileTypeException("Invalid file type. Only PDF, DOC and DOCX are allowed.");
+        }
+        ResumeUpload resume = openResume(ResumeUpload.open(fileName, body, ResumeUpload.MAX_SIZE));
+        saveResumeBlob(candidateId, resume, storeContent(resume));
+        // Lets the text extraction pick up the new file
+        eventPublisher.publishEvent(new CandidateChangedEvent(candidateId, candidate.getUserId(),
+                candidate.getUserId(), CandidateChangedEvent.ChangeType.UPDATED));
+
+        return new CandidateResponseDto("Success", "Resume successfully replaced",
+                new CandidateResponseDto.Payload(candidateId, candidate.getUserId(), candidate.getJobId()), null);
+    }
+
+    // Unpaged listing kept for existing clients; prefer getSubmissionsPage
     public List<CandidateGetResponseDto> getAllSubmissions() {
-    // Retrieve all candidates from the repository
-    List<CandidateDetails> candidates = candidateRepository.findAll();
+        // Projection query: only the DTO columns are selected, no entities are loaded
+        List<CandidateGetResponseDto> submissions = candidateRepository.findAllSubmissions();
 
-    // Check if there are no submissions
-    if (candidates.isEmpty()) {
-        throw new CandidateNotFoundException("No candidate submissions found.");
+        // Check if there are no submissions
+        if (submissions.isEmpty()) {
+            throw new CandidateNotFoundException("No candidate submissions found.");
+        }
+
+        return submissions;
     }
 
-    // Map CandidateDetails to CandidateGetResponseDto
-    return candidates.stream()
-            .map(CandidateGetResponseDto::new)  // Use the DTO constructor for mapping
-            .collect(Collectors.toList());
-}
+    // Method to fetch one keyset page of submissions, newest first, with optional filters
+    public CandidatePageResponseDto getSubmissionsPage(String cursor, Integer size, String jobId, String userId,
+                                                       String interviewStatus, LocalDate fromDate, LocalDate toDate) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+        }
+
+        LocalDate afterDate = null;
+        String afterCandidateId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = decodeCursor(cursor);
+            afterDate = LocalDate.parse(position[0]);
+            afterCandidateId = position[1];
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<CandidateGetResponseDto> rows = candidateRepository.findSubmissionsPage(
+                blankToNull(jobId), blankToNull(userId), blankToNull(interviewStatus), fromDate, toDate,
+                afterDate, afterCandidateId, Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CandidateGetResponseDto> content = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            CandidateGetResponseDto last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getProfileReceivedDate(), last.getCandidateId());
+        }
+        return new CandidatePageResponseDto(new ArrayList<>(content), hasMore, nextCursor);
+    }
+
+    // The cursor is the (profileReceivedDate, candidateId) of the last row, opaque to clients
+    private String encodeCursor(LocalDate profileReceivedDate, String candidateId) {
+        String position = profileReceivedDate + "|" + candidateId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            LocalDate.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
 
 
 
 
     // Method to get candidate submissions by userId
     public List<CandidateGetResponseDto> getSubmissionsByUserId(String userId) {
-        // Retrieve candidates by userId from the repository
-        List<CandidateDetails> candidates = candidateRepository.findByUserId(userId);
+        // Served from the per-user cache, which is patched row by row as the user's candidates change
+        List<CandidateGetResponseDto> candidateDtos = userSubmissionsCache.getSubmissions(userId);
 
         // If no candidates are found, throw a CandidateNotFoundException
-        if (candidates.isEmpty()) {
+        if (candidateDtos.isEmpty()) {
             throw new CandidateNotFoundException("No submissions found for userId: " + userId);
         }
 
-        // Map the list of CandidateDetails to List<CandidateGetResponseDto>
-        List<CandidateGetResponseDto> candidateDtos = candidates.stream()
-                .map(CandidateGetResponseDto::new)  // Convert each CandidateDetails to CandidateGetResponseDto
-                .collect(Collectors.toList());
-
         // Return the list of CandidateGetResponseDto
         return candidateDtos;
     }
 
+    // Submitted, scheduled and per-status counts for a user, without building the lists
+    public SubmissionCountsDto getSubmissionCountsByUserId(String userId) {
+        return userSubmissionsCache.getCounts(userId);
+    }
+
+    /**
+     * Skill search over skills, qualification, current organization and resume text. In "ranked"
+     * mode unmarked terms are optional and hits are ordered by relevance; in "boolean" mode every
+     * unmarked term is required. Both accept +term, -term, AND, OR, NOT, parentheses and quotes.
+     */
+    public SkillSearchResponseDto searchCandidates(String query, String mode, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query must not be empty");
+        }
+        if (query.length() > maxQueryLength) {
+            throw new IllegalArgumentException("Query is longer than " + maxQueryLength + " characters");
+        }
+        boolean matchAll;
+        if (mode == null || mode.equalsIgnoreCase("ranked")) {
+            matchAll = false;
+        } else if (mode.equalsIgnoreCase("boolean")) {
+            matchAll = true;
+        } else {
+            throw new IllegalArgumentException("Unsupported search mode: " + mode);
+        }
+        int hitLimit = limit == null ? defaultSearchLimit : limit;
+        if (hitLimit < 1 || hitLimit > maxSearchLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxSearchLimit);
+        }
+
+        SkillQuery skillQuery = SkillQuery.parse(query, matchAll, skillSearchIndex.getAnalyzer());
+        SkillSearchResult result = skillSearchIndex.search(skillQuery, hitLimit);
+
+        // Names and owners come from the summary cache; a candidate deleted since the search is skipped
+        List<SkillSearchHitDto> hits = new ArrayList<>(result.getHits().size());
+        for (SkillSearchResult.Hit hit : result.getHits()) {
+            candidateSummaryCache.get(hit.getCandidateId()).ifPresent(summary -> hits.add(new SkillSearchHitDto(
+                    hit.getCandidateId(), hit.getScore(), summary.getFullName(), summary.getJobId(), summary.getUserId())));
+        }
+        return new SkillSearchResponseDto(query, matchAll ? "boolean" : "ranked", result.getTotal(), hits);
+    }
+
+    /**
+     * Ranks candidates for a job: among the job's own submissions (scope "job") or the whole
+     * pool (scope "all"). Experience, notice and CTC limits filter; skills, experience, notice,
+     * CTC and location fit are weighted into a 0..1 score.
+     */
+    public CandidateMatchResponseDto matchCandidates(String jobId, String scope, Integer k, String skills,
+                                                     String preferredSkills, Float minSkillMatch, Float minExperience,
+                                                     Integer maxNoticeDays, Float maxExpectedCtc, String location) {
+        boolean wholePool;
+        if (scope == null || scope.equalsIgnoreCase("job")) {
+            wholePool = false;
+        } else if (scope.equalsIgnoreCase("all")) {
+            wholePool = true;
+        } else {
+            throw new IllegalArgumentException("Unsupported match scope: " + scope);
+        }
+        int count = k == null ? defaultMatchCount : k;
+        if (count < 1 || count > maxMatchCount) {
+            throw new IllegalArgumentException("k must be between 1 and " + maxMatchCount);
+        }
+        if (minSkillMatch != null && (minSkillMatch < 0 || minSkillMatch > 1)) {
+            throw new IllegalArgumentException("minSkillMatch must be between 0 and 1");
+        }
+
+        MatchCriteria criteria = new MatchCriteria();
+        criteria.setJobId(wholePool ? null : jobId);
+        criteria.setRequiredSkills(skillTerms(skills));
+        criteria.setPreferredSkills(skillTerms(preferredSkills));
+        criteria.setMinSkillMatch(minSkillMatch != null ? minSkillMatch : 0f);
+        criteria.setMinExperience(minExperience);
+        criteria.setMaxNoticeDays(maxNoticeDays);
+        criteria.setMaxExpectedCtcLakhs(maxExpectedCtc);
+        criteria.setLocation(location);
+        MatchResult result = candidateMatchIndex.match(criteria, count);
+
+        List<CandidateMatchHitDto> hits = new ArrayList<>(result.getHits().size());
+        for (MatchResult.Hit hit : result.getHits()) {
+            candidateSummaryCache.get(hit.getCandidateId()).ifPresent(summary -> hits.add(new CandidateMatchHitDto(
+                    hit.getCandidateId(), hit.getScore(), summary.getFullName(), summary.getJobId(), summary.getUserId(),
+                    hit.getMatchedSkills(), hit.getTotalExperience(), hit.getNoticeDays(), hit.getExpectedCtcLakhs())));
+        }
+        return new CandidateMatchResponseDto(jobId, wholePool ? "all" : "job", result.getTotal(), hits);
+    }
+
+    // "Java, Spring Boot, node.js" -> [java, springboot, nodejs]
+    private List<String> skillTerms(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String skill : skills.split(",")) {
+            for (String term : candidateMatchIndex.getAnalyzer().analyze(skill)) {
+                if (!terms.contains(term)) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Resolve a candidate's resume for download without loading the file content into memory.
+     * Content stored gzip-compressed is inflated as it is streamed, unless the client accepts
+     * gzip, in which case the stored bytes are handed out as they are.
+     */
+    public ResumeDownload getResumeForDownload(String candidateId, boolean acceptsGzip) throws IOException {
+        CandidateSummary candidate = candidateSummaryCache.get(candidateId)
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found with ID: " + candidateId));
+
+        ResumeBlobInfo info = resumeBlobRepository.findInfoByCandidateId(candidateId).orElse(null);
+        if (info == null || info.getContentHash() == null || !resumeStorage.exists(info.getContentHash())) {
+            // A resume from before ResumeStorage is moved there on its first download, so this and
+            // every later request is described (and answered with a 304) from metadata alone
+            if (!legacyResumeMigration.migrateNow(candidateId)) {
+                throw new IOException("The legacy resume of candidate " + candidateId + " could not be moved to storage");
+            }
+            info = resumeBlobRepository.findInfoByCandidateId(candidateId)
+                    .filter(moved -> moved.getContentHash() != null && resumeStorage.exists(moved.getContentHash()))
+                    .orElse(null);
+            if (info == null) {
+                return null;
+            }
+        }
+
+        String fileName = downloadFileName(candidate, info.getContentType());
+        if (acceptsGzip && ResumeCodec.GZIP.equals(info.getContentEncoding())) {
+            return new ResumeDownload(resumeStorage.loadEncoded(info.getContentHash()), info.getContentType(),
+                    info.getContentHash(), fileName, ResumeCodec.GZIP);
+        }
+        return new ResumeDownload(resumeStorage.load(info.getContentHash()), info.getContentType(),
+                info.getContentHash(), fileName, null);
+    }
+
+    private String downloadFileName(CandidateSummary candidate, String contentType) {
+        ResumeType type = ResumeType.fromMediaType(contentType);
+        return candidate.getFullName() + "-Resume." + (type == null ? ResumeType.PDF : type).getExtension();
+    }
+
     public boolean isCandidateValidForUser(String userId, String candidateId) {
-        // Fetch the candidate by candidateId
-        CandidateDetails candidateDetails = candidateRepository.findById(candidateId)
+        // Fetch the candidate by candidateId (served from the summary cache for repeat lookups)
+        CandidateSummary candidateDetails = candidateSummaryCache.get(candidateId)
                 .orElseThrow(() -> new CandidateNotFoundException("Candidate not found"));
 
         // Check if the userId associated with the candidate matches the provided userId
@@ -338,8 +703,29 @@ public class CandidateService {
     }
 
 
-    // Method to schedule an interview for a candidate
+    /**
+     * Whether a recruiter and/or client interviewer is free for [start, start + duration), the
+     * interviews that clash, and the nearest free start times. excludedCandidateId lets a
+     * reschedule ignore the interview being moved.
+     */
+    public InterviewSlotAvailabilityDto getInterviewSlotAvailability(String userEmail, String clientEmail,
+                                                                     OffsetDateTime start, Integer duration,
+                                                                     String excludedCandidateId, Integer suggestions) {
+        if ((userEmail == null || userEmail.isBlank()) && (clientEmail == null || clientEmail.isBlank())) {
+            throw new IllegalArgumentException("Either userEmail or clientEmail is required.");
+        }
+        if (start == null) {
+            throw new IllegalArgumentException("start is required.");
+        }
+        if (duration != null && duration <= 0) {
+            throw new IllegalArgumentException("duration must be a positive number of minutes.");
+        }
+        int count = suggestions == null ? slotSuggestions : Math.max(0, Math.min(suggestions, maxSlotSuggestions));
+        return interviewSlotIndex.check(userEmail, clientEmail, start, duration, excludedCandidateId, count);
+    }
 
+    // Method to schedule an interview for a candidate
+    @Transactional
     public InterviewResponseDto scheduleInterview(String userId, String candidateId, OffsetDateTime interviewDateTime, Integer duration,
                                                   String zoomLink, String userEmail, String clientEmail,
                                                   String clientName, String interviewLevel, String externalInterviewDetails) {
@@ -357,6 +743,49 @@ public class CandidateService {
             throw new InterviewAlreadyScheduledException("An interview is already scheduled for candidate ID: " + candidateId);
         }
 
+        return scheduleRound(candidate, userId, interviewDateTime, duration, zoomLink, userEmail, clientEmail,
+                clientName, interviewLevel, externalInterviewDetails);
+    }
+
+    /**
+     * Schedules a further interview round for a candidate whose previous round has taken place
+     * (its status is no longer SCHEDULED or RESCHEDULED, e.g. COMPLETED or SELECTED). The new round
+     * becomes the candidate's current interview; earlier rounds and their feedback are kept.
+     */
+    @Transactional
+    public InterviewResponseDto scheduleNextInterviewRound(String userId, String candidateId, OffsetDateTime interviewDateTime,
+                                                           Integer duration, String zoomLink, String userEmail,
+                                                           String clientEmail, String clientName, String interviewLevel,
+                                                           String externalInterviewDetails) {
+        logger.info("Scheduling the next interview round for userId: {} and candidateId: {}", userId, candidateId);
+
+        if (candidateId == null) {
+            throw new CandidateNotFoundException("Candidate ID cannot be null for userId: " + userId);
+        }
+        if (interviewDateTime == null) {
+            throw new IllegalArgumentException("Interview date and time is required.");
+        }
+
+        CandidateDetails candidate = candidateRepository.findByCandidateIdAndUserId(candidateId, userId)
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found for userId: " + userId + " and candidateId: " + candidateId));
+
+        // One upcoming round at a time: the current one needs an outcome before the next is booked
+        if (candidate.getInterviewDateTime() != null && Interview.isOpen(candidate.getInterviewStatus())
+                || interviewRoundService.findOpenRound(candidateId).isPresent()) {
+            throw new InterviewAlreadyScheduledException("An interview round is still scheduled for candidate ID: "
+                    + candidateId + "; record its outcome before scheduling the next round.");
+        }
+
+        return scheduleRound(candidate, userId, interviewDateTime, duration, zoomLink, userEmail, clientEmail,
+                clientName, interviewLevel, externalInterviewDetails);
+    }
+
+    // Books a new round: the candidate's interview columns take its details and a round row is added
+    private InterviewResponseDto scheduleRound(CandidateDetails candidate, String userId, OffsetDateTime interviewDateTime,
+                                               Integer duration, String zoomLink, String userEmail, String clientEmail,
+                                               String clientName, String interviewLevel, String externalInterviewDetails) {
+        String candidateId = candidate.getCandidateId();
+
         // Update candidate details
         candidate.setUserEmail(userEmail);
         candidate.setClientEmail(clientEmail);
@@ -393,15 +822,21 @@ public class CandidateService {
         // **Update Interview Status**
         candidate.setInterviewStatus("SCHEDULED");
 
+        // Book the slot against the recruiter's and client's other interviews; throws on overlap
+        interviewSlotIndex.reserve(candidateId, candidate.getUserEmail(), candidate.getClientEmail(),
+                interviewDateTime, duration, slotSuggestions);
+
         try {
             candidateRepository.save(candidate);
             System.out.println("Candidate saved successfully.");
         } catch (Exception e) {
             throw new RuntimeException("Error while saving candidate data.", e);
         }
+        Interview round = interviewRoundService.recordScheduled(candidate, userId);
+        publishChange(candidate, candidate.getUserId(), CandidateChangedEvent.ChangeType.UPDATED);
 
-        // **Email Notification**
-        sendInterviewNotification(candidate);
+        // **Email Notification** (queued in the outbox, committed together with the candidate update)
+        queueInterviewNotification(candidate);
 
         // **Return Response**
         InterviewResponseDto.InterviewPayload payload = new InterviewResponseDto.InterviewPayload(
@@ -411,7 +846,10 @@ public class CandidateService {
                 candidate.getClientEmail()
         );
 
-        return new InterviewResponseDto(true, "Interview scheduled successfully and email notifications sent.", payload, null);
+        String message = round.getRoundNumber() == 1
+                ? "Interview scheduled successfully and email notifications queued."
+                : "Interview round " + round.getRoundNumber() + " scheduled successfully and email notifications queued.";
+        return new InterviewResponseDto(true, message, payload, null);
     }
 
     /**
@@ -424,12 +862,18 @@ public class CandidateService {
     }
 
     /**
-     * Sends interview notification emails.
+     * Queues interview notification emails for the candidate, client and recruiter.
      */
-    private void sendInterviewNotification(CandidateDetails candidate) {
+    private void queueInterviewNotification(CandidateDetails candidate) {
         String subject = "Interview Scheduled for " + candidate.getFullName();
+        String body = buildInterviewScheduledBody(candidate);
+
+        notificationOutbox.enqueue(candidate.getCandidateId(), subject, body,
+                candidate.getCandidateEmailId(), candidate.getClientEmail(), candidate.getUserEmail());
+    }
 
-        String body = "<p>Hello " + candidate.getFullName() + ",</p>"
+    String buildInterviewScheduledBody(CandidateDetails candidate) {
+        return "<p>Hello " + candidate.getFullName() + ",</p>"
                 + "<p>Hope you are doing well!</p>"
                 + "<p>Thank you for your interest in the position <b>" + candidate.getInterviewLevel() + "</b> for our client <b>" + candidate.getClientName() + "</b>.</p>"
                 + "<p>We're pleased to inform you that your profile has been shortlisted for screening.</p>"
@@ -443,16 +887,9 @@ public class CandidateService {
                 + "<p>Kindly confirm your availability by replying to this email.</p>"
                 + "<p>Best regards,</p>"
                 + "<p>The Interview Team</p>";
-
-        emailService.sendInterviewNotification(candidate.getCandidateEmailId(), subject, body);
-
-        if (candidate.getClientEmail() != null) {
-            emailService.sendInterviewNotification(candidate.getClientEmail(), subject, body);
-        }
-
-        emailService.sendInterviewNotification(candidate.getUserEmail(), subject, body);
     }
 
+    @Transactional
     public InterviewResponseDto updateScheduledInterview(
             String userId,
             String candidateId,
@@ -481,6 +918,10 @@ public class CandidateService {
             throw new InterviewNotScheduledException("No interview scheduled for candidate ID: " + candidateId);
         }
 
+        // What places the interview in the recruiter's and client's calendars, before the update
+        List<Object> previousSlot = Arrays.asList(candidate.getInterviewDateTime(), candidate.getDuration(),
+                candidate.getUserEmail(), candidate.getClientEmail());
+
         // Update fields only if values are provided
         if (interviewDateTime != null) candidate.setInterviewDateTime(interviewDateTime);
         if (duration != null) candidate.setDuration(duration);
@@ -514,20 +955,49 @@ public class CandidateService {
             candidate.setZoomLink(zoomLink);
         }
 
+        // Moving the interview or changing who attends must not overlap their other interviews
+        if (!previousSlot.equals(Arrays.asList(candidate.getInterviewDateTime(), candidate.getDuration(),
+                candidate.getUserEmail(), candidate.getClientEmail()))) {
+            interviewSlotIndex.reserve(candidateId, candidate.getUserEmail(), candidate.getClientEmail(),
+                    candidate.getInterviewDateTime(), candidate.getDuration(), slotSuggestions);
+        }
+
         // Update timestamp
         candidate.setTimestamp(LocalDateTime.now());
 
         // Save updated candidate details
         candidateRepository.save(candidate);
+        interviewRoundService.recordUpdated(candidate, userId);
+        publishChange(candidate, candidate.getUserId(), CandidateChangedEvent.ChangeType.UPDATED);
         logger.info("Interview details updated successfully for candidateId: {}", candidateId);
 
-        // Prepare email content
+        // Queue email notifications; they are committed together with the interview update
+        String subject = "Interview Update for " + candidate.getFullName();
+        String emailBody = buildInterviewUpdatedBody(candidate, interviewDateTime, duration, zoomLink);
+        notificationOutbox.enqueue(candidate.getCandidateId(), subject, emailBody,
+                candidate.getCandidateEmailId(), candidate.getClientEmail(), candidate.getUserEmail());
+
+        // Return updated interview response
+        return new InterviewResponseDto(
+                true,
+                "Interview updated successfully and notifications queued.",
+                new InterviewResponseDto.InterviewPayload(
+                        candidate.getCandidateId(),
+                        candidate.getUserEmail(),
+                        candidate.getCandidateEmailId(),
+                        candidate.getClientEmail()
+                ),
+                null  // No errors
+        );
+    }
+
+    String buildInterviewUpdatedBody(CandidateDetails candidate, OffsetDateTime interviewDateTime, Integer duration, String zoomLink) {
         String formattedDate = (interviewDateTime != null) ? interviewDateTime.format(DateTimeFormatter.BASIC_ISO_DATE) : "N/A";
         String formattedTime = (interviewDateTime != null) ? interviewDateTime.format(DateTimeFormatter.ISO_TIME) : "N/A";
         String formattedDuration = (duration != null) ? duration + " minutes" : "N/A";
         String formattedZoomLink = (zoomLink != null && !zoomLink.isEmpty()) ? "<a href='" + zoomLink + "'>Click here to join</a>" : "N/A";
 
-        String emailBody = String.format(
+        return String.format(
                 "<p>Hello %s,</p>"
                         + "<p>Your interview has been rescheduled.</p>"
                         + "<ul>"
@@ -540,103 +1010,30 @@ public class CandidateService {
                         + "<p>Please confirm your availability.</p>"
                         + "<p>Best regards,<br>The Interview Team</p>",
                 candidate.getFullName(), formattedDate, formattedTime, formattedDuration, formattedZoomLink, candidate.getInterviewStatus());
-
-        String subject = "Interview Update for " + candidate.getFullName();
-
-        // Send email notifications with error handling
-        try {
-            Stream.of(candidate.getCandidateEmailId(), candidate.getClientEmail(), candidate.getUserEmail())
-                    .filter(Objects::nonNull)
-                    .forEach(email -> emailService.sendInterviewNotification(email, subject, emailBody));
-        } catch (Exception e) {
-            logger.error("Failed to send email notification: " + e.getMessage(), e);
-        }
-
-        // Return updated interview response
-        return new InterviewResponseDto(
-                true,
-                "Interview updated successfully and notifications sent.",
-                new InterviewResponseDto.InterviewPayload(
-                        candidate.getCandidateId(),
-                        candidate.getUserEmail(),
-                        candidate.getCandidateEmailId(),
-                        candidate.getClientEmail()
-                ),
-                null  // No errors
-        );
     }
 
     public List<GetInterviewResponseDto> getAllScheduledInterviews() {
-        // Fetch all candidates
-        List<CandidateDetails> candidates = candidateRepository.findAll();
-        List<GetInterviewResponseDto> response = new ArrayList<>();
-
-        for (CandidateDetails interview : candidates) {
-            // Skip candidates where interview is not scheduled
-            if (interview.getInterviewDateTime() == null) {
-                continue;  // Skip this iteration if interview is not scheduled
-            } {
-                // Create DTO and add to response list
-                GetInterviewResponseDto dto = new GetInterviewResponseDto(
-                        interview.getJobId(),
-                        interview.getCandidateId(),
-                        interview.getFullName(),
-                        interview.getContactNumber(),
-                        interview.getCandidateEmailId(),
-                        interview.getUserEmail(),
-                        interview.getUserId(),
-                        interview.getInterviewDateTime(),
-                        interview.getDuration(),
-                        interview.getZoomLink(),
-                        interview.getTimestamp(),
-                        interview.getClientEmail(),
-                        interview.getClientName(),
-                        interview.getInterviewLevel(),
-                        "Scheduled" // Since only scheduled interviews are included
-                );
-                response.add(dto);
-            }
-        }
+        return getAllScheduledInterviews(null, null);
+    }
 
-        return response;
+    // Scheduled interviews in the optional window [from, to), filtered and projected by the database
+    public List<GetInterviewResponseDto> getAllScheduledInterviews(OffsetDateTime from, OffsetDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'.");
+        }
+        return candidateRepository.findScheduledInterviews(from, to);
     }
 
 
     public List<GetInterviewResponseDto> getAllScheduledInterviewsByUserId(String userId) {
-        List<CandidateDetails> candidates = candidateRepository.findByUserId(userId);
-        List<GetInterviewResponseDto> response = new ArrayList<>();
-
-        for (CandidateDetails interview : candidates) {
-            // Determine interview status dynamically
-            String interviewStatus = (interview.getInterviewDateTime() != null) ? "Scheduled" : "Not Scheduled";
-
-            GetInterviewResponseDto dto = new GetInterviewResponseDto(
-                    interview.getJobId(),
-                    interview.getCandidateId(),
-                    interview.getFullName(),
-                    interview.getContactNumber(),
-                    interview.getCandidateEmailId(),
-                    interview.getUserEmail(),
-                    interview.getUserId(),
-                    interview.getInterviewDateTime(),
-                    interview.getDuration(),
-                    interview.getZoomLink(),
-                    interview.getTimestamp(),
-                    interview.getClientEmail(),
-                    interview.getClientName(),
-                    interview.getInterviewLevel(),
-                    interviewStatus  // Dynamically assign status
-            );
-            response.add(dto);
-        }
-
-        return response;
+        // Every candidate of the user, with the interview status derived from whether a time is set
+        return userSubmissionsCache.getInterviews(userId);
     }
 
 
 
     // Method to update the candidate fields with new values
-    private void updateCandidateFields(CandidateDetails existingCandidate, CandidateDetails updatedCandidateDetails) {
+    void updateCandidateFields(CandidateDetails existingCandidate, CandidateDetails updatedCandidateDetails) {
         if (updatedCandidateDetails.getJobId() != null) existingCandidate.setJobId(updatedCandidateDetails.getJobId());
         if (updatedCandidateDetails.getUserId() != null) existingCandidate.setUserId(updatedCandidateDetails.getUserId());
         if (updatedCandidateDetails.getFullName() != null) existingCandidate.setFullName(updatedCandidateDetails.getFullName());
@@ -685,8 +1082,15 @@ public class CandidateService {
         String candidateIdBeforeDelete = candidate.getCandidateId();
         String candidateNameBeforeDelete = candidate.getFullName();
 
+        // Delete the resume reference first, it references the candidate row. The stored content
+        // is shared between candidates with the same file; ResumeContentSweeper removes it once unreferenced.
+        resumeBlobRepository.deleteByCandidateId(candidateId);
+        interviewRoundService.deleteRounds(candidateId);
+
         // Delete the candidate from the repository
         candidateRepository.delete(candidate);
+        publishChange(candidate, candidate.getUserId(), CandidateChangedEvent.ChangeType.DELETED);
+
         logger.info("Candidate with ID {} deleted successfully", candidateId);
 
         // Prepare the response with candidate details
@@ -697,6 +1101,43 @@ public class CandidateService {
                 payload,
                 null);
     }
+    /**
+     * Records feedback, and optionally the outcome, of one interview round. Feedback on the
+     * candidate's latest round is mirrored onto the candidate, as the listings show it from there.
+     */
+    @Transactional
+    public InterviewRoundDto recordInterviewFeedback(String userId, Long interviewId, InterviewFeedbackDto feedback) {
+        Interview round = interviewRoundService.recordFeedback(userId, interviewId, feedback);
+
+        CandidateDetails candidate = candidateRepository.findByCandidateIdAndUserId(round.getCandidateId(), userId)
+                .orElseThrow(() -> new CandidateNotFoundException("Candidate not found for userId: " + userId
+                        + " and candidateId: " + round.getCandidateId()));
+        Optional<Interview> latest = interviewRoundService.findLatestRound(round.getCandidateId());
+        if (latest.isPresent() && latest.get().getId().equals(round.getId())) {
+            candidate.setCommunicationSkills(feedback.getCommunicationSkills());
+            candidate.setRequiredTechnologiesRating(feedback.getRequiredTechnologiesRating());
+            candidate.setOverallFeedback(feedback.getOverallFeedback());
+            candidate.setInterviewStatus(round.getStatus());
+            candidateRepository.save(candidate);
+            publishChange(candidate, candidate.getUserId(), CandidateChangedEvent.ChangeType.UPDATED);
+        }
+        logger.info("Recorded feedback on interview round {} of candidateId: {}", round.getRoundNumber(), round.getCandidateId());
+        return interviewRoundService.toDto(round);
+    }
+
+    // Every interview round of the candidate with its status history
+    public List<InterviewRoundDto> getInterviewRounds(String candidateId) {
+        if (candidateSummaryCache.get(candidateId).isEmpty()) {
+            throw new CandidateNotFoundException("Candidate not found with id: " + candidateId);
+        }
+        return interviewRoundService.getRounds(candidateId);
+    }
+
+    // Interview rounds of a user and/or within the window [from, to)
+    public List<InterviewRoundDto> getInterviewRounds(String userId, OffsetDateTime from, OffsetDateTime to) {
+        return interviewRoundService.getRounds(userId, from, to);
+    }
+
     @Transactional
     public void deleteInterview(String candidateId) {
         logger.info("Received request to Remove Scheduled Interview Details for candidateId: {}", candidateId);
@@ -717,6 +1158,9 @@ public class CandidateService {
             throw new InterviewNotScheduledException("No Scheduled Interview found for candidate ID: " + candidateId);
         }
 
+        // The round itself is kept, marked as cancelled
+        interviewRoundService.recordCancelled(candidateId, candidate.getUserId());
+
         // ✅ ONLY remove interview-related fields
         candidate.setInterviewDateTime(null);
         candidate.setDuration(null);
@@ -730,6 +1174,7 @@ public class CandidateService {
 
         // ✅ DO NOT DELETE THE ENTIRE CANDIDATE
         candidateRepository.save(candidate);
+        publishChange(candidate, candidate.getUserId(), CandidateChangedEvent.ChangeType.UPDATED);
         logger.info("Scheduled Interview Details is Removed successfully for candidateId: {}", candidateId);
     }
 
@@ -1,5 +1,12 @@
 package com.profile.candidate.service;
 
+import com.profile.candidate.model.EmailOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -9,8 +16,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.mail.MailException;
-import javax.mail.internet.AddressException;
-import javax.mail.internet.InternetAddress;
+import org.springframework.mail.MailSendException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class InterviewEmailService {
@@ -22,8 +34,25 @@ public class InterviewEmailService {
     @Value("${spring.mail.username}")
     private String senderEmail;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // SMTP round trip only (connect, send, close), separate from building the messages
+    private Timer smtpTimer;
+    private Counter sentCounter;
+    private Counter failedCounter;
+
     private static final Logger logger = LoggerFactory.getLogger(InterviewEmailService.class);
 
+    @PostConstruct
+    void registerMeters() {
+        smtpTimer = Timer.builder("candidate.mail.smtp")
+                .description("Time spent in the SMTP transport per send call")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("candidate.mail.messages").tag("outcome", "sent").register(meterRegistry);
+        failedCounter = Counter.builder("candidate.mail.messages").tag("outcome", "failed").register(meterRegistry);
+    }
+
     public void sendInterviewNotification(String to, String subject, String body) {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper;
@@ -51,7 +80,13 @@ public class InterviewEmailService {
             helper.setFrom(senderEmail); // Use the email from properties
 
             // Send the email
-            mailSender.send(message);
+            long start = System.nanoTime();
+            try {
+                mailSender.send(message);
+            } finally {
+                smtpTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            sentCounter.increment();
 
             // Log success
             logger.info("Email sent successfully to {}", to);
@@ -59,22 +94,96 @@ public class InterviewEmailService {
         } catch (EmailConfigurationException e) {
             // Log error if sender email is not configured correctly
             logger.error("Invalid sender email configuration: {}", e.getMessage());
+            failedCounter.increment();
             throw e;
         } catch (IllegalArgumentException e) {
             // Log error if recipient email format is invalid
             logger.error("Invalid email address: {}", e.getMessage());
+            failedCounter.increment();
             throw e;
         } catch (MailException e) {
             // Log mail-related exceptions
+            failedCounter.increment();
             logger.error("Failed to send email to {}. Error: {}", to, e.getMessage(), e);
             throw new EmailSendingException("An error occurred while sending the email.", e);
         } catch (Exception e) {
             // Log any unexpected exceptions
+            failedCounter.increment();
             logger.error("Unexpected error occurred while sending email to {}. Error: {}", to, e.getMessage(), e);
             throw new RuntimeException("Unexpected error occurred while sending email.", e);
         }
     }
 
+    /**
+     * Sends a batch of outbox messages over a single SMTP connection.
+     * Returns the messages that could not be sent, keyed by outbox ID, with the reason;
+     * an empty map means every message was accepted by the relay.
+     */
+    public Map<Long, Exception> sendInterviewNotifications(List<EmailOutboxMessage> outboxMessages) {
+        Map<Long, Exception> failures = new HashMap<>();
+        if (senderEmail == null || senderEmail.isEmpty()) {
+            EmailConfigurationException e = new EmailConfigurationException("Sender email is not configured.");
+            outboxMessages.forEach(m -> failures.put(m.getId(), e));
+            failedCounter.increment(failures.size());
+            return failures;
+        }
+
+        // Build all messages first; invalid ones fail on their own without affecting the batch
+        Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>(outboxMessages.size());
+        for (EmailOutboxMessage outboxMessage : outboxMessages) {
+            try {
+                if (!isValidEmail(outboxMessage.getRecipient())) {
+                    // An AddressException, so the dispatcher gives up on it instead of retrying
+                    throw new AddressException("Invalid recipient email format: " + outboxMessage.getRecipient());
+                }
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true);
+                helper.setTo(outboxMessage.getRecipient());
+                helper.setSubject(outboxMessage.getSubject());
+                helper.setText(outboxMessage.getBody(), true);  // true = send as HTML
+                helper.setFrom(senderEmail);
+                idsByMessage.put(message, outboxMessage.getId());
+                mimeMessages.add(message);
+            } catch (Exception e) {
+                failures.put(outboxMessage.getId(), e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            failedCounter.increment(failures.size());
+            return failures;
+        }
+
+        long start = System.nanoTime();
+        try {
+            // JavaMailSender opens one transport for the whole array
+            mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+            logger.info("Sent {} interview notification emails in one batch", mimeMessages.size());
+        } catch (MailSendException e) {
+            // Only the listed messages failed; the rest of the batch went through
+            e.getFailedMessages().forEach((message, cause) -> {
+                Long id = idsByMessage.get(message);
+                if (id != null) {
+                    failures.put(id, cause);
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                idsByMessage.values().forEach(id -> failures.put(id, e));
+            }
+            logger.error("Failed to send {} of {} interview notification emails: {}",
+                    failures.size(), outboxMessages.size(), e.getMessage());
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing in the batch was sent
+            idsByMessage.values().forEach(id -> failures.put(id, e));
+            logger.error("Failed to send interview notification batch: {}", e.getMessage());
+        } finally {
+            smtpTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        sentCounter.increment(outboxMessages.size() - failures.size());
+        failedCounter.increment(failures.size());
+        return failures;
+    }
+
     // Helper method to validate email format
     private boolean isValidEmail(String email) {
         try {
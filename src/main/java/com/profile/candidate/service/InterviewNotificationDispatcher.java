@@ -0,0 +1,252 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.configurations.WorkerThreads;
+import com.profile.candidate.model.EmailOutboxMessage;
+import com.profile.candidate.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the email_outbox table in the background. Each poll claims a batch of
+ * due messages, splits it into chunks that are each sent over one SMTP
+ * connection on a bounded pool, and records the outcome. Failed messages are
+ * retried with exponential backoff until the attempt limit is reached; a
+ * recipient that is malformed or refused by the relay is not retried at all.
+ */
+@Service
+public class InterviewNotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewNotificationDispatcher.class);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final InterviewEmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor senderPool;
+
+    private final int batchSize;
+    private final int messagesPerConnection;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    private final AtomicLong pendingMessages = new AtomicLong();
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public InterviewNotificationDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                           InterviewEmailService emailService,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry,
+                                           Environment environment,
+                                           @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                           @Value("${notification.outbox.messages-per-connection:20}") int messagesPerConnection,
+                                           @Value("${notification.outbox.sender-threads:4}") int senderThreads,
+                                           @Value("${notification.outbox.max-attempts:6}") int maxAttempts,
+                                           @Value("${notification.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                                           @Value("${notification.outbox.max-backoff:PT30M}") Duration maxBackoff,
+                                           @Value("${notification.outbox.claim-timeout:PT5M}") Duration claimTimeout) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.messagesPerConnection = messagesPerConnection;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+
+        // Bounded pool; when every sender is busy and the queue is full the dispatcher thread
+        // sends the chunk itself, which slows down claiming instead of queueing without limit.
+        // Senders block on the SMTP relay, so they are virtual threads in virtual-thread mode;
+        // sender-threads still caps the connections opened to the relay.
+        this.senderPool = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(senderThreads * 2),
+                WorkerThreads.forBlockingTasks("notification-sender-", environment),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("interview.notifications.outbox.pending", pendingMessages, AtomicLong::get)
+                .description("Interview notification emails waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("interview.notifications.sender.active", senderPool, ThreadPoolExecutor::getActiveCount)
+                .description("Outbox sender threads currently talking to the SMTP relay")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("interview.notifications.send")
+                .description("Time to send one batch of notification emails over a single SMTP connection")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("interview.notifications.sent").register(meterRegistry);
+        this.retriedCounter = Counter.builder("interview.notifications.failed").tag("outcome", "retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("interview.notifications.failed").tag("outcome", "gave_up").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:2000}")
+    public void dispatchPending() {
+        try {
+            Integer released = transactionTemplate.execute(status -> emailOutboxRepository.releaseStaleClaims(
+                    LocalDateTime.now().minus(claimTimeout), maxAttempts, "Not sent within the claim timeout"));
+            if (released != null && released > 0) {
+                logger.warn("Released {} interview notifications not sent within the claim timeout", released);
+            }
+
+            List<EmailOutboxMessage> batch;
+            while (!(batch = claimBatch()).isEmpty()) {
+                dispatch(batch);
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            pendingMessages.set(emailOutboxRepository.countByStatus(EmailOutboxMessage.STATUS_PENDING));
+        } catch (Exception e) {
+            logger.error("Interview notification dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        String token = UUID.randomUUID().toString();
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = emailOutboxRepository.findIdsReadyToSend(now, Limit.of(batchSize));
+            if (ids.isEmpty() || emailOutboxRepository.claim(ids, token, now) == 0) {
+                return Collections.<EmailOutboxMessage>emptyList();
+            }
+            return emailOutboxRepository.findByClaimToken(token);
+        });
+    }
+
+    private void dispatch(List<EmailOutboxMessage> batch) throws InterruptedException {
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += messagesPerConnection) {
+            List<EmailOutboxMessage> chunk = batch.subList(from, Math.min(batch.size(), from + messagesPerConnection));
+            chunks.add(senderPool.submit(() -> sendChunk(chunk)));
+        }
+        for (Future<?> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (ExecutionException e) {
+                // Messages stay claimed and are released again, one attempt used, once the claim times out
+                logger.error("Interview notification chunk failed: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private void sendChunk(List<EmailOutboxMessage> chunk) {
+        // Every message of a batch was claimed under the same token
+        String claimToken = chunk.get(0).getClaimToken();
+        Map<Long, Exception> failures = sendTimer.record(() -> emailService.sendInterviewNotifications(chunk));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> sentIds = new ArrayList<>(chunk.size());
+        List<EmailOutboxMessage> failed = new ArrayList<>(failures.size());
+        for (EmailOutboxMessage message : chunk) {
+            Exception failure = failures.get(message.getId());
+            if (failure == null) {
+                sentIds.add(message.getId());
+            } else {
+                scheduleRetry(message, failure, now);
+                failed.add(message);
+            }
+        }
+
+        Integer marked = transactionTemplate.execute(status -> {
+            int markedSent = sentIds.isEmpty() ? 0 : emailOutboxRepository.markSent(sentIds, claimToken, now);
+            for (EmailOutboxMessage message : failed) {
+                emailOutboxRepository.markFailed(message.getId(), claimToken, message.getStatus(),
+                        message.getAttempts(), message.getLastError(), message.getNextAttemptAt());
+            }
+            return markedSent;
+        });
+        if (marked != null && marked < sentIds.size()) {
+            logger.warn("{} sent interview notifications had been released before their outcome was recorded",
+                    sentIds.size() - marked);
+        }
+        sentCounter.increment(sentIds.size());
+    }
+
+    private void scheduleRetry(EmailOutboxMessage message, Exception failure, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        String error = failure.getMessage() == null ? failure.getClass().getName() : failure.getMessage();
+        message.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (isPermanent(failure)) {
+            message.setStatus(EmailOutboxMessage.STATUS_FAILED);
+            failedCounter.increment();
+            logger.error("Not retrying notification {} to {}: the address is invalid: {}",
+                    message.getId(), message.getRecipient(), error);
+        } else if (attempts >= maxAttempts) {
+            message.setStatus(EmailOutboxMessage.STATUS_FAILED);
+            failedCounter.increment();
+            logger.error("Giving up on notification {} to {} after {} attempts: {}",
+                    message.getId(), message.getRecipient(), attempts, error);
+        } else {
+            // Exponential backoff: initial, 2x, 4x, ... capped at maxBackoff
+            Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+            if (delay.compareTo(maxBackoff) > 0) {
+                delay = maxBackoff;
+            }
+            message.setStatus(EmailOutboxMessage.STATUS_PENDING);
+            message.setNextAttemptAt(now.plus(delay));
+            retriedCounter.increment();
+            logger.warn("Notification {} to {} failed (attempt {}), retrying in {}: {}",
+                    message.getId(), message.getRecipient(), attempts, delay, error);
+        }
+    }
+
+    /**
+     * Failures no retry can fix: a malformed address, or a recipient the relay rejected outright.
+     * The relay reports addresses refused with a 5xx reply as invalid; those refused with a
+     * temporary 4xx reply are only "valid unsent" and are retried like any other failure.
+     */
+    static boolean isPermanent(Exception failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AddressException) {
+                return true;
+            }
+            if (cause instanceof SendFailedException sendFailed) {
+                Address[] invalid = sendFailed.getInvalidAddresses();
+                if (invalid != null && invalid.length > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        senderPool.shutdown();
+        senderPool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,43 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.EmailOutboxMessage;
+import com.profile.candidate.repository.EmailOutboxRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Queues interview notification emails in the email_outbox table. Callers run
+ * inside their own transaction, so the emails are committed together with the
+ * candidate change that triggered them and are never sent for a rolled-back change.
+ */
+@Service
+public class InterviewNotificationOutbox {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Transactional
+    public void enqueue(String candidateId, String subject, String body, String... recipients) {
+        // One row per distinct recipient, skipping missing addresses
+        Set<String> distinctRecipients = new LinkedHashSet<>();
+        Stream.of(recipients)
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .forEach(distinctRecipients::add);
+
+        List<EmailOutboxMessage> messages = new ArrayList<>(distinctRecipients.size());
+        for (String recipient : distinctRecipients) {
+            messages.add(new EmailOutboxMessage(candidateId, recipient, subject, body));
+        }
+        emailOutboxRepository.saveAll(messages);
+    }
+}
@@ -0,0 +1,33 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.repository.InterviewRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the first interview round for candidates interviewed before rounds were kept in the
+ * interviews table, from the interview columns of the candidate. Runs once per startup and is
+ * a no-op once every interviewed candidate has a round.
+ */
+@Component
+public class InterviewRoundBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterviewRoundBackfill.class);
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int created = interviewRepository.backfillFirstRounds();
+        if (created > 0) {
+            logger.info("Backfilled the first interview round of {} existing candidates", created);
+        }
+    }
+}
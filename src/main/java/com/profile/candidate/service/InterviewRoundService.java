@@ -0,0 +1,166 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.dto.InterviewFeedbackDto;
+import com.profile.candidate.dto.InterviewRoundDto;
+import com.profile.candidate.dto.InterviewStatusChangeDto;
+import com.profile.candidate.exceptions.InterviewNotScheduledException;
+import com.profile.candidate.model.CandidateDetails;
+import com.profile.candidate.model.Interview;
+import com.profile.candidate.model.InterviewFeedback;
+import com.profile.candidate.model.InterviewStatusChange;
+import com.profile.candidate.repository.InterviewRepository;
+import com.profile.candidate.repository.InterviewStatusChangeRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the interview rounds of a candidate and their status history. Each scheduled round is a
+ * new row in {@code interviews}; rescheduling, feedback and outcomes update that row and append
+ * to {@code interview_status_history}, so nothing about earlier rounds is overwritten.
+ *
+ * CandidateService calls in here from its own transactions whenever it changes the interview
+ * columns of a candidate, which keep mirroring the latest round.
+ */
+@Service
+public class InterviewRoundService {
+
+    private static final int MAX_OVERALL_FEEDBACK_LENGTH = 500;
+
+    private final InterviewRepository interviewRepository;
+    private final InterviewStatusChangeRepository statusChangeRepository;
+
+    public InterviewRoundService(InterviewRepository interviewRepository,
+                                 InterviewStatusChangeRepository statusChangeRepository) {
+        this.interviewRepository = interviewRepository;
+        this.statusChangeRepository = statusChangeRepository;
+    }
+
+    public Optional<Interview> findLatestRound(String candidateId) {
+        return interviewRepository.findFirstByCandidateIdOrderByRoundNumberDesc(candidateId);
+    }
+
+    // The candidate's latest round, if it has not taken place yet
+    public Optional<Interview> findOpenRound(String candidateId) {
+        return findLatestRound(candidateId).filter(round -> Interview.isOpen(round.getStatus()));
+    }
+
+    // Adds the next round from the candidate's interview columns
+    @Transactional
+    public Interview recordScheduled(CandidateDetails candidate, String changedBy) {
+        int roundNumber = interviewRepository.findLastRoundNumber(candidate.getCandidateId()) + 1;
+        Interview round = new Interview(candidate.getCandidateId(), candidate.getUserId(), candidate.getJobId(), roundNumber);
+        round.copyFrom(candidate);
+        interviewRepository.save(round);
+        statusChangeRepository.save(new InterviewStatusChange(round, null, changedBy));
+        return round;
+    }
+
+    // Copies the candidate's interview columns onto its latest round, recording a status change
+    @Transactional
+    public Interview recordUpdated(CandidateDetails candidate, String changedBy) {
+        Optional<Interview> latest = findLatestRound(candidate.getCandidateId());
+        if (latest.isEmpty()) {
+            // Interviewed before rounds were kept and not backfilled yet
+            return recordScheduled(candidate, changedBy);
+        }
+        Interview round = latest.get();
+        String previousStatus = round.getStatus();
+        round.copyFrom(candidate);
+        interviewRepository.save(round);
+        if (!Objects.equals(previousStatus, round.getStatus())) {
+            statusChangeRepository.save(new InterviewStatusChange(round, previousStatus, changedBy));
+        }
+        return round;
+    }
+
+    // Marks the candidate's open round as cancelled; a round that already took place is left alone
+    @Transactional
+    public void recordCancelled(String candidateId, String changedBy) {
+        findOpenRound(candidateId).ifPresent(round -> changeStatus(round, Interview.STATUS_CANCELLED, changedBy));
+    }
+
+    /**
+     * Records interviewer feedback on one round of a candidate owned by {@code userId}, and the
+     * round's outcome when {@code feedback.getInterviewStatus()} is given.
+     *
+     * @throws InterviewNotScheduledException if there is no such round for the user
+     */
+    @Transactional
+    public Interview recordFeedback(String userId, Long interviewId, InterviewFeedbackDto feedback) {
+        if (feedback.getRequiredTechnologiesRating() != null
+                && (feedback.getRequiredTechnologiesRating() < 0 || feedback.getRequiredTechnologiesRating() > 5)) {
+            throw new IllegalArgumentException("requiredTechnologiesRating must be between 0 and 5.");
+        }
+        if (feedback.getOverallFeedback() != null && feedback.getOverallFeedback().length() > MAX_OVERALL_FEEDBACK_LENGTH) {
+            throw new IllegalArgumentException("overallFeedback must not exceed " + MAX_OVERALL_FEEDBACK_LENGTH + " characters.");
+        }
+        Interview round = interviewRepository.findById(interviewId)
+                .filter(r -> r.getUserId().equals(userId))
+                .orElseThrow(() -> new InterviewNotScheduledException(
+                        "No interview round " + interviewId + " found for userId: " + userId));
+
+        round.setFeedback(new InterviewFeedback(feedback.getCommunicationSkills(),
+                feedback.getRequiredTechnologiesRating(), feedback.getOverallFeedback()));
+        if (feedback.getInterviewStatus() != null && !feedback.getInterviewStatus().isBlank()
+                && !feedback.getInterviewStatus().equals(round.getStatus())) {
+            changeStatus(round, feedback.getInterviewStatus(), userId);
+        } else {
+            interviewRepository.save(round);
+        }
+        return round;
+    }
+
+    // Every round of the candidate, first round first, each with its status history
+    public List<InterviewRoundDto> getRounds(String candidateId) {
+        List<InterviewRoundDto> rounds = interviewRepository.findRoundsByCandidateId(candidateId);
+        Map<Long, List<InterviewStatusChangeDto>> historyByRound = new HashMap<>();
+        for (InterviewStatusChangeDto change : statusChangeRepository.findHistoryByCandidateId(candidateId)) {
+            historyByRound.computeIfAbsent(change.getInterviewId(), id -> new ArrayList<>()).add(change);
+        }
+        for (InterviewRoundDto round : rounds) {
+            round.setHistory(historyByRound.getOrDefault(round.getInterviewId(), List.of()));
+        }
+        return rounds;
+    }
+
+    // Rounds of a user and/or in the window [from, to), in time order, without history
+    public List<InterviewRoundDto> getRounds(String userId, OffsetDateTime from, OffsetDateTime to) {
+        if (userId == null && (from == null || to == null)) {
+            throw new IllegalArgumentException("Either userId or both 'from' and 'to' are required.");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'.");
+        }
+        return interviewRepository.findRounds(userId, from, to);
+    }
+
+    @Transactional
+    public void deleteRounds(String candidateId) {
+        statusChangeRepository.deleteByCandidateId(candidateId);
+        interviewRepository.deleteByCandidateId(candidateId);
+    }
+
+    public InterviewRoundDto toDto(Interview round) {
+        InterviewFeedback feedback = round.getFeedback() != null ? round.getFeedback() : new InterviewFeedback();
+        return new InterviewRoundDto(round.getId(), round.getCandidateId(), round.getUserId(), round.getJobId(),
+                round.getRoundNumber(), round.getInterviewDateTime(), round.getDuration(), round.getZoomLink(),
+                round.getUserEmail(), round.getClientEmail(), round.getClientName(), round.getInterviewLevel(),
+                round.getStatus(), feedback.getCommunicationSkills(), feedback.getRequiredTechnologiesRating(),
+                feedback.getOverallFeedback(), feedback.getFeedbackAt(), round.getCreatedAt(), round.getUpdatedAt());
+    }
+
+    private void changeStatus(Interview round, String status, String changedBy) {
+        String previousStatus = round.getStatus();
+        round.setStatus(status);
+        interviewRepository.save(round);
+        statusChangeRepository.save(new InterviewStatusChange(round, previousStatus, changedBy));
+    }
+}
@@ -0,0 +1,667 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.configurations.WorkerThreads;
+import com.profile.candidate.dto.ResumeMigrationStatusDto;
+import com.profile.candidate.exceptions.CandidateNotFoundException;
+import com.profile.candidate.model.ResumeBlob;
+import com.profile.candidate.model.ResumeMigrationCheckpoint;
+import com.profile.candidate.repository.ResumeBlobInfo;
+import com.profile.candidate.repository.ResumeBlobRepository;
+import com.profile.candidate.repository.ResumeMigrationCheckpointRepository;
+import com.profile.candidate.storage.ContentHash;
+import com.profile.candidate.storage.JdbcBlobResource;
+import com.profile.candidate.storage.ResumeStorage;
+import com.profile.candidate.storage.ResumeType;
+import com.profile.candidate.storage.StoredResume;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves resumes still held in the old candidates.resume LONGBLOB column into ResumeStorage.
+ *
+ * The table is walked in candidate_id order a small batch at a time, selecting only the key,
+ * so the scan itself never pulls a blob into the buffer pool; each resume is then streamed on
+ * its own. A copy is re-read from storage and its SHA-256 and length compared with what was
+ * read from the column before the resume_blobs row is written and the column set to NULL, in
+ * one transaction. Progress is checkpointed after every batch in resume_migration_checkpoints,
+ * so a restart (of this node or, through the lease, another one) carries on where it stopped.
+ *
+ * Throughput is capped in rows and bytes per second, and the job backs off whenever requests
+ * are waiting for a database connection. The caps, the batch size and pausing are stored on the
+ * checkpoint row, so they can be changed at runtime through any node and the running one picks
+ * them up at its next batch.
+ *
+ * A download does not wait for the run: {@link #migrateNow} moves a single candidate's resume on
+ * its first download, including content written inline into resume_blobs before ResumeStorage
+ * existed, so from then on it is described and revalidated from metadata like any other.
+ */
+@Service
+public class LegacyResumeMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyResumeMigration.class);
+
+    public static final String NAME = "candidates.resume";
+
+    // Only the key: the blob is read per candidate, never as part of the scan
+    private static final String SELECT_BATCH = "SELECT candidate_id FROM candidates "
+            + "WHERE candidate_id > ? AND resume IS NOT NULL ORDER BY candidate_id LIMIT ?";
+    private static final String COUNT_REMAINING = "SELECT COUNT(*) FROM candidates "
+            + "WHERE candidate_id > ? AND resume IS NOT NULL";
+    private static final String SELECT_RESUME = "SELECT SUBSTRING(resume, ?, ?) FROM candidates WHERE candidate_id = ?";
+    private static final String CLEAR_RESUME = "UPDATE candidates SET resume = NULL "
+            + "WHERE candidate_id = ? AND resume IS NOT NULL";
+    // Content written inline into resume_blobs before ResumeStorage existed
+    private static final String SELECT_INLINE_RESUME = "SELECT SUBSTRING(data, ?, ?) FROM resume_blobs WHERE candidate_id = ?";
+    // Only while the data is still inline: a new upload meanwhile rewrote the row without it
+    private static final String SWITCH_INLINE_RESUME = "UPDATE resume_blobs SET content_hash = ?, "
+            + "content_type = COALESCE(?, content_type), content_length = ?, stored_length = ?, content_encoding = ?, "
+            + "data = NULL WHERE candidate_id = ? AND data IS NOT NULL";
+
+    // How long to stand back when live requests are queueing for a database connection
+    private static final long CONTENTION_BACKOFF_MS = 1000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResumeStorage resumeStorage;
+    private final ResumeBlobRepository resumeBlobRepository;
+    private final ResumeMigrationCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final boolean enabled;
+    private final double defaultRowsPerSecond;
+    private final long defaultBytesPerSecond;
+    private final int defaultBatchSize;
+    private final Duration lease;
+
+    // Identifies this node in the lease, e.g. "12345@host-1a2b3c4d"
+    private final String owner;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong remaining = new AtomicLong();
+    private volatile boolean stopping;
+
+    // Observed rates of the run in progress on this node
+    private volatile long runStartedNanos;
+    private final AtomicLong runRows = new AtomicLong();
+    private final AtomicLong runBytes = new AtomicLong();
+
+    // When the lease was last taken or renewed; only touched by the migration thread
+    private long leaseRenewedNanos;
+
+    public LegacyResumeMigration(DataSource dataSource,
+                                 ResumeStorage resumeStorage,
+                                 ResumeBlobRepository resumeBlobRepository,
+                                 ResumeMigrationCheckpointRepository checkpointRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 Environment environment,
+                                 @Value("${resume.migration.enabled:true}") boolean enabled,
+                                 @Value("${resume.migration.rows-per-second:20}") double rowsPerSecond,
+                                 @Value("${resume.migration.bytes-per-second:5242880}") long bytesPerSecond,
+                                 @Value("${resume.migration.batch-size:20}") int batchSize,
+                                 @Value("${resume.migration.lease:PT2M}") Duration lease) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.resumeStorage = resumeStorage;
+        this.resumeBlobRepository = resumeBlobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.defaultRowsPerSecond = rowsPerSecond;
+        this.defaultBytesPerSecond = bytesPerSecond;
+        this.defaultBatchSize = batchSize;
+        this.lease = lease;
+        String node = ManagementFactory.getRuntimeMXBean().getName();
+        this.owner = (node.length() > 40 ? node.substring(0, 40) : node) + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        // One job at a time; it spends most of its time reading blobs and sleeping
+        this.executor = Executors.newSingleThreadExecutor(WorkerThreads.forBlockingTasks("resume-migration-", environment));
+
+        Gauge.builder("resume.migration.remaining", remaining, AtomicLong::get)
+                .description("Candidates still holding a resume in the legacy candidates.resume column")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            ResumeMigrationCheckpoint checkpoint = checkpointRepository.findById(NAME).orElse(null);
+            if (checkpoint != null && (checkpoint.isPaused() || checkpoint.getCompletedAt() != null)) {
+                return;
+            }
+            start();
+        } catch (RuntimeException e) {
+            logger.warn("Could not start the legacy resume migration: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+
+    /**
+     * Status from the checkpoint row, with the observed rate and ETA when the job runs on this node.
+     */
+    public ResumeMigrationStatusDto getStatus() {
+        ResumeMigrationCheckpoint checkpoint = checkpointRepository.findById(NAME)
+                .orElseGet(() -> new ResumeMigrationCheckpoint(NAME));
+        LocalDateTime now = LocalDateTime.now();
+
+        ResumeMigrationStatusDto status = new ResumeMigrationStatusDto();
+        boolean leased = checkpoint.getLeaseOwner() != null && checkpoint.getLeaseUntil() != null
+                && checkpoint.getLeaseUntil().isAfter(now);
+        if (running.get() || leased) {
+            status.setState("RUNNING");
+            status.setRunningOn(running.get() ? owner : checkpoint.getLeaseOwner());
+        } else if (checkpoint.getCompletedAt() != null) {
+            status.setState("COMPLETED");
+        } else if (checkpoint.getStartedAt() == null) {
+            status.setState("NOT_STARTED");
+        } else {
+            status.setState("PAUSED");
+        }
+        status.setLastCandidateId(checkpoint.getLastKey());
+        status.setMigrated(checkpoint.getMigrated());
+        status.setSuperseded(checkpoint.getSuperseded());
+        status.setFailed(checkpoint.getFailed());
+        status.setBytesMigrated(checkpoint.getBytesMigrated());
+        status.setRemaining(checkpoint.getRemaining());
+        status.setMaxRowsPerSecond(rowsPerSecond(checkpoint));
+        status.setMaxBytesPerSecond(bytesPerSecond(checkpoint));
+        status.setBatchSize(batchSize(checkpoint));
+        status.setStartedAt(checkpoint.getStartedAt());
+        status.setUpdatedAt(checkpoint.getUpdatedAt());
+        status.setCompletedAt(checkpoint.getCompletedAt());
+
+        // Zero until the worker has counted what is left
+        if (running.get() && runStartedNanos != 0) {
+            double seconds = (System.nanoTime() - runStartedNanos) / 1e9;
+            if (seconds > 0) {
+                status.setRowsPerSecond(runRows.get() / seconds);
+                status.setBytesPerSecond(runBytes.get() / seconds);
+            }
+            status.setRemaining(remaining.get());
+            if (status.getRowsPerSecond() > 0) {
+                long eta = (long) Math.ceil(remaining.get() / status.getRowsPerSecond());
+                status.setEtaSeconds(eta);
+                status.setEstimatedCompletion(now.plusSeconds(eta));
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Applies throttle changes, pauses or resumes the job, and optionally starts it over from
+     * the first candidate (retrying failed rows). Null arguments leave the setting as it is.
+     *
+     * @throws IllegalArgumentException for non-positive limits
+     * @throws IllegalStateException    for a restart while the job is running
+     */
+    public ResumeMigrationStatusDto update(Boolean run, Double rowsPerSecond, Long bytesPerSecond, Integer batchSize,
+                                           boolean restart) {
+        if ((rowsPerSecond != null && rowsPerSecond <= 0) || (bytesPerSecond != null && bytesPerSecond <= 0)
+                || (batchSize != null && (batchSize <= 0 || batchSize > 1000))) {
+            throw new IllegalArgumentException("rowsPerSecond and bytesPerSecond must be positive and batchSize between 1 and 1000.");
+        }
+        createCheckpoint();
+        transactionTemplate.executeWithoutResult(status -> {
+            ResumeMigrationCheckpoint checkpoint = checkpointRepository.findById(NAME).orElseThrow();
+            if (restart) {
+                boolean leased = checkpoint.getLeaseOwner() != null && checkpoint.getLeaseUntil() != null
+                        && checkpoint.getLeaseUntil().isAfter(LocalDateTime.now());
+                if (running.get() || leased) {
+                    throw new IllegalStateException("Pause the resume migration before restarting it.");
+                }
+                checkpoint.setLastKey(null);
+                checkpoint.setMigrated(0);
+                checkpoint.setSuperseded(0);
+                checkpoint.setFailed(0);
+                checkpoint.setBytesMigrated(0);
+                checkpoint.setRemaining(null);
+                checkpoint.setStartedAt(null);
+                checkpoint.setCompletedAt(null);
+            }
+            if (run != null) {
+                checkpoint.setPaused(!run);
+            }
+            if (rowsPerSecond != null) {
+                checkpoint.setRowsPerSecond(rowsPerSecond);
+            }
+            if (bytesPerSecond != null) {
+                checkpoint.setBytesPerSecond(bytesPerSecond);
+            }
+            if (batchSize != null) {
+                checkpoint.setBatchSize(batchSize);
+            }
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+        });
+        if (Boolean.TRUE.equals(run) || (restart && run == null)) {
+            start();
+        }
+        return getStatus();
+    }
+
+    // Starts the job on this node unless it already runs here; the lease keeps other nodes out
+    private void start() {
+        if (stopping || !running.compareAndSet(false, true)) {
+            return;
+        }
+        runStartedNanos = 0;
+        try {
+            executor.execute(() -> {
+                try {
+                    migrate();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    logger.error("Legacy resume migration stopped: {}", e.getMessage(), e);
+                } finally {
+                    releaseLease();
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void migrate() throws InterruptedException {
+        createCheckpoint();
+        ResumeMigrationCheckpoint checkpoint = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            ResumeMigrationCheckpoint current = checkpointRepository.findById(NAME).orElseThrow();
+            if (current.isPaused() || checkpointRepository.acquireLease(NAME, owner, now, now.plus(lease)) == 0) {
+                return null;
+            }
+            if (current.getStartedAt() == null) {
+                current.setStartedAt(now);
+            }
+            current.setCompletedAt(null);
+            // One count per run, walking the rest of the table by key; the batches count it down
+            current.setRemaining(jdbcTemplate.queryForObject(COUNT_REMAINING, Long.class, keyOf(current.getLastKey())));
+            current.setUpdatedAt(now);
+            return current;
+        });
+        if (checkpoint == null) {
+            return;  // Paused, or running on another node
+        }
+        leaseRenewedNanos = System.nanoTime();
+
+        Progress progress = new Progress(checkpoint);
+        remaining.set(progress.remaining);
+        runRows.set(0);
+        runBytes.set(0);
+        runStartedNanos = System.nanoTime();
+        if (progress.remaining > 0) {
+            logger.info("Legacy resume migration started {}: {} resumes to move", checkpoint.getLastKey() == null
+                    ? "from the first candidate" : "after candidate " + checkpoint.getLastKey(), progress.remaining);
+        }
+
+        double rowsPerSecond = rowsPerSecond(checkpoint);
+        long bytesPerSecond = bytesPerSecond(checkpoint);
+        int batchSize = batchSize(checkpoint);
+        boolean leaseLost = false;
+        while (!stopping) {
+            List<String> batch = jdbcTemplate.queryForList(SELECT_BATCH, String.class, keyOf(progress.lastKey), batchSize);
+            if (batch.isEmpty()) {
+                complete(progress);
+                return;
+            }
+            for (String candidateId : batch) {
+                long rowStarted = System.nanoTime();
+                long bytes = migrateOne(candidateId, progress);
+                progress.lastKey = candidateId;
+                progress.remaining = Math.max(0, progress.remaining - 1);
+                remaining.set(progress.remaining);
+                runRows.incrementAndGet();
+                runBytes.addAndGet(bytes);
+                if (!pace(rowStarted, bytes, rowsPerSecond, bytesPerSecond, progress)) {
+                    leaseLost = true;
+                }
+                if (stopping || leaseLost) {
+                    break;
+                }
+            }
+
+            // Checkpoint, renew the lease and pick up settings changed through the API
+            ResumeMigrationCheckpoint saved = leaseLost ? null : saveProgress(progress);
+            if (saved == null) {
+                logger.warn("Legacy resume migration lost its lease; another node carries on from candidate {}",
+                        progress.lastKey);
+                return;
+            }
+            if (saved.isPaused()) {
+                logger.info("Legacy resume migration paused after candidate {}", progress.lastKey);
+                return;
+            }
+            rowsPerSecond = rowsPerSecond(saved);
+            bytesPerSecond = bytesPerSecond(saved);
+            batchSize = batchSize(saved);
+        }
+        saveProgress(progress);
+    }
+
+    /**
+     * Moves one candidate's legacy resume into ResumeStorage now, with the same verification as the
+     * background run, and returns false if that failed (the original is then left in place).
+     * Returns true as well when there is nothing to move.
+     *
+     * @throws CandidateNotFoundException when the resume row has neither inline data nor stored content
+     */
+    public boolean migrateNow(String candidateId) {
+        Optional<ResumeBlobInfo> info = resumeBlobRepository.findInfoByCandidateId(candidateId);
+        if (info.isPresent()) {
+            return info.get().getContentHash() != null && resumeStorage.exists(info.get().getContentHash())
+                    || moveInlineResume(candidateId);
+        }
+        Progress progress = new Progress();
+        migrateOne(candidateId, progress);
+        return progress.failed == 0;
+    }
+
+    private boolean moveInlineResume(String candidateId) {
+        try {
+            MessageDigest digest = ContentHash.newDigest();
+            JdbcBlobResource column = new JdbcBlobResource(dataSource, SELECT_INLINE_RESUME, candidateId, candidateId, -1);
+            StoredResume stored;
+            ResumeType type;
+            try (ResumeUpload resume = ResumeUpload.open(null,
+                    new DigestInputStream(column.getInputStream(), digest), Long.MAX_VALUE)) {
+                stored = resumeStorage.store(resume, resume.getContentType());
+                type = resume.getType();
+            }
+            if (!ContentHash.hex(digest).equals(stored.getContentHash()) || !matchesStoredCopy(stored)) {
+                logger.error("Stored copy of the inline resume of candidate {} does not match; left in place", candidateId);
+                return false;
+            }
+            jdbcTemplate.update(SWITCH_INLINE_RESUME, stored.getContentHash(), type == null ? null : type.getMediaType(),
+                    stored.getContentLength(), stored.getStoredLength(), stored.getContentEncoding(), candidateId);
+            return true;
+        } catch (FileNotFoundException e) {
+            // Replaced by a new upload meanwhile, unless the row references content that is gone as well
+            boolean replaced = resumeBlobRepository.findInfoByCandidateId(candidateId)
+                    .map(ResumeBlobInfo::getContentHash)
+                    .filter(resumeStorage::exists)
+                    .isPresent();
+            if (!replaced) {
+                logger.error("Resume of candidate {} is neither inline nor in storage", candidateId);
+                throw new CandidateNotFoundException("Resume is missing for candidate ID: " + candidateId);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to move the inline resume of candidate {}: {}", candidateId, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Moves one candidate's resume and returns the number of bytes read from the column.
+     * Failures are counted and logged; the column is left as it was.
+     */
+    private long migrateOne(String candidateId, Progress progress) {
+        try {
+            if (resumeBlobRepository.existsById(candidateId)) {
+                // A newer upload already replaced it; the old copy is simply dropped
+                clearLegacyResume(candidateId);
+                progress.superseded++;
+                return 0;
+            }
+
+            MessageDigest digest = ContentHash.newDigest();
+            JdbcBlobResource column = new JdbcBlobResource(dataSource, SELECT_RESUME, candidateId, candidateId, -1);
+            StoredResume stored;
+            ResumeType type;
+            String contentType;
+            try (ResumeUpload resume = ResumeUpload.open(null,
+                    new DigestInputStream(column.getInputStream(), digest), Long.MAX_VALUE)) {
+                stored = resumeStorage.store(resume, resume.getContentType());
+                type = resume.getType();
+                contentType = resume.getContentType();
+            }
+            String sourceHash = ContentHash.hex(digest);
+
+            if (!sourceHash.equals(stored.getContentHash()) || !matchesStoredCopy(stored)) {
+                logger.error("Stored copy of the resume of candidate {} does not match the column; left in place",
+                        candidateId);
+                progress.failed++;
+                return stored.getContentLength();
+            }
+
+            String fileName = type == null ? "resume" : "resume." + type.getExtension();
+            Boolean switched = transactionTemplate.execute(status -> {
+                // Locks the candidate row; 0 when it was cleared or deleted since the batch was read
+                if (jdbcTemplate.update(CLEAR_RESUME, candidateId) == 0) {
+                    return false;
+                }
+                if (resumeBlobRepository.existsById(candidateId)) {
+                    return false;  // Uploaded meanwhile: the old file is no longer wanted
+                }
+                resumeBlobRepository.save(new ResumeBlob(candidateId, fileName, contentType, stored.getContentHash(),
+                        stored.getContentLength(), stored.getStoredLength(), stored.getContentEncoding()));
+                return true;
+            });
+            if (Boolean.TRUE.equals(switched)) {
+                progress.migrated++;
+                progress.bytesMigrated += stored.getContentLength();
+            } else {
+                progress.superseded++;
+            }
+            return stored.getContentLength();
+        } catch (FileNotFoundException e) {
+            progress.superseded++;  // Cleared or deleted since the batch was read
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to migrate the resume of candidate {}: {}", candidateId, e.getMessage(), e);
+            progress.failed++;
+            return 0;
+        }
+    }
+
+    // Reads the copy back from storage, so a bad write is caught before the original is dropped
+    private boolean matchesStoredCopy(StoredResume stored) throws IOException {
+        MessageDigest digest = ContentHash.newDigest();
+        long length;
+        try (InputStream in = new DigestInputStream(resumeStorage.load(stored.getContentHash()).getInputStream(), digest)) {
+            length = in.transferTo(OutputStream.nullOutputStream());
+        }
+        return length == stored.getContentLength() && ContentHash.hex(digest).equals(stored.getContentHash());
+    }
+
+    private void clearLegacyResume(String candidateId) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(CLEAR_RESUME, candidateId));
+    }
+
+    /**
+     * Sleeps long enough that neither cap is exceeded by the row just moved, and longer while
+     * requests are waiting for a pooled connection. Low caps or a long spell of contention can
+     * add up to more than the lease, so the wait goes in slices and keeps the lease renewed.
+     * Returns false when the lease has gone to another node.
+     */
+    private boolean pace(long rowStartedNanos, long bytes, double rowsPerSecond, long bytesPerSecond,
+                         Progress progress) throws InterruptedException {
+        double seconds = Math.max(1 / rowsPerSecond, (double) bytes / bytesPerSecond);
+        // Capped so the deadline cannot overflow for a vanishingly small cap
+        long wakeAt = rowStartedNanos + (long) Math.min(seconds * 1e9, Long.MAX_VALUE / 2);
+        long sliceMillis = Math.max(1, lease.toMillis() / 4);
+        while (!stopping) {
+            if (!renewLeaseIfDue(progress)) {
+                return false;
+            }
+            long sleepMillis = (wakeAt - System.nanoTime()) / 1_000_000;
+            if (sleepMillis > 0) {
+                Thread.sleep(Math.min(sleepMillis, sliceMillis));
+            } else if (connectionsAwaited()) {
+                Thread.sleep(CONTENTION_BACKOFF_MS);
+            } else {
+                break;
+            }
+        }
+        return true;
+    }
+
+    // Checkpoints once half the lease has passed, which renews it: one short query per half lease
+    // even while backing off, so the lease cannot lapse in the middle of a batch
+    private boolean renewLeaseIfDue(Progress progress) {
+        if (System.nanoTime() - leaseRenewedNanos < lease.toNanos() / 2) {
+            return true;
+        }
+        return saveProgress(progress) != null;
+    }
+
+    private boolean connectionsAwaited() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                return pool != null && pool.getThreadsAwaitingConnection() > 0;
+            }
+        } catch (SQLException e) {
+            // Not a Hikari pool after all; pace on the caps alone
+        }
+        return false;
+    }
+
+    // Returns the saved checkpoint, or null when the lease has gone to another node
+    private ResumeMigrationCheckpoint saveProgress(Progress progress) {
+        ResumeMigrationCheckpoint saved = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (checkpointRepository.acquireLease(NAME, owner, now, now.plus(lease)) == 0) {
+                return null;
+            }
+            ResumeMigrationCheckpoint checkpoint = checkpointRepository.findById(NAME).orElseThrow();
+            progress.writeTo(checkpoint);
+            checkpoint.setUpdatedAt(now);
+            return checkpoint;
+        });
+        if (saved != null) {
+            leaseRenewedNanos = System.nanoTime();
+        }
+        return saved;
+    }
+
+    private void complete(Progress progress) {
+        progress.remaining = 0;
+        remaining.set(0);
+        ResumeMigrationCheckpoint checkpoint = saveProgress(progress);
+        if (checkpoint == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(NAME)
+                .ifPresent(c -> c.setCompletedAt(LocalDateTime.now())));
+        if (progress.migrated + progress.superseded + progress.failed == 0) {
+            return;  // Nothing was ever stored in the old column
+        }
+        // InnoDB keeps the freed blob pages in the tablespace until the table is rebuilt
+        logger.info("Legacy resume migration complete: {} moved ({} bytes), {} superseded, {} failed. "
+                        + "Run OPTIMIZE TABLE candidates in a quiet period to return the freed space.",
+                progress.migrated, progress.bytesMigrated, progress.superseded, progress.failed);
+    }
+
+    private void releaseLease() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.releaseLease(NAME, owner));
+        } catch (RuntimeException e) {
+            logger.warn("Could not release the resume migration lease; it expires on its own: {}", e.getMessage());
+        }
+    }
+
+    // In its own transaction, so losing the insert race to another node does not spoil the caller's
+    private void createCheckpoint() {
+        if (checkpointRepository.existsById(NAME)) {
+            return;
+        }
+        try {
+            checkpointRepository.saveAndFlush(new ResumeMigrationCheckpoint(NAME));
+        } catch (DataIntegrityViolationException e) {
+            // Created by another node at the same moment
+        }
+    }
+
+    // Every candidate_id sorts after the empty string
+    private static String keyOf(String lastKey) {
+        return lastKey == null ? "" : lastKey;
+    }
+
+    private double rowsPerSecond(ResumeMigrationCheckpoint checkpoint) {
+        return checkpoint.getRowsPerSecond() != null ? checkpoint.getRowsPerSecond() : defaultRowsPerSecond;
+    }
+
+    private long bytesPerSecond(ResumeMigrationCheckpoint checkpoint) {
+        return checkpoint.getBytesPerSecond() != null ? checkpoint.getBytesPerSecond() : defaultBytesPerSecond;
+    }
+
+    private int batchSize(ResumeMigrationCheckpoint checkpoint) {
+        return checkpoint.getBatchSize() != null ? checkpoint.getBatchSize() : defaultBatchSize;
+    }
+
+    // Totals of the run, written to the checkpoint after each batch
+    private static final class Progress {
+
+        String lastKey;
+        long migrated;
+        long superseded;
+        long failed;
+        long bytesMigrated;
+        long remaining;
+
+        // Totals of a single migrateNow, which are not recorded
+        Progress() {
+        }
+
+        Progress(ResumeMigrationCheckpoint checkpoint) {
+            this.lastKey = checkpoint.getLastKey();
+            this.migrated = checkpoint.getMigrated();
+            this.superseded = checkpoint.getSuperseded();
+            this.failed = checkpoint.getFailed();
+            this.bytesMigrated = checkpoint.getBytesMigrated();
+            this.remaining = checkpoint.getRemaining() == null ? 0 : checkpoint.getRemaining();
+        }
+
+        void writeTo(ResumeMigrationCheckpoint checkpoint) {
+            checkpoint.setLastKey(lastKey);
+            checkpoint.setMigrated(migrated);
+            checkpoint.setSuperseded(superseded);
+            checkpoint.setFailed(failed);
+            checkpoint.setBytesMigrated(bytesMigrated);
+            checkpoint.setRemaining(remaining);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.profile.candidate.service;
+
+import java.util.Locale;
+
+/**
+ * Line-oriented formats accepted by the bulk import and produced by the exports.
+ */
+public enum RecordFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+
+    RecordFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // An uploaded file, by extension, falling back to the part's content type
+    public static RecordFormat ofFile(String fileName, String contentType) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")
+                || type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Records must be a .csv or .ndjson/.jsonl file");
+    }
+
+    // A format request parameter: "csv" or "ndjson"
+    public static RecordFormat ofName(String name) {
+        for (RecordFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + name + " (use csv or ndjson)");
+    }
+}
@@ -0,0 +1,47 @@
+package com.profile.candidate.service;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * A resume ready to be streamed to the client, along with the headers the
+ * download endpoint needs (content type, ETag source, attachment name and
+ * Content-Encoding).
+ */
+public class ResumeDownload {
+
+    private final Resource resource;
+    private final String contentType;
+    private final String contentHash;
+    private final String fileName;
+    private final String contentEncoding;
+
+    public ResumeDownload(Resource resource, String contentType, String contentHash, String fileName,
+                          String contentEncoding) {
+        this.resource = resource;
+        this.contentType = contentType;
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.contentEncoding = contentEncoding;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    // "gzip" when the resource holds the compressed bytes as stored, null when it yields the file itself
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+}
@@ -0,0 +1,124 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.exceptions.InvalidFileTypeException;
+import com.profile.candidate.storage.ResumeType;
+import com.profile.candidate.storage.ResumeTypeDetector;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+/**
+ * A resume upload read in a single pass. The leading bytes are sniffed up front and pushed
+ * back, so the type is known before anything is written, and the same stream then goes to
+ * ResumeStorage, which hashes while it copies. Memory per upload is the sniff buffer plus the
+ * storage copy buffer whatever the file size, and an upload that crosses the size limit fails
+ * at that point instead of after it has been read in full.
+ */
+public final class ResumeUpload extends FilterInputStream {
+
+    // Largest resume accepted from a request body or an import archive
+    public static final long MAX_SIZE = 10 * 1024 * 1024;
+
+    private final String fileName;
+    private final ResumeType type;
+    private final long maxSize;
+    private long bytesRead;
+
+    private ResumeUpload(InputStream in, String fileName, ResumeType type, long maxSize) {
+        super(in);
+        this.fileName = fileName;
+        this.type = type;
+        this.maxSize = maxSize;
+    }
+
+    public static ResumeUpload open(String fileName, InputStream content, long maxSize) throws IOException {
+        // The sniffed bytes are pushed back, so storage still receives the file from its first byte
+        byte[] leadingBytes = new byte[ResumeTypeDetector.SNIFF_LENGTH];
+        PushbackInputStream in = new PushbackInputStream(content, leadingBytes.length);
+        int length;
+        try {
+            length = in.readNBytes(leadingBytes, 0, leadingBytes.length);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        in.unread(leadingBytes, 0, length);
+        return new ResumeUpload(in, fileName, ResumeTypeDetector.detect(leadingBytes, length), maxSize);
+    }
+
+    // Multipart files are already size-checked by the controller; this only avoids a second open
+    public static ResumeUpload of(MultipartFile file) throws IOException {
+        return open(file.getOriginalFilename(), file.getInputStream(), Long.MAX_VALUE);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    // Type detected from the content, or null when it is not a PDF, DOC or DOCX file
+    public ResumeType getType() {
+        return type;
+    }
+
+    // Media type to record for the file; only meaningful once the content has been accepted
+    public String getContentType() {
+        return type == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : type.getMediaType();
+    }
+
+    /**
+     * Rejects content that is not a resume, or whose format differs from what the file name
+     * claims (a .docx that is really a spreadsheet, a renamed .exe, ...).
+     */
+    public void requireResume() {
+        if (type == null) {
+            throw new InvalidFileTypeException("Invalid file content. Only PDF, DOC and DOCX files are allowed.");
+        }
+        ResumeType claimed = ResumeType.fromFileName(fileName);
+        if (claimed != type) {
+            throw new InvalidFileTypeException("File content is " + type.name() + " but the file name is "
+                    + (claimed == null ? "not .pdf, .doc or .docx" : "." + claimed.getExtension()) + ".");
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) {
+        bytesRead += n;
+        if (bytesRead > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+    }
+}
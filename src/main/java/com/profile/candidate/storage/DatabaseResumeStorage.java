@@ -0,0 +1,138 @@
+package com.profile.candidate.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps resume bytes in the resume_contents table, one row per distinct SHA-256.
+ * The upload is spooled to a temp file while hashing (the key is only known at
+ * the end of the stream), compressed if that pays off, and then bound as a
+ * stream, never as a byte array.
+ *
+ * last_used_at records when content was last stored or reused, which is what
+ * {@link #findIdle} and {@link #deleteIfIdle} go by.
+ */
+@Component
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "database")
+public class DatabaseResumeStorage implements ResumeStorage {
+
+    private static final String SELECT_DATA = "SELECT SUBSTRING(data, ?, ?) FROM resume_contents WHERE content_hash = ?";
+    // Rows from before last_used_at existed count as used when they were created
+    private static final String IDLE = "COALESCE(last_used_at, created_at) < ?";
+    private static final Path TEMP_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"));
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResumeCodec codec;
+
+    public DatabaseResumeStorage(DataSource dataSource, ResumeCodec codec) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.codec = codec;
+    }
+
+    @Override
+    public StoredResume store(InputStream content, String contentType) throws IOException {
+        ResumeCodec.Spooled spooled = codec.spool(content, TEMP_DIRECTORY, contentType);
+        try {
+            String contentHash = spooled.getContentHash();
+            // Touching the row first means a concurrent sweep either sees it as in use or has
+            // already deleted it, in which case nothing is updated and the content is inserted again
+            if (jdbcTemplate.update("UPDATE resume_contents SET last_used_at = ? WHERE content_hash = ?",
+                    Timestamp.valueOf(LocalDateTime.now()), contentHash) > 0) {
+                Optional<StoredResume> existing = describe(contentHash);
+                if (existing.isPresent()) {
+                    return existing.get();
+                }
+            }
+            try (InputStream data = Files.newInputStream(spooled.getFile())) {
+                jdbcTemplate.update(
+                        "INSERT INTO resume_contents (content_hash, content_length, stored_length, content_encoding, data,"
+                                + " created_at, last_used_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        ps -> {
+                            ps.setString(1, contentHash);
+                            ps.setLong(2, spooled.getContentLength());
+                            ps.setLong(3, spooled.getStoredLength());
+                            ps.setString(4, spooled.getContentEncoding());
+                            ps.setBinaryStream(5, data, spooled.getStoredLength());
+                            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                            ps.setTimestamp(6, now);
+                            ps.setTimestamp(7, now);
+                        });
+            } catch (DuplicateKeyException e) {
+                // A concurrent upload of the same file won the race; its row is identical
+                return new StoredResume(contentHash, spooled.getContentLength(), spooled.getStoredLength(),
+                        spooled.getContentEncoding(), true);
+            }
+            return new StoredResume(contentHash, spooled.getContentLength(), spooled.getStoredLength(),
+                    spooled.getContentEncoding(), false);
+        } finally {
+            Files.deleteIfExists(spooled.getFile());
+        }
+    }
+
+    @Override
+    public Resource load(String contentHash) throws IOException {
+        StoredResume stored = describe(contentHash)
+                .orElseThrow(() -> new FileNotFoundException("No resume content stored for hash: " + contentHash));
+        return ResumeCodec.decoded(
+                new JdbcBlobResource(dataSource, SELECT_DATA, contentHash, contentHash, stored.getStoredLength()),
+                stored.getContentEncoding(), stored.getContentLength());
+    }
+
+    @Override
+    public Resource loadEncoded(String contentHash) throws IOException {
+        StoredResume stored = describe(contentHash)
+                .orElseThrow(() -> new FileNotFoundException("No resume content stored for hash: " + contentHash));
+        return new JdbcBlobResource(dataSource, SELECT_DATA, contentHash, contentHash, stored.getStoredLength());
+    }
+
+    // Rows written before compression existed have no stored_length and no encoding
+    private Optional<StoredResume> describe(String contentHash) {
+        return jdbcTemplate.query(
+                "SELECT content_length, COALESCE(stored_length, content_length), content_encoding"
+                        + " FROM resume_contents WHERE content_hash = ?",
+                (rs, rowNum) -> new StoredResume(contentHash, rs.getLong(1), rs.getLong(2), rs.getString(3), true),
+                contentHash).stream().findFirst();
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM resume_contents WHERE content_hash = ?", Integer.class, contentHash);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<String> findIdle(Instant usedBefore, String afterHash, int limit) {
+        Timestamp cutoff = Timestamp.from(usedBefore);
+        return afterHash == null
+                ? jdbcTemplate.queryForList("SELECT content_hash FROM resume_contents WHERE " + IDLE
+                        + " ORDER BY content_hash LIMIT ?", String.class, cutoff, limit)
+                : jdbcTemplate.queryForList("SELECT content_hash FROM resume_contents WHERE content_hash > ? AND "
+                        + IDLE + " ORDER BY content_hash LIMIT ?", String.class, afterHash, cutoff, limit);
+    }
+
+    @Override
+    public boolean deleteIfIdle(String contentHash, Instant usedBefore) {
+        // The row lock orders this against the touch in store(): whichever commits first wins
+        return jdbcTemplate.update("DELETE FROM resume_contents WHERE content_hash = ? AND " + IDLE,
+                contentHash, Timestamp.from(usedBefore)) > 0;
+    }
+}
@@ -0,0 +1,147 @@
+package com.profile.candidate.storage;
+
+import org.springframework.core.io.AbstractResource;
+
+import javax.sql.DataSource;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Resource over a single BLOB column value, read a chunk at a time with
+ * {@code SUBSTRING(column, position, length)}. Only the requested slice crosses the
+ * wire, a connection is borrowed per chunk rather than for as long as the client
+ * takes to download, and skipping (which is how Spring serves a byte range) just
+ * moves the position, so a range never reads the bytes before it.
+ */
+public class JdbcBlobResource extends AbstractResource {
+
+    // Bytes per query: few round trips for a resume, little heap per open stream
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    private final DataSource dataSource;
+    private final String selectSql;
+    private final String key;
+    private final String fileName;
+    private final long contentLength;
+
+    /**
+     * @param selectSql     query selecting {@code SUBSTRING(column, ?, ?)} of exactly one row, with the
+     *                      1-based position, the length and then {@code key} as its parameters
+     * @param contentLength size of the value, or -1 when unknown (the stream then ends at the first short chunk)
+     */
+    public JdbcBlobResource(DataSource dataSource, String selectSql, String key, String fileName, long contentLength) {
+        this.dataSource = dataSource;
+        this.selectSql = selectSql;
+        this.key = key;
+        this.fileName = fileName;
+        this.contentLength = contentLength;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ChunkedBlobInputStream();
+    }
+
+    @Override
+    public long contentLength() {
+        // Known up front; avoids AbstractResource reading the whole stream to count it
+        return contentLength;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getDescription() {
+        return "JDBC blob [" + key + "]";
+    }
+
+    // Null when the column is NULL or the row is gone
+    private byte[] readChunk(long offset, int length) throws IOException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(selectSql)) {
+            statement.setLong(1, offset + 1);
+            statement.setInt(2, length);
+            statement.setString(3, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getBytes(1) : null;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to read resume content for key: " + key, e);
+        }
+    }
+
+    private class ChunkedBlobInputStream extends InputStream {
+
+        // Offset of the next byte to hand out, and the chunk holding it (null until needed)
+        private long position;
+        private byte[] chunk;
+        private long chunkStart;
+        private boolean exhausted;
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return chunk[(int) (position++ - chunkStart)] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = (int) Math.min(length, chunkStart + chunk.length - position);
+            System.arraycopy(chunk, (int) (position - chunkStart), buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, contentLength < 0 ? n : Math.min(n, contentLength - position));
+            position += skipped;
+            return skipped;
+        }
+
+        // Makes sure the chunk holds position; false at the end of the value
+        private boolean fill() throws IOException {
+            if (chunk != null && position < chunkStart + chunk.length) {
+                return true;
+            }
+            if (exhausted || (contentLength >= 0 && position >= contentLength)) {
+                return false;
+            }
+            byte[] next = readChunk(position, CHUNK_SIZE);
+            if (next == null) {
+                if (position == 0) {
+                    throw new FileNotFoundException("No resume content stored for key: " + key);
+                }
+                throw new IOException("Resume content for key " + key + " was removed while being read");
+            }
+            exhausted = next.length < CHUNK_SIZE;
+            if (next.length == 0) {
+                return false;
+            }
+            chunk = next;
+            chunkStart = position;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.profile.candidate.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Stores resumes as files named by their SHA-256 under a two-level fan-out
+ * directory ({@code ab/cd/abcd...}, or {@code abcd....gz} when compressed). Uploads
+ * are first streamed to a temp file inside the root while hashing, then atomically
+ * moved into place, so readers never see a partial file and a duplicate upload is
+ * just a discarded temp file.
+ *
+ * A file's modification time records when it was last stored or reused, which is
+ * what {@link #findIdle} and {@link #deleteIfIdle} go by.
+ */
+@Component
+@ConditionalOnProperty(name = "resume.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileSystemResumeStorage implements ResumeStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalFileSystemResumeStorage.class);
+
+    private final Path root;
+    private final Path tempDirectory;
+    private final ResumeCodec codec;
+
+    public LocalFileSystemResumeStorage(@Value("${resume.storage.local.directory:resumes}") String directory,
+                                        ResumeCodec codec) throws IOException {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.tempDirectory = root.resolve("tmp");
+        this.codec = codec;
+        Files.createDirectories(tempDirectory);
+        logger.info("Storing resumes under {}", root);
+    }
+
+    @Override
+    public StoredResume store(InputStream content, String contentType) throws IOException {
+        ResumeCodec.Spooled spooled = codec.spool(content, tempDirectory, contentType);
+        try {
+            String contentHash = spooled.getContentHash();
+            StoredResume existing = describe(contentHash, spooled.getContentLength());
+            if (existing != null) {
+                return existing;
+            }
+            Path target = targetFor(spooled.getContentEncoding(), contentHash);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(spooled.getFile(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // A concurrent upload of the same file won the race; its copy is identical
+                return new StoredResume(contentHash, spooled.getContentLength(), spooled.getStoredLength(),
+                        spooled.getContentEncoding(), true);
+            }
+            return new StoredResume(contentHash, spooled.getContentLength(), spooled.getStoredLength(),
+                    spooled.getContentEncoding(), false);
+        } finally {
+            Files.deleteIfExists(spooled.getFile());
+        }
+    }
+
+    // The already stored copy of some content, in whichever form it was kept, or null. The copy is
+    // touched so the sweeper sees it as in use; if the sweeper removed it first, the touch fails
+    // and the caller stores its own copy instead.
+    private StoredResume describe(String contentHash, long contentLength) throws IOException {
+        Path compressed = compressedPathFor(contentHash);
+        if (touch(compressed)) {
+            return new StoredResume(contentHash, contentLength, Files.size(compressed), ResumeCodec.GZIP, true);
+        }
+        if (touch(pathFor(contentHash))) {
+            return new StoredResume(contentHash, contentLength, contentLength, null, true);
+        }
+        return null;
+    }
+
+    private static boolean touch(Path path) throws IOException {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Resource load(String contentHash) throws IOException {
+        Path compressed = compressedPathFor(contentHash);
+        if (Files.exists(compressed)) {
+            return ResumeCodec.decoded(new FileSystemResource(compressed), ResumeCodec.GZIP,
+                    ResumeCodec.gzipContentLength(compressed));
+        }
+        return loadEncoded(contentHash);
+    }
+
+    @Override
+    public Resource loadEncoded(String contentHash) throws IOException {
+        for (Path path : new Path[]{compressedPathFor(contentHash), pathFor(contentHash)}) {
+            if (Files.exists(path)) {
+                return new FileSystemResource(path);
+            }
+        }
+        throw new FileNotFoundException("No resume content stored for hash: " + contentHash);
+    }
+
+    @Override
+    public boolean exists(String contentHash) {
+        return ContentHash.isValid(contentHash)
+                && (Files.exists(compressedPathFor(contentHash)) || Files.exists(pathFor(contentHash)));
+    }
+
+    @Override
+    public List<String> findIdle(Instant usedBefore, String afterHash, int limit) throws IOException {
+        List<String> idle = new ArrayList<>();
+        // Walk the fan-out directories in name order, which is hash order; tmp and anything
+        // else that is not a two-character fan-out directory is skipped
+        for (Path first : sortedChildren(root)) {
+            String firstName = first.getFileName().toString();
+            if (firstName.length() != 2 || !Files.isDirectory(first)
+                    || (afterHash != null && firstName.compareTo(afterHash.substring(0, 2)) < 0)) {
+                continue;
+            }
+            for (Path second : sortedChildren(first)) {
+                for (Path file : sortedChildren(second)) {
+                    String contentHash = file.getFileName().toString();
+                    if (contentHash.endsWith(".gz")) {
+                        contentHash = contentHash.substring(0, contentHash.length() - 3);
+                    }
+                    if (!ContentHash.isValid(contentHash)
+                            || (afterHash != null && contentHash.compareTo(afterHash) <= 0)
+                            || (!idle.isEmpty() && idle.get(idle.size() - 1).equals(contentHash))) {
+                        continue;
+                    }
+                    try {
+                        if (Files.getLastModifiedTime(file).toInstant().isBefore(usedBefore)) {
+                            idle.add(contentHash);
+                            if (idle.size() >= limit) {
+                                return idle;
+                            }
+                        }
+                    } catch (NoSuchFileException e) {
+                        // Removed while walking
+                    }
+                }
+            }
+        }
+        return idle;
+    }
+
+    private static List<Path> sortedChildren(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.sorted().toList();
+        }
+    }
+
+    @Override
+    public boolean deleteIfIdle(String contentHash, Instant usedBefore) throws IOException {
+        boolean deleted = false;
+        for (Path path : new Path[]{compressedPathFor(contentHash), pathFor(contentHash)}) {
+            deleted |= deleteIfIdle(path, usedBefore);
+        }
+        return deleted;
+    }
+
+    // The file is first renamed out of the way, so a store that touches it from then on fails and
+    // writes its own copy. A touch that landed before the rename shows in the modification time,
+    // which the rename keeps, and the file is put back.
+    private boolean deleteIfIdle(Path path, Instant usedBefore) throws IOException {
+        Path tombstone = tempDirectory.resolve(path.getFileName() + ".deleting-" + UUID.randomUUID());
+        try {
+            Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!Files.getLastModifiedTime(tombstone).toInstant().isBefore(usedBefore)) {
+            try {
+                // A store that failed its touch meanwhile may have put an identical copy back already
+                Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(tombstone);
+            }
+            return false;
+        }
+        Files.delete(tombstone);
+        return true;
+    }
+
+    private Path targetFor(String contentEncoding, String contentHash) {
+        return ResumeCodec.GZIP.equals(contentEncoding) ? compressedPathFor(contentHash) : pathFor(contentHash);
+    }
+
+    // Compressed content sits next to where the uncompressed file would be, with a .gz suffix
+    private Path compressedPathFor(String contentHash) {
+        Path path = pathFor(contentHash);
+        return path.resolveSibling(path.getFileName() + ".gz");
+    }
+
+    private Path pathFor(String contentHash) {
+        if (!ContentHash.isValid(contentHash)) {
+            throw new IllegalArgumentException("Invalid resume content hash: " + contentHash);
+        }
+        return root.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+}
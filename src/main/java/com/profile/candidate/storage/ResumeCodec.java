@@ -0,0 +1,193 @@
+package com.profile.candidate.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression at rest for the resume stores. An upload is gzip-compressed while it is hashed
+ * and spooled, and the compressed copy is kept only if it is at most {@code max-ratio} of the
+ * original size; otherwise it is inflated back and stored as is. gzip rather than a denser
+ * codec so that clients accepting gzip can be sent the stored bytes untouched.
+ *
+ * .docx files are ZIP archives, already deflated, so they are not tried.
+ */
+@Component
+public class ResumeCodec {
+
+    // Content-Encoding of compressed content; null means stored as uploaded
+    public static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final boolean enabled;
+    private final double maxRatio;
+    private final int level;
+
+    public ResumeCodec(@Value("${resume.storage.compression.enabled:true}") boolean enabled,
+                       @Value("${resume.storage.compression.max-ratio:0.9}") double maxRatio,
+                       @Value("${resume.storage.compression.level:6}") int level) {
+        this.enabled = enabled;
+        this.maxRatio = maxRatio;
+        this.level = level;
+    }
+
+    /**
+     * Reads {@code content} to the end into a new temp file in {@code directory}, hashing the
+     * original bytes. The caller moves or deletes {@link Spooled#getFile()}.
+     */
+    public Spooled spool(InputStream content, Path directory, String contentType) throws IOException {
+        MessageDigest digest = ContentHash.newDigest();
+        Path file = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            if (!enabled || ResumeType.fromMediaType(contentType) == ResumeType.DOCX) {
+                long length;
+                try (InputStream in = new DigestInputStream(content, digest);
+                     OutputStream out = Files.newOutputStream(file)) {
+                    length = in.transferTo(out);
+                }
+                return new Spooled(file, ContentHash.hex(digest), length, length, null);
+            }
+
+            long length;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = newGzipOutputStream(Files.newOutputStream(file))) {
+                length = in.transferTo(out);
+            }
+            String contentHash = ContentHash.hex(digest);
+            long storedLength = Files.size(file);
+            if (storedLength <= length * maxRatio) {
+                return new Spooled(file, contentHash, length, storedLength, GZIP);
+            }
+
+            // Did not pay off (most PDFs are compressed inside already): keep the original bytes
+            Path raw = Files.createTempFile(directory, "upload-", ".tmp");
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE);
+                 OutputStream out = Files.newOutputStream(raw)) {
+                in.transferTo(out);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(raw);
+                throw e;
+            }
+            Files.delete(file);
+            return new Spooled(raw, contentHash, length, length, null);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private GZIPOutputStream newGzipOutputStream(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * The original content of a stored resource, inflated as it is read. Each
+     * {@link Resource#getInputStream()} call re-opens and re-inflates the stored bytes.
+     */
+    public static Resource decoded(Resource stored, String contentEncoding, long contentLength) {
+        if (!GZIP.equals(contentEncoding)) {
+            return stored;
+        }
+        return new AbstractResource() {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                InputStream in = stored.getInputStream();
+                try {
+                    return new GZIPInputStream(in, BUFFER_SIZE);
+                } catch (IOException | RuntimeException e) {
+                    in.close();
+                    throw e;
+                }
+            }
+
+            @Override
+            public long contentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public boolean exists() {
+                return stored.exists();
+            }
+
+            @Override
+            public String getFilename() {
+                return stored.getFilename();
+            }
+
+            @Override
+            public String getDescription() {
+                return "gzip-decoded " + stored.getDescription();
+            }
+        };
+    }
+
+    // Original size of a gzip file from its trailer (ISIZE, the length modulo 2^32; resumes are far smaller)
+    static long gzipContentLength(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer trailer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(trailer, channel.size() - 4);
+            return trailer.getInt(0) & 0xFFFFFFFFL;
+        }
+    }
+
+    /**
+     * An upload written to a temp file, compressed or not, with its content address.
+     */
+    public static final class Spooled {
+
+        private final Path file;
+        private final String contentHash;
+        private final long contentLength;
+        private final long storedLength;
+        private final String contentEncoding;
+
+        Spooled(Path file, String contentHash, long contentLength, long storedLength, String contentEncoding) {
+            this.file = file;
+            this.contentHash = contentHash;
+            this.contentLength = contentLength;
+            this.storedLength = storedLength;
+            this.contentEncoding = contentEncoding;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        public long getStoredLength() {
+            return storedLength;
+        }
+
+        public String getContentEncoding() {
+            return contentEncoding;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.profile.candidate.storage;
+
+import com.profile.candidate.repository.ResumeBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes stored resume content that no resume_blobs row points at any more: the old file
+ * after a resume is replaced, the file of a deleted candidate, uploads whose insert failed
+ * or rolled back, and migrated copies that were never switched to.
+ *
+ * Content is only removed once it has gone unused for the grace period. An upload stores
+ * (or reuses) the content before the row referencing it commits, so a hash that looks
+ * unreferenced may be about to gain a reference; the grace period covers that window, and
+ * {@link ResumeStorage#deleteIfIdle} makes a store that reuses the content mid-sweep win.
+ * Nothing is deleted inside a request's transaction, so a rollback can never leave a
+ * resume pointing at deleted content.
+ *
+ * Runs on every node; two nodes sweeping at once just find less to do.
+ */
+@Component
+public class ResumeContentSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeContentSweeper.class);
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ResumeStorage resumeStorage;
+    private final ResumeBlobRepository resumeBlobRepository;
+    private final Duration grace;
+
+    public ResumeContentSweeper(ResumeStorage resumeStorage, ResumeBlobRepository resumeBlobRepository,
+                                @Value("${resume.storage.sweep.grace:PT1H}") Duration grace) {
+        this.resumeStorage = resumeStorage;
+        this.resumeBlobRepository = resumeBlobRepository;
+        this.grace = grace;
+    }
+
+    @Scheduled(fixedDelayString = "${resume.storage.sweep.interval-ms:3600000}",
+            initialDelayString = "${resume.storage.sweep.initial-delay-ms:300000}")
+    public void sweep() {
+        try {
+            int deleted = sweep(Instant.now().minus(grace));
+            if (deleted > 0) {
+                logger.info("Removed {} unreferenced stored resumes", deleted);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Sweeping unreferenced stored resumes failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes content unused since {@code usedBefore} that no resume references and returns how
+     * many were deleted.
+     */
+    public int sweep(Instant usedBefore) throws IOException {
+        int deleted = 0;
+        String after = null;
+        List<String> idle;
+        do {
+            idle = resumeStorage.findIdle(usedBefore, after, PAGE_SIZE);
+            if (idle.isEmpty()) {
+                break;
+            }
+            Set<String> referenced = new HashSet<>(resumeBlobRepository.findReferencedContentHashes(idle));
+            for (String contentHash : idle) {
+                if (!referenced.contains(contentHash) && resumeStorage.deleteIfIdle(contentHash, usedBefore)) {
+                    deleted++;
+                }
+            }
+            after = idle.get(idle.size() - 1);
+        } while (idle.size() == PAGE_SIZE);
+        return deleted;
+    }
+}
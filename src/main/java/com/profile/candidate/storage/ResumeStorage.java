@@ -0,0 +1,51 @@
+package com.profile.candidate.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Content-addressed store for resume files. Content is keyed by the hex SHA-256
+ * of its bytes, so the same file uploaded for several jobs is kept only once and
+ * the database only has to remember the hash. Content may be kept gzip-compressed at rest.
+ */
+public interface ResumeStorage {
+
+    /**
+     * Reads the stream to the end, storing the content unless identical content is already present,
+     * in which case that copy is marked as just used so the sweeper leaves it alone.
+     * {@code contentType} decides whether compression is worth trying (see {@link ResumeCodec}).
+     */
+    StoredResume store(InputStream content, String contentType) throws IOException;
+
+    /**
+     * Returns a re-readable resource for previously stored content, decompressed as it is read.
+     */
+    Resource load(String contentHash) throws IOException;
+
+    /**
+     * Returns the content as stored: gzip data when it was stored compressed, for sending to
+     * clients that accept gzip without inflating it here.
+     */
+    Resource loadEncoded(String contentHash) throws IOException;
+
+    boolean exists(String contentHash);
+
+    /**
+     * Up to {@code limit} stored hashes after {@code afterHash} (null to start), in hash order,
+     * whose content has been neither stored nor reused by {@link #store} since {@code usedBefore}.
+     */
+    List<String> findIdle(Instant usedBefore, String afterHash, int limit) throws IOException;
+
+    /**
+     * Removes content unless it was stored or reused since {@code usedBefore}. The check and the
+     * removal are atomic with respect to {@link #store}: a store that reuses the content either
+     * keeps it or writes it again. Returns whether anything was removed.
+     *
+     * Only {@link ResumeContentSweeper} should call this, after checking that no resume references the hash.
+     */
+    boolean deleteIfIdle(String contentHash, Instant usedBefore) throws IOException;
+}
@@ -0,0 +1,58 @@
+package com.profile.candidate.storage;
+
+import java.util.Locale;
+
+/**
+ * The resume formats accepted on upload. The media type is what resume_blobs records and what
+ * downloads are served as; the extension is what the uploaded file name has to end with.
+ */
+public enum ResumeType {
+
+    PDF("application/pdf", "pdf"),
+    DOC("application/msword", "doc"),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx");
+
+    private final String mediaType;
+    private final String extension;
+
+    ResumeType(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // Type claimed by a file name's extension, or null if it is not a resume extension
+    public static ResumeType fromFileName(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        int index = fileName.lastIndexOf('.');
+        if (index <= 0) {
+            return null;
+        }
+        String extension = fileName.substring(index + 1).toLowerCase(Locale.ROOT);
+        for (ResumeType type : values()) {
+            if (type.extension.equals(extension)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    // Type for a recorded media type, or null for anything else (e.g. application/octet-stream)
+    public static ResumeType fromMediaType(String mediaType) {
+        for (ResumeType type : values()) {
+            if (type.mediaType.equals(mediaType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.profile.candidate.storage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Identifies a resume's format from its leading bytes, without trusting the file name.
+ *
+ * - PDF: "%PDF-" within the first 1 KB (readers accept a little junk before the header)
+ * - DOC: the OLE2 compound document signature
+ * - DOCX: a ZIP whose entries include word/..., or an OOXML package ([Content_Types].xml)
+ *   that is not a spreadsheet or presentation. Entries are read from the local file headers
+ *   in the window; when those are inconclusive and the whole archive fits in the window, its
+ *   central directory settles it.
+ *
+ * Works on a caller-owned buffer and allocates nothing, so it can run on every upload.
+ */
+public final class ResumeTypeDetector {
+
+    // Bytes of the upload to look at; enough for the first few entries of a .docx
+    public static final int SNIFF_LENGTH = 8 * 1024;
+
+    private static final int PDF_HEADER_WINDOW = 1024;
+    private static final byte[] PDF_SIGNATURE = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] OLE2_SIGNATURE = {
+            (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int LOCAL_HEADER_LENGTH = 30;
+    private static final byte[] LOCAL_HEADER_BYTES = {'P', 'K', 3, 4};
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int DATA_DESCRIPTOR_FLAG = 0x08;
+
+    private static final byte[] CONTENT_TYPES = "[Content_Types].xml".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WORD_PREFIX = "word/".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SPREADSHEET_PREFIX = "xl/".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PRESENTATION_PREFIX = "ppt/".getBytes(StandardCharsets.US_ASCII);
+
+    // What the entry names seen so far say about a ZIP
+    private static final int UNDECIDED = 0;
+    private static final int OOXML = 1;
+    private static final int WORD = 2;
+    private static final int NOT_WORD = 3;
+
+    private ResumeTypeDetector() {
+    }
+
+    /**
+     * Detects the format of {@code data[0, length)}, normally the first {@link #SNIFF_LENGTH}
+     * bytes of a file. Returns null when the content is none of the accepted formats.
+     */
+    public static ResumeType detect(byte[] data, int length) {
+        length = Math.min(length, data.length);
+        if (startsWith(data, length, 0, OLE2_SIGNATURE)) {
+            return ResumeType.DOC;
+        }
+        if (startsWith(data, length, 0, LOCAL_HEADER_BYTES)) {
+            return isWordPackage(data, length) ? ResumeType.DOCX : null;
+        }
+        if (indexOf(data, Math.min(length, PDF_HEADER_WINDOW), PDF_SIGNATURE, 0) >= 0) {
+            return ResumeType.PDF;
+        }
+        return null;
+    }
+
+    private static boolean isWordPackage(byte[] data, int length) {
+        // Word or spreadsheet entries usually show up in the first few local headers
+        int verdict = readLocalHeaders(data, length);
+        if (verdict == UNDECIDED || verdict == OOXML) {
+            // The central directory is authoritative, but only readable if the archive ends in the window
+            int central = readCentralDirectory(data, length);
+            if (central != UNDECIDED) {
+                verdict = central;
+            }
+        }
+        return verdict == WORD || verdict == OOXML;
+    }
+
+    private static int readLocalHeaders(byte[] data, int length) {
+        int verdict = UNDECIDED;
+        int offset = 0;
+        while (offset >= 0 && offset + LOCAL_HEADER_LENGTH <= length && readInt(data, offset) == LOCAL_HEADER) {
+            int flags = readShort(data, offset + 6);
+            long compressedSize = readInt(data, offset + 18) & 0xFFFFFFFFL;
+            int nameLength = readShort(data, offset + 26);
+            int extraLength = readShort(data, offset + 28);
+            int name = offset + LOCAL_HEADER_LENGTH;
+            if (name + nameLength > length) {
+                break;
+            }
+            verdict = classify(data, name, nameLength, verdict);
+            if (verdict == WORD || verdict == NOT_WORD) {
+                return verdict;
+            }
+            long next = (long) name + nameLength + extraLength + compressedSize;
+            if ((flags & DATA_DESCRIPTOR_FLAG) != 0 || compressedSize == 0xFFFFFFFFL || next > length) {
+                // Size unknown here (streamed or ZIP64 entry) or past the window: look for the next header
+                offset = indexOf(data, length, LOCAL_HEADER_BYTES, name + nameLength);
+            } else {
+                offset = (int) next;
+            }
+        }
+        return verdict;
+    }
+
+    private static int readCentralDirectory(byte[] data, int length) {
+        // The end record is the last 22 bytes unless the archive has a comment
+        int end = -1;
+        int lowest = Math.max(0, length - END_OF_CENTRAL_DIRECTORY_LENGTH - 0xFFFF);
+        for (int i = length - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= lowest; i--) {
+            if (data[i] == 'P' && readInt(data, i) == END_OF_CENTRAL_DIRECTORY) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            return UNDECIDED;
+        }
+        int entries = readShort(data, end + 10);
+        long offset = readInt(data, end + 16) & 0xFFFFFFFFL;
+        int verdict = UNDECIDED;
+        for (int i = 0; i < entries && offset + CENTRAL_HEADER_LENGTH <= end; i++) {
+            int header = (int) offset;
+            if (readInt(data, header) != CENTRAL_HEADER) {
+                return UNDECIDED;
+            }
+            int nameLength = readShort(data, header + 28);
+            int extraLength = readShort(data, header + 30);
+            int commentLength = readShort(data, header + 32);
+            int name = header + CENTRAL_HEADER_LENGTH;
+            if (name + nameLength > end) {
+                return UNDECIDED;
+            }
+            verdict = classify(data, name, nameLength, verdict);
+            if (verdict == WORD || verdict == NOT_WORD) {
+                return verdict;
+            }
+            offset = (long) name + nameLength + extraLength + commentLength;
+        }
+        return verdict;
+    }
+
+    private static int classify(byte[] data, int name, int nameLength, int verdict) {
+        if (startsWith(data, name + nameLength, name, WORD_PREFIX)) {
+            return WORD;
+        }
+        if (startsWith(data, name + nameLength, name, SPREADSHEET_PREFIX)
+                || startsWith(data, name + nameLength, name, PRESENTATION_PREFIX)) {
+            return NOT_WORD;
+        }
+        if (nameLength == CONTENT_TYPES.length && startsWith(data, name + nameLength, name, CONTENT_TYPES)) {
+            return OOXML;
+        }
+        return verdict;
+    }
+
+    private static boolean startsWith(byte[] data, int length, int offset, byte[] prefix) {
+        if (offset < 0 || offset + prefix.length > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] data, int length, byte[] pattern, int from) {
+        for (int i = Math.max(0, from); i + pattern.length <= length; i++) {
+            if (startsWith(data, length, i, pattern)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ZIP fields are little-endian
+    private static int readShort(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        if (offset < 0 || offset + 4 > data.length) {
+            return 0;
+        }
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8
+                | (data[offset + 2] & 0xFF) << 16 | (data[offset + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,47 @@
+package com.profile.candidate.storage;
+
+/**
+ * Result of {@link ResumeStorage#store}: the content address and size of what was written,
+ * and how it is encoded at rest.
+ */
+public class StoredResume {
+
+    private final String contentHash;
+    private final long contentLength;
+    private final long storedLength;
+    private final String contentEncoding;
+    private final boolean deduplicated;
+
+    public StoredResume(String contentHash, long contentLength, long storedLength, String contentEncoding,
+                        boolean deduplicated) {
+        this.contentHash = contentHash;
+        this.contentLength = contentLength;
+        this.storedLength = storedLength;
+        this.contentEncoding = contentEncoding;
+        this.deduplicated = deduplicated;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    // Size of the original file
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    // Size at rest, after compression
+    public long getStoredLength() {
+        return storedLength;
+    }
+
+    // ResumeCodec.GZIP when stored compressed, null when stored as uploaded
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    // True when identical content was already stored and nothing new was written
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+}
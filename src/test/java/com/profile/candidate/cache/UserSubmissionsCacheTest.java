@@ -0,0 +1,104 @@
+package com.profile.candidate.cache;
+
+import com.profile.candidate.dto.CandidateGetResponseDto;
+import com.profile.candidate.repository.CandidateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSubmissionsCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 3);
+
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private UserSubmissionsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserSubmissionsCache(candidateRepository, new InMemoryCacheInvalidationChannel(),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+        when(candidateRepository.findSubmissionsByUserId("U1")).thenReturn(List.of(
+                row("C2", "U1", "Second", TODAY.minusDays(1)),
+                row("C1", "U1", "First", TODAY.minusDays(2))));
+        cache.getSubmissions("U1");
+    }
+
+    @Test
+    void changedRowIsSplicedInOrder() {
+        when(candidateRepository.findSubmissionById("C1")).thenReturn(Optional.of(row("C1", "U1", "First", TODAY)));
+        when(candidateRepository.findSubmissionById("C3")).thenReturn(Optional.of(row("C3", "U1", "Third", null)));
+
+        cache.applyChange("C1 U1");
+        cache.applyChange("C3 U1");
+
+        assertEquals(List.of("C1", "C2", "C3"), ids(cache.getSubmissions("U1")));
+        verify(candidateRepository, times(1)).findSubmissionsByUserId("U1");
+    }
+
+    @Test
+    void rowMovedToAnotherUserIsDropped() {
+        when(candidateRepository.findSubmissionById("C2")).thenReturn(Optional.of(row("C2", "U2", "Second", TODAY)));
+
+        cache.applyChange("C2 U1");
+
+        assertEquals(List.of("C1"), ids(cache.getSubmissions("U1")));
+    }
+
+    @Test
+    void readOvertakenByANewerChangeIsRepeated() {
+        // The first read is slow: a second change of C1 reads and splices the newer row meanwhile.
+        // Run under the entry's lock, that nested patch of the same entry would fail as a recursive update.
+        int[] reads = new int[1];
+        when(candidateRepository.findSubmissionById("C1")).thenAnswer(call -> {
+            if (reads[0]++ > 0) {
+                return Optional.of(row("C1", "U1", "Newest", TODAY.minusDays(2)));
+            }
+            cache.applyChange("C1 U1");
+            return Optional.of(row("C1", "U1", "Stale", TODAY.minusDays(2)));
+        });
+
+        cache.applyChange("C1 U1");
+
+        assertEquals(List.of("Second", "Newest"), names(cache.getSubmissions("U1")));
+        verify(candidateRepository, times(3)).findSubmissionById("C1");
+    }
+
+    @Test
+    void busyCandidateDropsTheListInsteadOfPatching() {
+        // Every read is overtaken by a change to a candidate sharing the stripe
+        when(candidateRepository.findSubmissionById("C1")).thenAnswer(call -> {
+            cache.applyChange("C1 nobody");
+            return Optional.of(row("C1", "U1", "Stale", TODAY));
+        });
+
+        cache.applyChange("C1 U1");
+
+        assertEquals(List.of("Second", "First"), names(cache.getSubmissions("U1")));
+        verify(candidateRepository, times(3)).findSubmissionById("C1");
+        verify(candidateRepository, times(2)).findSubmissionsByUserId("U1");
+    }
+
+    private static CandidateGetResponseDto row(String candidateId, String userId, String fullName, LocalDate received) {
+        return new CandidateGetResponseDto(candidateId, "J1", userId, fullName, null, null, null, null, 0, 0,
+                null, null, null, null, null, null, null, null, null, null, null, received, 0);
+    }
+
+    private static List<String> ids(List<CandidateGetResponseDto> rows) {
+        return rows.stream().map(CandidateGetResponseDto::getCandidateId).toList();
+    }
+
+    private static List<String> names(List<CandidateGetResponseDto> rows) {
+        return rows.stream().map(CandidateGetResponseDto::getFullName).toList();
+    }
+}
@@ -0,0 +1,142 @@
+package com.profile.candidate.matching;
+
+import com.profile.candidate.search.SkillAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateFeatureTableTest {
+
+    private static final String[] SKILLS = {"java", "spring", "kafka", "python", "sql", "aws", "react", "docker"};
+    private static final String[] NOTICE = {"Immediate", "15 days", "1 month", "2 months", "3 months", null};
+    private static final String[] CTC = {"8 LPA", "12 LPA", "18L", "2500000", "negotiable"};
+    private static final String[] LOCATIONS = {"Pune", "Hyderabad / Pune", "Anywhere", "Chennai", null};
+
+    private final CandidateFeatureTable table = new CandidateFeatureTable(SkillAnalyzer.fromClasspath());
+    private final ExecutorService pool = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void parallelScanMatchesTheSingleThreadedOne() {
+        Random random = new Random(7);
+        for (int i = 0; i < 5_000; i++) {
+            table.put(randomRow(random, "C" + i));
+        }
+        // Freed slots in the middle of the table, partly reused
+        for (int i = 0; i < 5_000; i += 7) {
+            table.remove("C" + i);
+        }
+        for (int i = 0; i < 300; i++) {
+            table.put(randomRow(random, "N" + i));
+        }
+
+        MatchCriteria criteria = criteria(List.of("java", "spring"), List.of("kafka", "docker"));
+        criteria.setMinSkillMatch(0.5f);
+        criteria.setMaxNoticeDays(60);
+        criteria.setLocation("Pune");
+
+        MatchResult sequential = table.match(criteria, 50, null, 1, 1);
+        for (int parallelism : new int[]{2, 3, 4, 7}) {
+            MatchResult parallel = table.match(criteria, 50, pool, parallelism, 100);
+
+            assertEquals(sequential.getTotal(), parallel.getTotal());
+            assertEquals(describe(sequential), describe(parallel));
+        }
+        assertEquals(50, sequential.getHits().size());
+        assertTrue(sequential.getTotal() > 50);
+    }
+
+    @Test
+    void hardConstraintsFilter() {
+        table.put(row("A", "J1", "Java, Spring, Kafka", 6, "30 days", "15 LPA", "Pune"));
+        table.put(row("B", "J1", "Java", 3, "Immediate", "10 LPA", "Chennai"));
+        table.put(row("C", "J1", "Python", 8, "3 months", "25 LPA", "Pune"));
+        table.put(row("D", "J2", "Java, Spring", 10, null, null, "Anywhere"));
+
+        MatchCriteria criteria = criteria(List.of("java", "spring"), List.of());
+        assertEquals(List.of("D", "A", "B"), ids(table.match(criteria, 10, null, 1, 1)));
+
+        criteria.setMinSkillMatch(1f);
+        assertEquals(List.of("D", "A"), ids(table.match(criteria, 10, null, 1, 1)));
+
+        criteria.setJobId("J1");
+        assertEquals(List.of("A"), ids(table.match(criteria, 10, null, 1, 1)));
+
+        criteria.setJobId(null);
+        criteria.setMinSkillMatch(0f);
+        criteria.setMinExperience(5f);
+        criteria.setMaxNoticeDays(30);
+        criteria.setMaxExpectedCtcLakhs(12f);
+        // A's CTC is over the cap; D's unknown notice and CTC pass
+        assertEquals(List.of("D"), ids(table.match(criteria, 10, null, 1, 1)));
+    }
+
+    @Test
+    void unknownJobOrUnreachableSkillShareMatchesNothing() {
+        table.put(row("A", "J1", "Java", 5, "15 days", "12 LPA", "Pune"));
+
+        MatchCriteria criteria = criteria(List.of("java"), List.of());
+        criteria.setJobId("J9");
+        assertEquals(0, table.match(criteria, 10, null, 1, 1).getTotal());
+
+        criteria.setJobId(null);
+        criteria.setMinSkillMatch(1.5f);
+        assertEquals(0, table.match(criteria, 10, null, 1, 1).getTotal());
+    }
+
+    @Test
+    void hitsCarryTheParsedFeatures() {
+        table.put(row("A", "J1", "Java, Spring Boot, Docker", 6, "2 months", "18L", "Pune"));
+
+        MatchResult.Hit hit = table.match(criteria(List.of("java"), List.of("springboot")), 10, null, 1, 1)
+                .getHits().get(0);
+
+        assertEquals(List.of("java", "springboot"), hit.getMatchedSkills().stream().sorted().toList());
+        assertEquals(60, hit.getNoticeDays());
+        assertEquals(18f, hit.getExpectedCtcLakhs());
+        assertTrue(hit.getScore() > 0 && hit.getScore() <= 1);
+    }
+
+    private static MatchFeatureRow randomRow(Random random, String candidateId) {
+        StringBuilder skills = new StringBuilder();
+        for (String skill : SKILLS) {
+            if (random.nextInt(3) == 0) {
+                skills.append(skill).append(", ");
+            }
+        }
+        return row(candidateId, "J" + random.nextInt(3), skills.toString(), random.nextInt(12),
+                NOTICE[random.nextInt(NOTICE.length)], CTC[random.nextInt(CTC.length)],
+                LOCATIONS[random.nextInt(LOCATIONS.length)]);
+    }
+
+    private static MatchFeatureRow row(String candidateId, String jobId, String skills, float experience,
+                                       String notice, String ctc, String location) {
+        return new MatchFeatureRow(candidateId, jobId, skills, experience, experience, notice, ctc, location);
+    }
+
+    private static MatchCriteria criteria(List<String> required, List<String> preferred) {
+        MatchCriteria criteria = new MatchCriteria();
+        criteria.setRequiredSkills(required);
+        criteria.setPreferredSkills(preferred);
+        return criteria;
+    }
+
+    private static List<String> ids(MatchResult result) {
+        return result.getHits().stream().map(MatchResult.Hit::getCandidateId).toList();
+    }
+
+    private static List<String> describe(MatchResult result) {
+        return result.getHits().stream().map(hit -> hit.getCandidateId() + "=" + hit.getScore()).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.profile.candidate.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeatureParsersTest {
+
+    @Test
+    void noticeDaysUnderstandsUnits() {
+        assertEquals(0, FeatureParsers.noticeDays("Immediate"));
+        assertEquals(0, FeatureParsers.noticeDays("immediate joiner"));
+        assertEquals(15, FeatureParsers.noticeDays("15 days"));
+        assertEquals(30, FeatureParsers.noticeDays("30"));
+        assertEquals(60, FeatureParsers.noticeDays("2 Months"));
+        assertEquals(45, FeatureParsers.noticeDays("1.5 months"));
+        assertEquals(7, FeatureParsers.noticeDays("1 week"));
+        assertEquals(14, FeatureParsers.noticeDays("2weeks"));
+    }
+
+    @Test
+    void noticeDaysIsUnknownWithoutANumber() {
+        assertEquals(FeatureParsers.UNKNOWN_NOTICE, FeatureParsers.noticeDays(null));
+        assertEquals(FeatureParsers.UNKNOWN_NOTICE, FeatureParsers.noticeDays("  "));
+        assertEquals(FeatureParsers.UNKNOWN_NOTICE, FeatureParsers.noticeDays("Serving notice"));
+    }
+
+    @Test
+    void ctcLakhsUnderstandsUnits() {
+        assertEquals(12f, FeatureParsers.ctcLakhs("12 LPA"));
+        assertEquals(12.5f, FeatureParsers.ctcLakhs("12.5L"));
+        assertEquals(120f, FeatureParsers.ctcLakhs("1.2 Cr"), 0.001f);
+        assertEquals(9f, FeatureParsers.ctcLakhs("900k"));
+        assertEquals(12f, FeatureParsers.ctcLakhs("1200000"));
+        assertEquals(12f, FeatureParsers.ctcLakhs("12,00,000"));
+    }
+
+    @Test
+    void ctcLakhsTakesSmallBareNumbersAsLakhs() {
+        assertEquals(18f, FeatureParsers.ctcLakhs("18"));
+        assertEquals(999f, FeatureParsers.ctcLakhs("999"));
+    }
+
+    @Test
+    void ctcLakhsIsUnknownWithoutANumber() {
+        assertTrue(Float.isNaN(FeatureParsers.ctcLakhs(null)));
+        assertTrue(Float.isNaN(FeatureParsers.ctcLakhs("")));
+        assertTrue(Float.isNaN(FeatureParsers.ctcLakhs("Negotiable")));
+    }
+
+    @Test
+    void locationsSplitAndNormalise() {
+        assertEquals(List.of("hyderabad", "bangalore", "pune"), FeatureParsers.locations("Hyderabad / Bangalore, Pune"));
+        assertEquals(List.of("chennai", "pune"), FeatureParsers.locations("Chennai or Pune and chennai"));
+        assertEquals(List.of(FeatureParsers.ANY_LOCATION), FeatureParsers.locations("Anywhere"));
+        assertEquals(List.of("delhi", FeatureParsers.ANY_LOCATION), FeatureParsers.locations("Delhi; Pan India"));
+        assertEquals(List.of(), FeatureParsers.locations(null));
+    }
+}
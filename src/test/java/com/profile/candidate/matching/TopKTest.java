@@ -0,0 +1,90 @@
+package com.profile.candidate.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKTest {
+
+    @Test
+    void keepsTheBestBestFirst() {
+        TopK top = new TopK(3);
+        top.offer(0, 0.2f);
+        top.offer(1, 0.9f);
+        top.offer(2, 0.5f);
+        top.offer(3, 0.1f);
+        top.offer(4, 0.7f);
+
+        assertEquals(3, top.size());
+        assertArrayEquals(new int[]{1, 4, 2}, top.sortedSlots());
+        assertEquals(0.7f, top.scoreOf(4));
+        assertTrue(Float.isNaN(top.scoreOf(3)));
+    }
+
+    @Test
+    void equalScoresPreferTheLowerSlotWhateverTheOrder() {
+        TopK forward = new TopK(2);
+        TopK backward = new TopK(2);
+        for (int slot = 0; slot < 5; slot++) {
+            forward.offer(slot, 0.5f);
+            backward.offer(4 - slot, 0.5f);
+        }
+
+        assertArrayEquals(new int[]{0, 1}, forward.sortedSlots());
+        assertArrayEquals(new int[]{0, 1}, backward.sortedSlots());
+    }
+
+    @Test
+    void fewerOffersThanCapacityKeepsThemAll() {
+        TopK top = new TopK(10);
+        top.offer(7, 0.1f);
+        top.offer(3, 0.3f);
+
+        assertArrayEquals(new int[]{3, 7}, top.sortedSlots());
+    }
+
+    @Test
+    void zeroCapacityKeepsNothing() {
+        TopK top = new TopK(0);
+        top.offer(1, 1f);
+
+        assertEquals(0, top.size());
+        assertEquals(0, top.sortedSlots().length);
+    }
+
+    @Test
+    void matchesAFullSortAndMergesPartialHeaps() {
+        Random random = new Random(42);
+        int n = 10_000;
+        int k = 25;
+        float[] scores = new float[n];
+        for (int i = 0; i < n; i++) {
+            scores[i] = random.nextInt(200) / 200f;  // Coarse, so there are plenty of ties
+        }
+        int[] expected = IntStream.range(0, n).boxed()
+                .sorted(Comparator.<Integer>comparingDouble(slot -> -scores[slot]).thenComparing(slot -> slot))
+                .limit(k).mapToInt(Integer::intValue).toArray();
+
+        TopK single = new TopK(k);
+        for (int slot = 0; slot < n; slot++) {
+            single.offer(slot, scores[slot]);
+        }
+        TopK merged = new TopK(k);
+        for (int part = 3; part >= 0; part--) {
+            TopK partial = new TopK(k);
+            for (int slot = part * n / 4; slot < (part + 1) * n / 4; slot++) {
+                partial.offer(slot, scores[slot]);
+            }
+            merged.addAll(partial);
+        }
+
+        assertArrayEquals(expected, single.sortedSlots());
+        assertArrayEquals(expected, merged.sortedSlots());
+    }
+}
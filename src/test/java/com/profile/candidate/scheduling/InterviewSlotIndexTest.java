@@ -0,0 +1,133 @@
+package com.profile.candidate.scheduling;
+
+import com.profile.candidate.cache.InMemoryCacheInvalidationChannel;
+import com.profile.candidate.dto.InterviewSlotAvailabilityDto;
+import com.profile.candidate.dto.InterviewSlotDto;
+import com.profile.candidate.exceptions.InterviewSlotConflictException;
+import com.profile.candidate.repository.CandidateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InterviewSlotIndexTest {
+
+    private static final OffsetDateTime NINE = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1)
+            .withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final InMemoryCacheInvalidationChannel channel = new InMemoryCacheInvalidationChannel();
+    private InterviewSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(candidateRepository.findInterviewSlotsFrom(any())).thenReturn(List.of(
+                new InterviewSlotRow("A", "Rec@x.com", "client@y.com", NINE, 60),
+                new InterviewSlotRow("B", "other@x.com", "client@y.com", NINE.plusHours(2), 30)));
+        index = new InterviewSlotIndex(candidateRepository, channel, 60, 15, 14, Duration.ofDays(1));
+        index.loadOnStartup();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void clashesWithTheRecruiterOrTheClient() {
+        InterviewSlotAvailabilityDto recruiter = index.check("rec@x.com", null, NINE.plusMinutes(30), 60, null, 3);
+        InterviewSlotAvailabilityDto client = index.check(null, "CLIENT@y.com", NINE.plusMinutes(130), 30, null, 3);
+
+        assertFalse(recruiter.isAvailable());
+        assertEquals(List.of("A:recruiter"), describe(recruiter.getConflicts()));
+        assertFalse(client.isAvailable());
+        assertEquals(List.of("B:client"), describe(client.getConflicts()));
+        assertTrue(index.check("rec@x.com", "client@y.com", NINE.plusHours(1), 60, null, 3).isAvailable());
+    }
+
+    @Test
+    void suggestsTheNextFreeStartsOnTheStepGrid() {
+        InterviewSlotAvailabilityDto availability = index.check("rec@x.com", "client@y.com", NINE, 60, null, 3);
+
+        // 9:00-10:00 is A, 11:00-11:30 is B for the same client
+        assertEquals(List.of(NINE.plusHours(1), NINE.plusMinutes(150), NINE.plusMinutes(210)),
+                availability.getSuggestions());
+    }
+
+    @Test
+    void reschedulingDoesNotClashWithItsOwnSlot() {
+        index.reserve("A", "rec@x.com", "client@y.com", NINE.plusMinutes(15), 60, 3);
+
+        assertTrue(index.check("rec@x.com", null, NINE, 15, null, 3).isAvailable());
+        assertFalse(index.check("rec@x.com", null, NINE.plusMinutes(15), 15, null, 3).isAvailable());
+    }
+
+    @Test
+    void conflictingReservationIsRejectedWithSuggestions() {
+        InterviewSlotConflictException e = assertThrows(InterviewSlotConflictException.class,
+                () -> index.reserve("C", "rec@x.com", null, NINE.plusMinutes(45), 30, 2));
+
+        assertEquals(List.of("A:recruiter"), describe(e.getAvailability().getConflicts()));
+        assertEquals(List.of(NINE.plusHours(1), NINE.plusMinutes(90)), e.getAvailability().getSuggestions());
+    }
+
+    @Test
+    void rollbackRestoresTheSlotTheDatabaseHolds() {
+        when(candidateRepository.findInterviewSlotById("A"))
+                .thenReturn(Optional.of(new InterviewSlotRow("A", "rec@x.com", "client@y.com", NINE, 60)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.reserve("A", "rec@x.com", "client@y.com", NINE.plusHours(4), 60, 3);
+        assertTrue(index.check("rec@x.com", null, NINE, 60, null, 0).isAvailable());
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertFalse(index.check("rec@x.com", null, NINE, 60, null, 0).isAvailable());
+        assertTrue(index.check("rec@x.com", null, NINE.plusHours(4), 60, null, 0).isAvailable());
+    }
+
+    @Test
+    void commitKeepsTheReservation() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.reserve("C", "rec@x.com", null, NINE.plusHours(4), 60, 3);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertFalse(index.check("rec@x.com", null, NINE.plusHours(4), 60, null, 0).isAvailable());
+    }
+
+    @Test
+    void invalidationRereadsTheCandidate() {
+        when(candidateRepository.findInterviewSlotById("B")).thenReturn(Optional.empty());
+
+        channel.publish(InterviewSlotIndex.CHANNEL_NAME, "B");
+
+        assertTrue(index.check(null, "client@y.com", NINE.plusHours(2), 30, null, 0).isAvailable());
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static List<String> describe(List<InterviewSlotDto> slots) {
+        return slots.stream().map(slot -> slot.getCandidateId() + ":" + slot.getResource()).toList();
+    }
+}
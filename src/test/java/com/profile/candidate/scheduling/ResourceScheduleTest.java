@@ -0,0 +1,73 @@
+package com.profile.candidate.scheduling;
+
+import com.profile.candidate.scheduling.ResourceSchedule.Slot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceScheduleTest {
+
+    private final ResourceSchedule schedule = new ResourceSchedule();
+
+    @Test
+    void findsEveryOverlapAndNothingThatOnlyTouches() {
+        schedule.add(new Slot("A", 0, 60));
+        schedule.add(new Slot("B", 60, 120));
+        schedule.add(new Slot("C", 90, 150));
+        schedule.add(new Slot("D", 150, 210));
+
+        assertEquals(List.of("B", "C"), overlapping(60, 120, null));
+        assertEquals(List.of("A"), overlapping(30, 60, null));
+        assertEquals(List.of(), overlapping(210, 270, null));
+        assertEquals(List.of("A", "B", "C", "D"), overlapping(-10, 500, null));
+    }
+
+    @Test
+    void findsAnEarlierLongInterviewSpanningTheRange() {
+        schedule.add(new Slot("Long", 0, 480));
+        schedule.add(new Slot("Short", 400, 430));
+
+        assertEquals(List.of("Long"), overlapping(300, 330, null));
+        assertEquals(List.of("Long", "Short"), overlapping(420, 450, null));
+    }
+
+    @Test
+    void skipsTheExcludedCandidate() {
+        schedule.add(new Slot("A", 0, 60));
+        schedule.add(new Slot("B", 30, 90));
+
+        assertEquals(List.of("B"), overlapping(0, 60, "A"));
+    }
+
+    @Test
+    void equalStartsOfDifferentCandidatesAreKeptApart() {
+        schedule.add(new Slot("A", 0, 60));
+        schedule.add(new Slot("B", 0, 60));
+
+        assertEquals(List.of("A", "B"), overlapping(0, 60, null));
+        schedule.remove(new Slot("A", 0, 60));
+        assertEquals(List.of("B"), overlapping(0, 60, null));
+    }
+
+    @Test
+    void removalKeepsTheBoundAndLeavesNoStaleOverlaps() {
+        schedule.add(new Slot("Long", 0, 480));
+        schedule.add(new Slot("Short", 400, 430));
+        schedule.remove(new Slot("Long", 0, 480));
+
+        assertEquals(List.of(), overlapping(300, 330, null));
+        assertEquals(List.of("Short"), overlapping(420, 450, null));
+        schedule.remove(new Slot("Short", 400, 430));
+        assertTrue(schedule.isEmpty());
+    }
+
+    private List<String> overlapping(long start, long end, String excludedCandidateId) {
+        List<Slot> out = new ArrayList<>();
+        schedule.overlapping(start, end, excludedCandidateId, out);
+        return out.stream().map(Slot::candidateId).toList();
+    }
+}
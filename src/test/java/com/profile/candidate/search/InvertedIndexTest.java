@@ -0,0 +1,150 @@
+package com.profile.candidate.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    private final SkillAnalyzer analyzer = new SkillAnalyzer(Map.of());
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put("C1", weights("java spring kafka"));
+        index.put("C2", weights("java python"));
+        index.put("C3", weights("kafka jms"));
+        index.put("C4", weights("python django"));
+    }
+
+    @Test
+    void mustClausesIntersect() {
+        assertEquals(List.of("C1"), ids(search("+java +kafka", false)));
+        assertEquals(List.of("C1"), ids(search("java kafka", true)));
+    }
+
+    @Test
+    void shouldClausesUnionWhenNothingIsRequired() {
+        assertEquals(List.of("C1", "C2", "C3"), sortedIds(search("java kafka", false)));
+    }
+
+    @Test
+    void shouldClausesOnlyRankOnceSomethingIsRequired() {
+        SkillSearchResult result = search("+java kafka", false);
+
+        assertEquals(List.of("C1", "C2"), ids(result));
+        assertTrue(result.getHits().get(0).getScore() > result.getHits().get(1).getScore());
+    }
+
+    @Test
+    void mustNotSubtracts() {
+        assertEquals(List.of("C1"), ids(search("java -python", false)));
+        assertEquals(List.of("C3"), ids(search("kafka AND NOT java", false)));
+    }
+
+    @Test
+    void onlyExclusionsMatchEverythingElseWithZeroScore() {
+        SkillSearchResult result = search("-python", false);
+
+        assertEquals(List.of("C1", "C3"), ids(result));
+        result.getHits().forEach(hit -> assertEquals(0f, hit.getScore()));
+    }
+
+    @Test
+    void groupsCombineWithTheirParent() {
+        assertEquals(List.of("C1", "C2"), sortedIds(search("java AND (spring OR python)", false)));
+        assertEquals(List.of("C1", "C3"), sortedIds(search("kafka AND (jms OR spring) -python", false)));
+        assertEquals(List.of("C3"), ids(search("kafka -(java OR python)", false)));
+    }
+
+    @Test
+    void unknownTermsMatchNothing() {
+        assertEquals(0, search("+java +cobol", false).getTotal());
+        assertEquals(0, search("cobol", false).getTotal());
+    }
+
+    @Test
+    void rarerTermsScoreHigher() {
+        // "kafka" is in two documents, "spring" in one
+        index = new InvertedIndex();
+        index.put("A", weights("kafka x"));
+        index.put("B", weights("spring x"));
+        index.put("C", weights("kafka y"));
+
+        assertEquals(List.of("B", "A", "C"), ids(search("kafka spring", false)));
+    }
+
+    @Test
+    void higherTermFrequencyScoresHigherAndLongerDocumentsLower() {
+        index = new InvertedIndex();
+        index.put("Once", weights("java a"));
+        index.put("Twice", weights("java java a"));
+        index.put("Long", weights("java a b c d e f"));
+        index.put("Other", weights("python"));
+
+        assertEquals(List.of("Twice", "Once", "Long"), ids(search("java", false)));
+    }
+
+    @Test
+    void equalScoresAreOrderedByCandidateId() {
+        index = new InvertedIndex();
+        index.put("C9", weights("java"));
+        index.put("C2", weights("java"));
+        index.put("C5", weights("java"));
+
+        assertEquals(List.of("C2", "C5", "C9"), ids(search("java", false)));
+    }
+
+    @Test
+    void limitKeepsTheBestHitsAndTheFullTotal() {
+        index = new InvertedIndex();
+        for (int i = 0; i < 50; i++) {
+            // More occurrences of "java" the higher the number
+            index.put(String.format("C%02d", i), weights("java ".repeat(i + 1) + "x"));
+        }
+
+        SkillSearchResult result = index.search(SkillQuery.parse("java", false, analyzer), 3);
+
+        assertEquals(50, result.getTotal());
+        assertEquals(List.of("C49", "C48", "C47"), ids(result));
+    }
+
+    @Test
+    void replacingAndRemovingDropTheOldTerms() {
+        index.put("C1", weights("golang"));
+        index.remove("C2");
+        index.put("C5", weights("java"));
+
+        assertEquals(List.of("C5"), ids(search("java", false)));
+        assertEquals(List.of("C1"), ids(search("golang", false)));
+        assertEquals(List.of("C4"), ids(search("python", false)));
+        assertEquals(4, index.size());
+    }
+
+    private SkillSearchResult search(String text, boolean matchAll) {
+        return index.search(SkillQuery.parse(text, matchAll, analyzer), 10);
+    }
+
+    private Map<String, Float> weights(String text) {
+        Map<String, Float> weights = new HashMap<>();
+        for (String term : analyzer.analyze(text)) {
+            weights.merge(term, 1f, Float::sum);
+        }
+        return weights;
+    }
+
+    private static List<String> ids(SkillSearchResult result) {
+        return result.getHits().stream().map(SkillSearchResult.Hit::getCandidateId).toList();
+    }
+
+    private static List<String> sortedIds(SkillSearchResult result) {
+        return ids(result).stream().sorted().toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.profile.candidate.search;
+
+import com.profile.candidate.search.SkillQuery.Clause;
+import com.profile.candidate.search.SkillQuery.Occur;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillQueryTest {
+
+    private final SkillAnalyzer analyzer = new SkillAnalyzer(Map.of(
+            "nodejs", List.of("node", "node.js"),
+            "springboot", List.of("spring boot")));
+
+    @Test
+    void unmarkedClausesAreOptionalWhenRankedAndRequiredWhenBoolean() {
+        assertClauses(SkillQuery.parse("java kafka", false, analyzer), "SHOULD java", "SHOULD kafka");
+        assertClauses(SkillQuery.parse("java kafka", true, analyzer), "MUST java", "MUST kafka");
+    }
+
+    @Test
+    void plusMinusAndNotOverrideTheDefault() {
+        assertClauses(SkillQuery.parse("+java -python NOT php", false, analyzer),
+                "MUST java", "MUST_NOT python", "MUST_NOT php");
+        assertClauses(SkillQuery.parse("-python", true, analyzer), "MUST_NOT python");
+    }
+
+    @Test
+    void andMakesBothOperandsRequiredAndOrBothOptional() {
+        assertClauses(SkillQuery.parse("java AND kafka", false, analyzer), "MUST java", "MUST kafka");
+        assertClauses(SkillQuery.parse("java OR kafka", true, analyzer), "SHOULD java", "SHOULD kafka");
+        assertClauses(SkillQuery.parse("java && kafka || jms", false, analyzer),
+                "MUST java", "MUST kafka", "SHOULD jms");
+    }
+
+    @Test
+    void andWinsOverOrOnASharedOperand() {
+        assertClauses(SkillQuery.parse("java OR kafka AND jms", false, analyzer),
+                "SHOULD java", "MUST kafka", "MUST jms");
+    }
+
+    @Test
+    void parenthesesGroup() {
+        SkillQuery query = SkillQuery.parse("java AND (kafka OR jms)", false, analyzer);
+
+        assertEquals(2, query.getClauses().size());
+        assertEquals("MUST java", describe(query.getClauses().get(0)));
+        Clause group = query.getClauses().get(1);
+        assertEquals(Occur.MUST, group.getOccur());
+        assertNull(group.getTerm());
+        assertClauses(group.getGroup(), "SHOULD kafka", "SHOULD jms");
+    }
+
+    @Test
+    void emptyGroupsAndUnbalancedParenthesesAreIgnored() {
+        assertClauses(SkillQuery.parse("java () ) kafka", false, analyzer), "SHOULD java", "SHOULD kafka");
+        assertClauses(SkillQuery.parse("(java kafka", true, analyzer).getClauses().get(0).getGroup(),
+                "MUST java", "MUST kafka");
+    }
+
+    @Test
+    void phraseRequiresEveryTerm() {
+        SkillQuery query = SkillQuery.parse("\"java kafka\"", false, analyzer);
+
+        assertEquals(1, query.getClauses().size());
+        assertEquals(Occur.SHOULD, query.getClauses().get(0).getOccur());
+        assertClauses(query.getClauses().get(0).getGroup(), "MUST java", "MUST kafka");
+    }
+
+    @Test
+    void wordsAndPhrasesGoThroughTheAnalyzer() {
+        assertClauses(SkillQuery.parse("Node.js \"Spring Boot\" the", false, analyzer),
+                "SHOULD nodejs", "SHOULD springboot");
+        assertTrue(SkillQuery.parse("the and of", false, analyzer).isEmpty());
+        assertTrue(SkillQuery.parse(null, false, analyzer).isEmpty());
+    }
+
+    @Test
+    void nestingIsLimited() {
+        String allowed = "(".repeat(SkillQuery.MAX_DEPTH) + "java" + ")".repeat(SkillQuery.MAX_DEPTH);
+        String tooDeep = "(" + allowed + ")";
+
+        assertEquals(1, SkillQuery.parse(allowed, false, analyzer).getClauses().size());
+        assertThrows(IllegalArgumentException.class, () -> SkillQuery.parse(tooDeep, false, analyzer));
+    }
+
+    private static void assertClauses(SkillQuery query, String... expected) {
+        assertEquals(List.of(expected), query.getClauses().stream().map(SkillQueryTest::describe).toList());
+    }
+
+    private static String describe(Clause clause) {
+        return clause.getOccur() + " " + (clause.getTerm() != null ? clause.getTerm() : "(group)");
+    }
+}
@@ -0,0 +1,98 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.model.EmailOutboxMessage;
+import com.profile.candidate.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InterviewNotificationDispatcherTest {
+
+    @Test
+    void malformedAndRefusedRecipientsArePermanent() throws AddressException {
+        Address[] none = new Address[0];
+        Address[] recipient = {new InternetAddress("gone@example.com")};
+
+        assertTrue(InterviewNotificationDispatcher.isPermanent(new AddressException("Invalid recipient email format: x@")));
+        assertTrue(InterviewNotificationDispatcher.isPermanent(
+                new MessagingException("Failed to build message", new AddressException("Illegal address"))));
+        assertTrue(InterviewNotificationDispatcher.isPermanent(
+                new SendFailedException("550 No such user", null, none, none, recipient)));
+    }
+
+    @Test
+    void temporaryAndConnectionFailuresAreRetried() {
+        Address[] none = new Address[0];
+        Address[] recipient = new Address[1];
+
+        assertFalse(InterviewNotificationDispatcher.isPermanent(
+                new SendFailedException("452 Mailbox full", null, none, recipient, none)));
+        assertFalse(InterviewNotificationDispatcher.isPermanent(new SendFailedException("Connection reset")));
+        assertFalse(InterviewNotificationDispatcher.isPermanent(new MailSendException("Couldn't connect to host")));
+        assertFalse(InterviewNotificationDispatcher.isPermanent(new MailAuthenticationException("535 Bad credentials")));
+        assertFalse(InterviewNotificationDispatcher.isPermanent(
+                new InterviewEmailService.EmailConfigurationException("Sender email is not configured.")));
+    }
+
+    @Test
+    void outcomesAreRecordedUnderTheClaimAndAbandonedSendsUseAnAttempt() throws InterruptedException {
+        EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+        InterviewEmailService emailService = mock(InterviewEmailService.class);
+        when(repository.findIdsReadyToSend(any(), any())).thenReturn(List.of(1L, 2L));
+        when(repository.claim(anyCollection(), anyString(), any())).thenReturn(2);
+        when(repository.findByClaimToken(anyString())).thenAnswer(call ->
+                List.of(claimed(1L, call.getArgument(0)), claimed(2L, call.getArgument(0))));
+        when(repository.markSent(anyCollection(), anyString(), any())).thenReturn(1);
+        when(emailService.sendInterviewNotifications(anyList()))
+                .thenReturn(Map.of(2L, new AddressException("Invalid recipient email format: x@")));
+        InterviewNotificationDispatcher dispatcher = new InterviewNotificationDispatcher(repository, emailService,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), new StandardEnvironment(),
+                100, 20, 1, 6, Duration.ofSeconds(30), Duration.ofMinutes(30), Duration.ofMinutes(5));
+
+        try {
+            dispatcher.dispatchPending();
+        } finally {
+            dispatcher.shutdown();
+        }
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(repository).claim(eq(List.of(1L, 2L)), token.capture(), any());
+        verify(repository).markSent(eq(List.of(1L)), eq(token.getValue()), any());
+        verify(repository).markFailed(eq(2L), eq(token.getValue()), eq(EmailOutboxMessage.STATUS_FAILED), eq(1),
+                anyString(), any());
+        verify(repository).releaseStaleClaims(any(), eq(6), anyString());
+    }
+
+    private static EmailOutboxMessage claimed(long id, String token) {
+        EmailOutboxMessage message = new EmailOutboxMessage("C" + id, "r" + id + "@example.com", "Interview", "Body");
+        ReflectionTestUtils.setField(message, "id", id);
+        message.setStatus(EmailOutboxMessage.STATUS_SENDING);
+        message.setClaimToken(token);
+        return message;
+    }
+}
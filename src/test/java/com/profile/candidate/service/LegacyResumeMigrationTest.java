@@ -0,0 +1,294 @@
+package com.profile.candidate.service;
+
+import com.profile.candidate.exceptions.CandidateNotFoundException;
+import com.profile.candidate.model.ResumeBlob;
+import com.profile.candidate.repository.ResumeBlobInfo;
+import com.profile.candidate.repository.ResumeBlobRepository;
+import com.profile.candidate.repository.ResumeMigrationCheckpointRepository;
+import com.profile.candidate.storage.ContentHash;
+import com.profile.candidate.storage.ResumeStorage;
+import com.profile.candidate.storage.ResumeType;
+import com.profile.candidate.storage.StoredResume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The verify-then-switch of a single legacy resume, run through {@link LegacyResumeMigration#migrateNow}
+ * over an in-memory candidates.resume column and resume store.
+ */
+class LegacyResumeMigrationTest {
+
+    private static final byte[] RESUME = "%PDF-1.4\nJane Doe, Java developer\n%%EOF".getBytes(StandardCharsets.US_ASCII);
+
+    // candidate_id -> candidates.resume; a present key with a null value is a NULL column
+    private final Map<String, byte[]> resumeColumn = new HashMap<>();
+    private final List<String> cleared = new ArrayList<>();
+    private final FakeStorage storage = new FakeStorage();
+    private final ResumeBlobRepository resumeBlobRepository = mock(ResumeBlobRepository.class);
+    private LegacyResumeMigration migration;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        migration = new LegacyResumeMigration(dataSource(), storage, resumeBlobRepository,
+                mock(ResumeMigrationCheckpointRepository.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), new StandardEnvironment(), false, 20, 5_242_880, 20, Duration.ofMinutes(2));
+        resumeColumn.put("C1", RESUME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        migration.shutdown();
+    }
+
+    @Test
+    void verifiedCopyReplacesTheColumn() {
+        assertTrue(migration.migrateNow("C1"));
+
+        String hash = ContentHash.of(RESUME);
+        assertArrayEquals(RESUME, storage.contents.get(hash));
+        assertEquals(List.of("C1"), cleared);
+        assertNull(resumeColumn.get("C1"));
+
+        ArgumentCaptor<ResumeBlob> saved = ArgumentCaptor.forClass(ResumeBlob.class);
+        verify(resumeBlobRepository).save(saved.capture());
+        assertEquals("C1", saved.getValue().getCandidateId());
+        assertEquals(hash, saved.getValue().getContentHash());
+        assertEquals(RESUME.length, saved.getValue().getContentLength());
+        assertEquals(ResumeType.PDF.getMediaType(), saved.getValue().getContentType());
+        assertEquals("resume.pdf", saved.getValue().getFileName());
+    }
+
+    @Test
+    void copyThatReadsBackDifferentlyLeavesTheColumn() {
+        storage.corruptReads = true;
+
+        assertFalse(migration.migrateNow("C1"));
+
+        assertEquals(List.of(), cleared);
+        assertArrayEquals(RESUME, resumeColumn.get("C1"));
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void copyStoredUnderAnotherHashLeavesTheColumn() {
+        storage.wrongHash = true;
+
+        assertFalse(migration.migrateNow("C1"));
+
+        assertEquals(List.of(), cleared);
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void failedStoreLeavesTheColumn() {
+        storage.failStores = true;
+
+        assertFalse(migration.migrateNow("C1"));
+
+        assertEquals(List.of(), cleared);
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void newerUploadSupersedesTheColumn() {
+        when(resumeBlobRepository.existsById("C1")).thenReturn(true);
+
+        assertTrue(migration.migrateNow("C1"));
+
+        assertTrue(storage.contents.isEmpty());
+        assertEquals(List.of("C1"), cleared);
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void columnClearedBeforeTheSwitchIsNotOverwritten() {
+        // Another node finished this candidate while the copy was being stored
+        storage.onStore = () -> resumeColumn.put("C1", null);
+
+        assertTrue(migration.migrateNow("C1"));
+
+        assertEquals(List.of(), cleared);
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void nothingToMoveSucceeds() {
+        resumeColumn.put("C1", null);
+
+        assertTrue(migration.migrateNow("C1"));
+        assertTrue(migration.migrateNow("C2"));
+
+        assertTrue(storage.contents.isEmpty());
+        verify(resumeBlobRepository, never()).save(any());
+    }
+
+    @Test
+    void rowWhoseContentIsGoneIsMissingRatherThanMoved() {
+        // resume_blobs references a hash the storage no longer has, and holds no inline data
+        ResumeBlobInfo info = mock(ResumeBlobInfo.class);
+        when(info.getContentHash()).thenReturn(ContentHash.of(RESUME));
+        when(resumeBlobRepository.findInfoByCandidateId("C1")).thenReturn(Optional.of(info));
+
+        assertThrows(CandidateNotFoundException.class, () -> migration.migrateNow("C1"));
+        assertTrue(storage.contents.isEmpty());
+    }
+
+    @Test
+    void inlineDataReplacedByANewUploadMeanwhileSucceeds() throws IOException {
+        ResumeBlobInfo before = mock(ResumeBlobInfo.class);
+        ResumeBlobInfo after = mock(ResumeBlobInfo.class);
+        when(after.getContentHash()).thenReturn(storage.store(new ByteArrayInputStream(RESUME), null).getContentHash());
+        when(resumeBlobRepository.findInfoByCandidateId("C1")).thenReturn(Optional.of(before), Optional.of(after));
+
+        assertTrue(migration.migrateNow("C1"));
+    }
+
+    // Serves SUBSTRING(resume, ?, ?) from resumeColumn and applies the conditional UPDATE ... SET resume = NULL
+    private DataSource dataSource() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(call -> statement(call.getArgument(0)));
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        long[] position = new long[1];
+        int[] length = new int[1];
+        String[] candidateId = new String[1];
+        doAnswer(call -> position[0] = call.getArgument(1)).when(statement).setLong(anyInt(), anyLong());
+        doAnswer(call -> length[0] = call.getArgument(1)).when(statement).setInt(anyInt(), anyInt());
+        doAnswer(call -> candidateId[0] = call.getArgument(1)).when(statement).setString(anyInt(), anyString());
+
+        when(statement.executeQuery()).thenAnswer(call -> {
+            if (sql.contains("SUBSTRING(data")) {
+                return emptyResultSet();  // No resume_blobs row has inline data
+            }
+            assertTrue(sql.contains("SUBSTRING(resume"), sql);
+            boolean found = resumeColumn.containsKey(candidateId[0]);
+            byte[] value = resumeColumn.get(candidateId[0]);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(found, false);
+            if (value != null) {
+                int from = (int) Math.min(value.length, position[0] - 1);
+                int to = (int) Math.min(value.length, from + (long) length[0]);
+                byte[] chunk = new byte[to - from];
+                System.arraycopy(value, from, chunk, 0, chunk.length);
+                when(resultSet.getBytes(1)).thenReturn(chunk);
+            }
+            return resultSet;
+        });
+        when(statement.executeUpdate()).thenAnswer(call -> {
+            assertTrue(sql.contains("SET resume = NULL") && sql.contains("resume IS NOT NULL"), sql);
+            if (resumeColumn.get(candidateId[0]) == null) {
+                return 0;
+            }
+            resumeColumn.put(candidateId[0], null);
+            cleared.add(candidateId[0]);
+            return 1;
+        });
+        return statement;
+    }
+
+    private static ResultSet emptyResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(false);
+        return resultSet;
+    }
+
+    private static final class FakeStorage implements ResumeStorage {
+
+        final Map<String, byte[]> contents = new HashMap<>();
+        boolean corruptReads;
+        boolean wrongHash;
+        boolean failStores;
+        Runnable onStore = () -> { };
+
+        @Override
+        public StoredResume store(InputStream content, String contentType) throws IOException {
+            byte[] bytes = content.readAllBytes();
+            if (failStores) {
+                throw new IOException("Disk full");
+            }
+            String hash = wrongHash ? ContentHash.of(new byte[]{1}) : ContentHash.of(bytes);
+            contents.put(hash, bytes);
+            onStore.run();
+            return new StoredResume(hash, bytes.length, bytes.length, null, false);
+        }
+
+        @Override
+        public Resource load(String contentHash) throws IOException {
+            byte[] bytes = contents.get(contentHash);
+            if (bytes == null) {
+                throw new FileNotFoundException(contentHash);
+            }
+            if (corruptReads) {
+                bytes = bytes.clone();
+                bytes[bytes.length / 2] ^= 1;
+            }
+            return new ByteArrayResource(bytes);
+        }
+
+        @Override
+        public Resource loadEncoded(String contentHash) throws IOException {
+            return load(contentHash);
+        }
+
+        @Override
+        public boolean exists(String contentHash) {
+            return contents.containsKey(contentHash);
+        }
+
+        @Override
+        public List<String> findIdle(Instant usedBefore, String afterHash, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public boolean deleteIfIdle(String contentHash, Instant usedBefore) {
+            return false;
+        }
+    }
+}
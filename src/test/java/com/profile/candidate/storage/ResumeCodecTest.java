@@ -0,0 +1,150 @@
+package com.profile.candidate.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeCodecTest {
+
+    private static final String PDF = ResumeType.PDF.getMediaType();
+    private static final String DOCX = ResumeType.DOCX.getMediaType();
+
+    @TempDir
+    Path directory;
+
+    private final ResumeCodec codec = new ResumeCodec(true, 0.9, 6);
+
+    @Test
+    void compressibleContentIsStoredGzipped() throws IOException {
+        byte[] content = text(20_000);
+
+        ResumeCodec.Spooled spooled = codec.spool(new ByteArrayInputStream(content), directory, PDF);
+
+        assertEquals(ResumeCodec.GZIP, spooled.getContentEncoding());
+        assertEquals(content.length, spooled.getContentLength());
+        assertEquals(Files.size(spooled.getFile()), spooled.getStoredLength());
+        assertTrue(spooled.getStoredLength() <= content.length * 0.9);
+        assertEquals(ContentHash.of(content), spooled.getContentHash());
+        assertArrayEquals(content, gunzip(spooled.getFile()));
+        assertEquals(content.length, ResumeCodec.gzipContentLength(spooled.getFile()));
+        assertEquals(1, filesIn(directory));
+    }
+
+    @Test
+    void contentThatDoesNotShrinkEnoughIsStoredAsUploaded() throws IOException {
+        byte[] content = new byte[20_000];
+        new Random(3).nextBytes(content);
+
+        ResumeCodec.Spooled spooled = codec.spool(new ByteArrayInputStream(content), directory, PDF);
+
+        assertNull(spooled.getContentEncoding());
+        assertEquals(content.length, spooled.getContentLength());
+        assertEquals(content.length, spooled.getStoredLength());
+        assertEquals(ContentHash.of(content), spooled.getContentHash());
+        assertArrayEquals(content, Files.readAllBytes(spooled.getFile()));
+        assertEquals(1, filesIn(directory));  // The compressed attempt is gone
+    }
+
+    @Test
+    void ratioIsTheThreshold() throws IOException {
+        byte[] content = text(20_000);
+        ResumeCodec strict = new ResumeCodec(true, 0.0001, 6);
+
+        assertNull(strict.spool(new ByteArrayInputStream(content), directory, PDF).getContentEncoding());
+    }
+
+    @Test
+    void docxAndDisabledCompressionPassThrough() throws IOException {
+        byte[] content = text(20_000);
+        ResumeCodec disabled = new ResumeCodec(false, 0.9, 6);
+
+        ResumeCodec.Spooled docx = codec.spool(new ByteArrayInputStream(content), directory, DOCX);
+        ResumeCodec.Spooled off = disabled.spool(new ByteArrayInputStream(content), directory, PDF);
+
+        for (ResumeCodec.Spooled spooled : new ResumeCodec.Spooled[]{docx, off}) {
+            assertNull(spooled.getContentEncoding());
+            assertEquals(content.length, spooled.getStoredLength());
+            assertEquals(ContentHash.of(content), spooled.getContentHash());
+            assertArrayEquals(content, Files.readAllBytes(spooled.getFile()));
+        }
+    }
+
+    @Test
+    void failedReadLeavesNoTempFile() throws IOException {
+        InputStream failing = new InputStream() {
+            private int left = 5_000;
+
+            // Keeps failing: InputStream.read(byte[]) swallows an error after the first byte and reads on
+            @Override
+            public int read() throws IOException {
+                if (left <= 0) {
+                    throw new IOException("Connection reset");
+                }
+                left--;
+                return 'a';
+            }
+        };
+
+        assertThrows(IOException.class, () -> codec.spool(failing, directory, PDF));
+        assertEquals(0, filesIn(directory));
+    }
+
+    @Test
+    void decodedInflatesGzipAndReturnsOtherResourcesAsTheyAre() throws IOException {
+        byte[] content = text(5_000);
+        ResumeCodec.Spooled spooled = codec.spool(new ByteArrayInputStream(content), directory, PDF);
+        Resource stored = new FileSystemResource(spooled.getFile());
+
+        Resource decoded = ResumeCodec.decoded(stored, spooled.getContentEncoding(), spooled.getContentLength());
+
+        assertEquals(content.length, decoded.contentLength());
+        try (InputStream in = decoded.getInputStream()) {
+            assertArrayEquals(content, in.readAllBytes());
+        }
+        try (InputStream in = decoded.getInputStream()) {
+            assertArrayEquals(content, in.readAllBytes());  // Re-opened on every call
+        }
+        Resource plain = new ByteArrayResource(content);
+        assertSame(plain, ResumeCodec.decoded(plain, null, content.length));
+    }
+
+    // Repetitive, like the text of most resumes
+    private static byte[] text(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < length; i++) {
+            text.append("Line ").append(i).append(": Java, Spring Boot, Kafka, AWS. ");
+        }
+        return text.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static long filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
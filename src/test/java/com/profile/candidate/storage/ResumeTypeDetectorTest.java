@@ -0,0 +1,131 @@
+package com.profile.candidate.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeTypeDetectorTest {
+
+    @Test
+    void pdfHeaderAtTheStartOrAfterALittleJunk() {
+        assertEquals(ResumeType.PDF, detect(ascii("%PDF-1.7\n%...")));
+        assertEquals(ResumeType.PDF, detect(concat(new byte[500], ascii("%PDF-1.4"))));
+    }
+
+    @Test
+    void pdfHeaderPastTheWindowIsNotAPdf() {
+        assertNull(detect(concat(new byte[1024], ascii("%PDF-1.4"))));
+    }
+
+    @Test
+    void onlyTheGivenLengthIsLookedAt() {
+        byte[] data = concat(new byte[100], ascii("%PDF-1.4"));
+
+        assertNull(ResumeTypeDetector.detect(data, 100));
+    }
+
+    @Test
+    void ole2SignatureIsADoc() {
+        byte[] data = new byte[512];
+        System.arraycopy(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A,
+                (byte) 0xE1}, 0, data, 0, 8);
+
+        assertEquals(ResumeType.DOC, detect(data));
+    }
+
+    @Test
+    void wordPackageIsADocx() throws IOException {
+        assertEquals(ResumeType.DOCX, detect(zip("[Content_Types].xml", "_rels/.rels", "word/document.xml")));
+        assertEquals(ResumeType.DOCX, detect(zip("word/document.xml")));
+    }
+
+    @Test
+    void spreadsheetsPresentationsAndPlainZipsAreRejected() throws IOException {
+        assertNull(detect(zip("[Content_Types].xml", "xl/workbook.xml", "word/stray.xml")));
+        assertNull(detect(zip("[Content_Types].xml", "ppt/presentation.xml")));
+        assertNull(detect(zip("readme.txt", "photo.jpg")));
+    }
+
+    @Test
+    void centralDirectorySettlesWhatTheLocalHeadersCannot() throws IOException {
+        // Only [Content_Types].xml is reachable through the local headers once the second one is broken
+        byte[] word = breakSecondLocalHeader(zip("[Content_Types].xml", "word/document.xml"));
+        byte[] spreadsheet = breakSecondLocalHeader(zip("[Content_Types].xml", "xl/workbook.xml"));
+
+        assertEquals(ResumeType.DOCX, detect(word));
+        assertNull(detect(spreadsheet));
+    }
+
+    @Test
+    void packageLargerThanTheWindowIsJudgedOnItsFirstEntries() throws IOException {
+        byte[] noise = new byte[64 * 1024];
+        new Random(1).nextBytes(noise);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write(ascii("<Types/>"));
+            zip.putNextEntry(new ZipEntry("docProps/thumbnail.jpeg"));
+            zip.write(noise);
+            zip.putNextEntry(new ZipEntry("xl/workbook.xml"));
+            zip.write(ascii("<workbook/>"));
+        }
+        byte[] data = out.toByteArray();
+        assertTrue(data.length > ResumeTypeDetector.SNIFF_LENGTH);
+
+        // The spreadsheet entry is out of sight: an OOXML package is given the benefit of the doubt
+        assertEquals(ResumeType.DOCX, detect(Arrays.copyOf(data, ResumeTypeDetector.SNIFF_LENGTH)));
+    }
+
+    @Test
+    void otherContentIsRejected() {
+        assertNull(detect(ascii("Plain text resume")));
+        assertNull(detect(new byte[0]));
+        assertNull(detect(ascii("PK")));
+    }
+
+    private static ResumeType detect(byte[] data) {
+        return ResumeTypeDetector.detect(data, Math.min(data.length, ResumeTypeDetector.SNIFF_LENGTH));
+    }
+
+    private static byte[] zip(String... names) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(ascii("<" + name + "/>"));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] breakSecondLocalHeader(byte[] zip) {
+        for (int i = 1; i + 4 <= zip.length; i++) {
+            if (zip[i] == 'P' && zip[i + 1] == 'K' && zip[i + 2] == 3 && zip[i + 3] == 4) {
+                zip[i] = 0;
+                return zip;
+            }
+        }
+        throw new IllegalArgumentException("No second local header");
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] joined = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, joined, a.length, b.length);
+        return joined;
+    }
+}